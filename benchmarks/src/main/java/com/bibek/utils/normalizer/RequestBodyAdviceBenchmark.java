@@ -0,0 +1,87 @@
+package com.bibek.utils.normalizer;
+
+import com.bibek.utils.normalizer.benchmarks.Dto50;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RequestNormalizerRequestBodyAdvice} as Spring MVC drives it for one request:
+ * {@code supports} followed by {@code afterBodyRead} on a freshly dirtied 50-field body, with
+ * targets resolved at startup ({@code registry}) or on every call ({@code dynamic}).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestBodyAdviceBenchmark {
+
+    private static final Class<? extends HttpMessageConverter<?>> CONVERTER = MappingJackson2HttpMessageConverter.class;
+
+    @Param({"registry", "dynamic"})
+    public String resolution;
+
+    private RequestNormalizerRequestBodyAdvice advice;
+
+    private MethodParameter parameter;
+
+    private Type targetType;
+
+    private final Dto50 body = new Dto50();
+
+    private final String[] values = {"  Jane  ", "a    b", "   ", "clean"};
+
+    @Setup
+    public void setUp() throws Exception {
+        RequestMappingHandlerMapping mapping = new RequestMappingHandlerMapping();
+        mapping.registerMapping(RequestMappingInfo.paths("/dto").build(), new Controller(),
+                Controller.class.getMethod("create", Dto50.class));
+        parameter = mapping.getHandlerMethods().values().iterator().next().getMethodParameters()[0];
+        targetType = parameter.getGenericParameterType();
+        if (resolution.equals("registry")) {
+            StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("mapping", mapping));
+            HandlerNormalizationRegistry registry = new HandlerNormalizationRegistry(
+                    beanFactory.getBeanProvider(RequestMappingHandlerMapping.class), false);
+            registry.afterSingletonsInstantiated();
+            advice = new RequestNormalizerRequestBodyAdvice(registry);
+        } else {
+            advice = new RequestNormalizerRequestBodyAdvice();
+        }
+    }
+
+    @Benchmark
+    public Object afterBodyRead() {
+        body.fill(values);
+        if (!advice.supports(parameter, targetType, CONVERTER)) {
+            throw new IllegalStateException("advice does not apply");
+        }
+        return advice.afterBodyRead(body, null, parameter, targetType, CONVERTER);
+    }
+
+    public static class Controller {
+        public Dto50 create(@RequestBody Dto50 body) {
+            return body;
+        }
+    }
+}
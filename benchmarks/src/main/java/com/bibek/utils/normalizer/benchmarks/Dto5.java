@@ -0,0 +1,25 @@
+package com.bibek.utils.normalizer.benchmarks;
+
+import com.bibek.utils.normalizer.NormalizeInput;
+
+/**
+ * DTO with 5 String fields; annotated, so the build generates a reflection-free normalizer.
+ */
+@NormalizeInput(collapseSpaces = true)
+public class Dto5 implements WideDto {
+
+    public String f0;
+    public String f1;
+    public String f2;
+    public String f3;
+    public String f4;
+
+    @Override
+    public void fill(String[] values) {
+        f0 = values[0 % values.length];
+        f1 = values[1 % values.length];
+        f2 = values[2 % values.length];
+        f3 = values[3 % values.length];
+        f4 = values[4 % values.length];
+    }
+}
@@ -0,0 +1,1015 @@
+package com.bibek.utils.normalizer.benchmarks;
+
+import com.bibek.utils.normalizer.NormalizeInput;
+
+/**
+ * DTO with 500 String fields; annotated, so the build generates a reflection-free normalizer.
+ */
+@NormalizeInput(collapseSpaces = true)
+public class Dto500 implements WideDto {
+
+    public String f0;
+    public String f1;
+    public String f2;
+    public String f3;
+    public String f4;
+    public String f5;
+    public String f6;
+    public String f7;
+    public String f8;
+    public String f9;
+    public String f10;
+    public String f11;
+    public String f12;
+    public String f13;
+    public String f14;
+    public String f15;
+    public String f16;
+    public String f17;
+    public String f18;
+    public String f19;
+    public String f20;
+    public String f21;
+    public String f22;
+    public String f23;
+    public String f24;
+    public String f25;
+    public String f26;
+    public String f27;
+    public String f28;
+    public String f29;
+    public String f30;
+    public String f31;
+    public String f32;
+    public String f33;
+    public String f34;
+    public String f35;
+    public String f36;
+    public String f37;
+    public String f38;
+    public String f39;
+    public String f40;
+    public String f41;
+    public String f42;
+    public String f43;
+    public String f44;
+    public String f45;
+    public String f46;
+    public String f47;
+    public String f48;
+    public String f49;
+    public String f50;
+    public String f51;
+    public String f52;
+    public String f53;
+    public String f54;
+    public String f55;
+    public String f56;
+    public String f57;
+    public String f58;
+    public String f59;
+    public String f60;
+    public String f61;
+    public String f62;
+    public String f63;
+    public String f64;
+    public String f65;
+    public String f66;
+    public String f67;
+    public String f68;
+    public String f69;
+    public String f70;
+    public String f71;
+    public String f72;
+    public String f73;
+    public String f74;
+    public String f75;
+    public String f76;
+    public String f77;
+    public String f78;
+    public String f79;
+    public String f80;
+    public String f81;
+    public String f82;
+    public String f83;
+    public String f84;
+    public String f85;
+    public String f86;
+    public String f87;
+    public String f88;
+    public String f89;
+    public String f90;
+    public String f91;
+    public String f92;
+    public String f93;
+    public String f94;
+    public String f95;
+    public String f96;
+    public String f97;
+    public String f98;
+    public String f99;
+    public String f100;
+    public String f101;
+    public String f102;
+    public String f103;
+    public String f104;
+    public String f105;
+    public String f106;
+    public String f107;
+    public String f108;
+    public String f109;
+    public String f110;
+    public String f111;
+    public String f112;
+    public String f113;
+    public String f114;
+    public String f115;
+    public String f116;
+    public String f117;
+    public String f118;
+    public String f119;
+    public String f120;
+    public String f121;
+    public String f122;
+    public String f123;
+    public String f124;
+    public String f125;
+    public String f126;
+    public String f127;
+    public String f128;
+    public String f129;
+    public String f130;
+    public String f131;
+    public String f132;
+    public String f133;
+    public String f134;
+    public String f135;
+    public String f136;
+    public String f137;
+    public String f138;
+    public String f139;
+    public String f140;
+    public String f141;
+    public String f142;
+    public String f143;
+    public String f144;
+    public String f145;
+    public String f146;
+    public String f147;
+    public String f148;
+    public String f149;
+    public String f150;
+    public String f151;
+    public String f152;
+    public String f153;
+    public String f154;
+    public String f155;
+    public String f156;
+    public String f157;
+    public String f158;
+    public String f159;
+    public String f160;
+    public String f161;
+    public String f162;
+    public String f163;
+    public String f164;
+    public String f165;
+    public String f166;
+    public String f167;
+    public String f168;
+    public String f169;
+    public String f170;
+    public String f171;
+    public String f172;
+    public String f173;
+    public String f174;
+    public String f175;
+    public String f176;
+    public String f177;
+    public String f178;
+    public String f179;
+    public String f180;
+    public String f181;
+    public String f182;
+    public String f183;
+    public String f184;
+    public String f185;
+    public String f186;
+    public String f187;
+    public String f188;
+    public String f189;
+    public String f190;
+    public String f191;
+    public String f192;
+    public String f193;
+    public String f194;
+    public String f195;
+    public String f196;
+    public String f197;
+    public String f198;
+    public String f199;
+    public String f200;
+    public String f201;
+    public String f202;
+    public String f203;
+    public String f204;
+    public String f205;
+    public String f206;
+    public String f207;
+    public String f208;
+    public String f209;
+    public String f210;
+    public String f211;
+    public String f212;
+    public String f213;
+    public String f214;
+    public String f215;
+    public String f216;
+    public String f217;
+    public String f218;
+    public String f219;
+    public String f220;
+    public String f221;
+    public String f222;
+    public String f223;
+    public String f224;
+    public String f225;
+    public String f226;
+    public String f227;
+    public String f228;
+    public String f229;
+    public String f230;
+    public String f231;
+    public String f232;
+    public String f233;
+    public String f234;
+    public String f235;
+    public String f236;
+    public String f237;
+    public String f238;
+    public String f239;
+    public String f240;
+    public String f241;
+    public String f242;
+    public String f243;
+    public String f244;
+    public String f245;
+    public String f246;
+    public String f247;
+    public String f248;
+    public String f249;
+    public String f250;
+    public String f251;
+    public String f252;
+    public String f253;
+    public String f254;
+    public String f255;
+    public String f256;
+    public String f257;
+    public String f258;
+    public String f259;
+    public String f260;
+    public String f261;
+    public String f262;
+    public String f263;
+    public String f264;
+    public String f265;
+    public String f266;
+    public String f267;
+    public String f268;
+    public String f269;
+    public String f270;
+    public String f271;
+    public String f272;
+    public String f273;
+    public String f274;
+    public String f275;
+    public String f276;
+    public String f277;
+    public String f278;
+    public String f279;
+    public String f280;
+    public String f281;
+    public String f282;
+    public String f283;
+    public String f284;
+    public String f285;
+    public String f286;
+    public String f287;
+    public String f288;
+    public String f289;
+    public String f290;
+    public String f291;
+    public String f292;
+    public String f293;
+    public String f294;
+    public String f295;
+    public String f296;
+    public String f297;
+    public String f298;
+    public String f299;
+    public String f300;
+    public String f301;
+    public String f302;
+    public String f303;
+    public String f304;
+    public String f305;
+    public String f306;
+    public String f307;
+    public String f308;
+    public String f309;
+    public String f310;
+    public String f311;
+    public String f312;
+    public String f313;
+    public String f314;
+    public String f315;
+    public String f316;
+    public String f317;
+    public String f318;
+    public String f319;
+    public String f320;
+    public String f321;
+    public String f322;
+    public String f323;
+    public String f324;
+    public String f325;
+    public String f326;
+    public String f327;
+    public String f328;
+    public String f329;
+    public String f330;
+    public String f331;
+    public String f332;
+    public String f333;
+    public String f334;
+    public String f335;
+    public String f336;
+    public String f337;
+    public String f338;
+    public String f339;
+    public String f340;
+    public String f341;
+    public String f342;
+    public String f343;
+    public String f344;
+    public String f345;
+    public String f346;
+    public String f347;
+    public String f348;
+    public String f349;
+    public String f350;
+    public String f351;
+    public String f352;
+    public String f353;
+    public String f354;
+    public String f355;
+    public String f356;
+    public String f357;
+    public String f358;
+    public String f359;
+    public String f360;
+    public String f361;
+    public String f362;
+    public String f363;
+    public String f364;
+    public String f365;
+    public String f366;
+    public String f367;
+    public String f368;
+    public String f369;
+    public String f370;
+    public String f371;
+    public String f372;
+    public String f373;
+    public String f374;
+    public String f375;
+    public String f376;
+    public String f377;
+    public String f378;
+    public String f379;
+    public String f380;
+    public String f381;
+    public String f382;
+    public String f383;
+    public String f384;
+    public String f385;
+    public String f386;
+    public String f387;
+    public String f388;
+    public String f389;
+    public String f390;
+    public String f391;
+    public String f392;
+    public String f393;
+    public String f394;
+    public String f395;
+    public String f396;
+    public String f397;
+    public String f398;
+    public String f399;
+    public String f400;
+    public String f401;
+    public String f402;
+    public String f403;
+    public String f404;
+    public String f405;
+    public String f406;
+    public String f407;
+    public String f408;
+    public String f409;
+    public String f410;
+    public String f411;
+    public String f412;
+    public String f413;
+    public String f414;
+    public String f415;
+    public String f416;
+    public String f417;
+    public String f418;
+    public String f419;
+    public String f420;
+    public String f421;
+    public String f422;
+    public String f423;
+    public String f424;
+    public String f425;
+    public String f426;
+    public String f427;
+    public String f428;
+    public String f429;
+    public String f430;
+    public String f431;
+    public String f432;
+    public String f433;
+    public String f434;
+    public String f435;
+    public String f436;
+    public String f437;
+    public String f438;
+    public String f439;
+    public String f440;
+    public String f441;
+    public String f442;
+    public String f443;
+    public String f444;
+    public String f445;
+    public String f446;
+    public String f447;
+    public String f448;
+    public String f449;
+    public String f450;
+    public String f451;
+    public String f452;
+    public String f453;
+    public String f454;
+    public String f455;
+    public String f456;
+    public String f457;
+    public String f458;
+    public String f459;
+    public String f460;
+    public String f461;
+    public String f462;
+    public String f463;
+    public String f464;
+    public String f465;
+    public String f466;
+    public String f467;
+    public String f468;
+    public String f469;
+    public String f470;
+    public String f471;
+    public String f472;
+    public String f473;
+    public String f474;
+    public String f475;
+    public String f476;
+    public String f477;
+    public String f478;
+    public String f479;
+    public String f480;
+    public String f481;
+    public String f482;
+    public String f483;
+    public String f484;
+    public String f485;
+    public String f486;
+    public String f487;
+    public String f488;
+    public String f489;
+    public String f490;
+    public String f491;
+    public String f492;
+    public String f493;
+    public String f494;
+    public String f495;
+    public String f496;
+    public String f497;
+    public String f498;
+    public String f499;
+
+    @Override
+    public void fill(String[] values) {
+        f0 = values[0 % values.length];
+        f1 = values[1 % values.length];
+        f2 = values[2 % values.length];
+        f3 = values[3 % values.length];
+        f4 = values[4 % values.length];
+        f5 = values[5 % values.length];
+        f6 = values[6 % values.length];
+        f7 = values[7 % values.length];
+        f8 = values[8 % values.length];
+        f9 = values[9 % values.length];
+        f10 = values[10 % values.length];
+        f11 = values[11 % values.length];
+        f12 = values[12 % values.length];
+        f13 = values[13 % values.length];
+        f14 = values[14 % values.length];
+        f15 = values[15 % values.length];
+        f16 = values[16 % values.length];
+        f17 = values[17 % values.length];
+        f18 = values[18 % values.length];
+        f19 = values[19 % values.length];
+        f20 = values[20 % values.length];
+        f21 = values[21 % values.length];
+        f22 = values[22 % values.length];
+        f23 = values[23 % values.length];
+        f24 = values[24 % values.length];
+        f25 = values[25 % values.length];
+        f26 = values[26 % values.length];
+        f27 = values[27 % values.length];
+        f28 = values[28 % values.length];
+        f29 = values[29 % values.length];
+        f30 = values[30 % values.length];
+        f31 = values[31 % values.length];
+        f32 = values[32 % values.length];
+        f33 = values[33 % values.length];
+        f34 = values[34 % values.length];
+        f35 = values[35 % values.length];
+        f36 = values[36 % values.length];
+        f37 = values[37 % values.length];
+        f38 = values[38 % values.length];
+        f39 = values[39 % values.length];
+        f40 = values[40 % values.length];
+        f41 = values[41 % values.length];
+        f42 = values[42 % values.length];
+        f43 = values[43 % values.length];
+        f44 = values[44 % values.length];
+        f45 = values[45 % values.length];
+        f46 = values[46 % values.length];
+        f47 = values[47 % values.length];
+        f48 = values[48 % values.length];
+        f49 = values[49 % values.length];
+        f50 = values[50 % values.length];
+        f51 = values[51 % values.length];
+        f52 = values[52 % values.length];
+        f53 = values[53 % values.length];
+        f54 = values[54 % values.length];
+        f55 = values[55 % values.length];
+        f56 = values[56 % values.length];
+        f57 = values[57 % values.length];
+        f58 = values[58 % values.length];
+        f59 = values[59 % values.length];
+        f60 = values[60 % values.length];
+        f61 = values[61 % values.length];
+        f62 = values[62 % values.length];
+        f63 = values[63 % values.length];
+        f64 = values[64 % values.length];
+        f65 = values[65 % values.length];
+        f66 = values[66 % values.length];
+        f67 = values[67 % values.length];
+        f68 = values[68 % values.length];
+        f69 = values[69 % values.length];
+        f70 = values[70 % values.length];
+        f71 = values[71 % values.length];
+        f72 = values[72 % values.length];
+        f73 = values[73 % values.length];
+        f74 = values[74 % values.length];
+        f75 = values[75 % values.length];
+        f76 = values[76 % values.length];
+        f77 = values[77 % values.length];
+        f78 = values[78 % values.length];
+        f79 = values[79 % values.length];
+        f80 = values[80 % values.length];
+        f81 = values[81 % values.length];
+        f82 = values[82 % values.length];
+        f83 = values[83 % values.length];
+        f84 = values[84 % values.length];
+        f85 = values[85 % values.length];
+        f86 = values[86 % values.length];
+        f87 = values[87 % values.length];
+        f88 = values[88 % values.length];
+        f89 = values[89 % values.length];
+        f90 = values[90 % values.length];
+        f91 = values[91 % values.length];
+        f92 = values[92 % values.length];
+        f93 = values[93 % values.length];
+        f94 = values[94 % values.length];
+        f95 = values[95 % values.length];
+        f96 = values[96 % values.length];
+        f97 = values[97 % values.length];
+        f98 = values[98 % values.length];
+        f99 = values[99 % values.length];
+        f100 = values[100 % values.length];
+        f101 = values[101 % values.length];
+        f102 = values[102 % values.length];
+        f103 = values[103 % values.length];
+        f104 = values[104 % values.length];
+        f105 = values[105 % values.length];
+        f106 = values[106 % values.length];
+        f107 = values[107 % values.length];
+        f108 = values[108 % values.length];
+        f109 = values[109 % values.length];
+        f110 = values[110 % values.length];
+        f111 = values[111 % values.length];
+        f112 = values[112 % values.length];
+        f113 = values[113 % values.length];
+        f114 = values[114 % values.length];
+        f115 = values[115 % values.length];
+        f116 = values[116 % values.length];
+        f117 = values[117 % values.length];
+        f118 = values[118 % values.length];
+        f119 = values[119 % values.length];
+        f120 = values[120 % values.length];
+        f121 = values[121 % values.length];
+        f122 = values[122 % values.length];
+        f123 = values[123 % values.length];
+        f124 = values[124 % values.length];
+        f125 = values[125 % values.length];
+        f126 = values[126 % values.length];
+        f127 = values[127 % values.length];
+        f128 = values[128 % values.length];
+        f129 = values[129 % values.length];
+        f130 = values[130 % values.length];
+        f131 = values[131 % values.length];
+        f132 = values[132 % values.length];
+        f133 = values[133 % values.length];
+        f134 = values[134 % values.length];
+        f135 = values[135 % values.length];
+        f136 = values[136 % values.length];
+        f137 = values[137 % values.length];
+        f138 = values[138 % values.length];
+        f139 = values[139 % values.length];
+        f140 = values[140 % values.length];
+        f141 = values[141 % values.length];
+        f142 = values[142 % values.length];
+        f143 = values[143 % values.length];
+        f144 = values[144 % values.length];
+        f145 = values[145 % values.length];
+        f146 = values[146 % values.length];
+        f147 = values[147 % values.length];
+        f148 = values[148 % values.length];
+        f149 = values[149 % values.length];
+        f150 = values[150 % values.length];
+        f151 = values[151 % values.length];
+        f152 = values[152 % values.length];
+        f153 = values[153 % values.length];
+        f154 = values[154 % values.length];
+        f155 = values[155 % values.length];
+        f156 = values[156 % values.length];
+        f157 = values[157 % values.length];
+        f158 = values[158 % values.length];
+        f159 = values[159 % values.length];
+        f160 = values[160 % values.length];
+        f161 = values[161 % values.length];
+        f162 = values[162 % values.length];
+        f163 = values[163 % values.length];
+        f164 = values[164 % values.length];
+        f165 = values[165 % values.length];
+        f166 = values[166 % values.length];
+        f167 = values[167 % values.length];
+        f168 = values[168 % values.length];
+        f169 = values[169 % values.length];
+        f170 = values[170 % values.length];
+        f171 = values[171 % values.length];
+        f172 = values[172 % values.length];
+        f173 = values[173 % values.length];
+        f174 = values[174 % values.length];
+        f175 = values[175 % values.length];
+        f176 = values[176 % values.length];
+        f177 = values[177 % values.length];
+        f178 = values[178 % values.length];
+        f179 = values[179 % values.length];
+        f180 = values[180 % values.length];
+        f181 = values[181 % values.length];
+        f182 = values[182 % values.length];
+        f183 = values[183 % values.length];
+        f184 = values[184 % values.length];
+        f185 = values[185 % values.length];
+        f186 = values[186 % values.length];
+        f187 = values[187 % values.length];
+        f188 = values[188 % values.length];
+        f189 = values[189 % values.length];
+        f190 = values[190 % values.length];
+        f191 = values[191 % values.length];
+        f192 = values[192 % values.length];
+        f193 = values[193 % values.length];
+        f194 = values[194 % values.length];
+        f195 = values[195 % values.length];
+        f196 = values[196 % values.length];
+        f197 = values[197 % values.length];
+        f198 = values[198 % values.length];
+        f199 = values[199 % values.length];
+        f200 = values[200 % values.length];
+        f201 = values[201 % values.length];
+        f202 = values[202 % values.length];
+        f203 = values[203 % values.length];
+        f204 = values[204 % values.length];
+        f205 = values[205 % values.length];
+        f206 = values[206 % values.length];
+        f207 = values[207 % values.length];
+        f208 = values[208 % values.length];
+        f209 = values[209 % values.length];
+        f210 = values[210 % values.length];
+        f211 = values[211 % values.length];
+        f212 = values[212 % values.length];
+        f213 = values[213 % values.length];
+        f214 = values[214 % values.length];
+        f215 = values[215 % values.length];
+        f216 = values[216 % values.length];
+        f217 = values[217 % values.length];
+        f218 = values[218 % values.length];
+        f219 = values[219 % values.length];
+        f220 = values[220 % values.length];
+        f221 = values[221 % values.length];
+        f222 = values[222 % values.length];
+        f223 = values[223 % values.length];
+        f224 = values[224 % values.length];
+        f225 = values[225 % values.length];
+        f226 = values[226 % values.length];
+        f227 = values[227 % values.length];
+        f228 = values[228 % values.length];
+        f229 = values[229 % values.length];
+        f230 = values[230 % values.length];
+        f231 = values[231 % values.length];
+        f232 = values[232 % values.length];
+        f233 = values[233 % values.length];
+        f234 = values[234 % values.length];
+        f235 = values[235 % values.length];
+        f236 = values[236 % values.length];
+        f237 = values[237 % values.length];
+        f238 = values[238 % values.length];
+        f239 = values[239 % values.length];
+        f240 = values[240 % values.length];
+        f241 = values[241 % values.length];
+        f242 = values[242 % values.length];
+        f243 = values[243 % values.length];
+        f244 = values[244 % values.length];
+        f245 = values[245 % values.length];
+        f246 = values[246 % values.length];
+        f247 = values[247 % values.length];
+        f248 = values[248 % values.length];
+        f249 = values[249 % values.length];
+        f250 = values[250 % values.length];
+        f251 = values[251 % values.length];
+        f252 = values[252 % values.length];
+        f253 = values[253 % values.length];
+        f254 = values[254 % values.length];
+        f255 = values[255 % values.length];
+        f256 = values[256 % values.length];
+        f257 = values[257 % values.length];
+        f258 = values[258 % values.length];
+        f259 = values[259 % values.length];
+        f260 = values[260 % values.length];
+        f261 = values[261 % values.length];
+        f262 = values[262 % values.length];
+        f263 = values[263 % values.length];
+        f264 = values[264 % values.length];
+        f265 = values[265 % values.length];
+        f266 = values[266 % values.length];
+        f267 = values[267 % values.length];
+        f268 = values[268 % values.length];
+        f269 = values[269 % values.length];
+        f270 = values[270 % values.length];
+        f271 = values[271 % values.length];
+        f272 = values[272 % values.length];
+        f273 = values[273 % values.length];
+        f274 = values[274 % values.length];
+        f275 = values[275 % values.length];
+        f276 = values[276 % values.length];
+        f277 = values[277 % values.length];
+        f278 = values[278 % values.length];
+        f279 = values[279 % values.length];
+        f280 = values[280 % values.length];
+        f281 = values[281 % values.length];
+        f282 = values[282 % values.length];
+        f283 = values[283 % values.length];
+        f284 = values[284 % values.length];
+        f285 = values[285 % values.length];
+        f286 = values[286 % values.length];
+        f287 = values[287 % values.length];
+        f288 = values[288 % values.length];
+        f289 = values[289 % values.length];
+        f290 = values[290 % values.length];
+        f291 = values[291 % values.length];
+        f292 = values[292 % values.length];
+        f293 = values[293 % values.length];
+        f294 = values[294 % values.length];
+        f295 = values[295 % values.length];
+        f296 = values[296 % values.length];
+        f297 = values[297 % values.length];
+        f298 = values[298 % values.length];
+        f299 = values[299 % values.length];
+        f300 = values[300 % values.length];
+        f301 = values[301 % values.length];
+        f302 = values[302 % values.length];
+        f303 = values[303 % values.length];
+        f304 = values[304 % values.length];
+        f305 = values[305 % values.length];
+        f306 = values[306 % values.length];
+        f307 = values[307 % values.length];
+        f308 = values[308 % values.length];
+        f309 = values[309 % values.length];
+        f310 = values[310 % values.length];
+        f311 = values[311 % values.length];
+        f312 = values[312 % values.length];
+        f313 = values[313 % values.length];
+        f314 = values[314 % values.length];
+        f315 = values[315 % values.length];
+        f316 = values[316 % values.length];
+        f317 = values[317 % values.length];
+        f318 = values[318 % values.length];
+        f319 = values[319 % values.length];
+        f320 = values[320 % values.length];
+        f321 = values[321 % values.length];
+        f322 = values[322 % values.length];
+        f323 = values[323 % values.length];
+        f324 = values[324 % values.length];
+        f325 = values[325 % values.length];
+        f326 = values[326 % values.length];
+        f327 = values[327 % values.length];
+        f328 = values[328 % values.length];
+        f329 = values[329 % values.length];
+        f330 = values[330 % values.length];
+        f331 = values[331 % values.length];
+        f332 = values[332 % values.length];
+        f333 = values[333 % values.length];
+        f334 = values[334 % values.length];
+        f335 = values[335 % values.length];
+        f336 = values[336 % values.length];
+        f337 = values[337 % values.length];
+        f338 = values[338 % values.length];
+        f339 = values[339 % values.length];
+        f340 = values[340 % values.length];
+        f341 = values[341 % values.length];
+        f342 = values[342 % values.length];
+        f343 = values[343 % values.length];
+        f344 = values[344 % values.length];
+        f345 = values[345 % values.length];
+        f346 = values[346 % values.length];
+        f347 = values[347 % values.length];
+        f348 = values[348 % values.length];
+        f349 = values[349 % values.length];
+        f350 = values[350 % values.length];
+        f351 = values[351 % values.length];
+        f352 = values[352 % values.length];
+        f353 = values[353 % values.length];
+        f354 = values[354 % values.length];
+        f355 = values[355 % values.length];
+        f356 = values[356 % values.length];
+        f357 = values[357 % values.length];
+        f358 = values[358 % values.length];
+        f359 = values[359 % values.length];
+        f360 = values[360 % values.length];
+        f361 = values[361 % values.length];
+        f362 = values[362 % values.length];
+        f363 = values[363 % values.length];
+        f364 = values[364 % values.length];
+        f365 = values[365 % values.length];
+        f366 = values[366 % values.length];
+        f367 = values[367 % values.length];
+        f368 = values[368 % values.length];
+        f369 = values[369 % values.length];
+        f370 = values[370 % values.length];
+        f371 = values[371 % values.length];
+        f372 = values[372 % values.length];
+        f373 = values[373 % values.length];
+        f374 = values[374 % values.length];
+        f375 = values[375 % values.length];
+        f376 = values[376 % values.length];
+        f377 = values[377 % values.length];
+        f378 = values[378 % values.length];
+        f379 = values[379 % values.length];
+        f380 = values[380 % values.length];
+        f381 = values[381 % values.length];
+        f382 = values[382 % values.length];
+        f383 = values[383 % values.length];
+        f384 = values[384 % values.length];
+        f385 = values[385 % values.length];
+        f386 = values[386 % values.length];
+        f387 = values[387 % values.length];
+        f388 = values[388 % values.length];
+        f389 = values[389 % values.length];
+        f390 = values[390 % values.length];
+        f391 = values[391 % values.length];
+        f392 = values[392 % values.length];
+        f393 = values[393 % values.length];
+        f394 = values[394 % values.length];
+        f395 = values[395 % values.length];
+        f396 = values[396 % values.length];
+        f397 = values[397 % values.length];
+        f398 = values[398 % values.length];
+        f399 = values[399 % values.length];
+        f400 = values[400 % values.length];
+        f401 = values[401 % values.length];
+        f402 = values[402 % values.length];
+        f403 = values[403 % values.length];
+        f404 = values[404 % values.length];
+        f405 = values[405 % values.length];
+        f406 = values[406 % values.length];
+        f407 = values[407 % values.length];
+        f408 = values[408 % values.length];
+        f409 = values[409 % values.length];
+        f410 = values[410 % values.length];
+        f411 = values[411 % values.length];
+        f412 = values[412 % values.length];
+        f413 = values[413 % values.length];
+        f414 = values[414 % values.length];
+        f415 = values[415 % values.length];
+        f416 = values[416 % values.length];
+        f417 = values[417 % values.length];
+        f418 = values[418 % values.length];
+        f419 = values[419 % values.length];
+        f420 = values[420 % values.length];
+        f421 = values[421 % values.length];
+        f422 = values[422 % values.length];
+        f423 = values[423 % values.length];
+        f424 = values[424 % values.length];
+        f425 = values[425 % values.length];
+        f426 = values[426 % values.length];
+        f427 = values[427 % values.length];
+        f428 = values[428 % values.length];
+        f429 = values[429 % values.length];
+        f430 = values[430 % values.length];
+        f431 = values[431 % values.length];
+        f432 = values[432 % values.length];
+        f433 = values[433 % values.length];
+        f434 = values[434 % values.length];
+        f435 = values[435 % values.length];
+        f436 = values[436 % values.length];
+        f437 = values[437 % values.length];
+        f438 = values[438 % values.length];
+        f439 = values[439 % values.length];
+        f440 = values[440 % values.length];
+        f441 = values[441 % values.length];
+        f442 = values[442 % values.length];
+        f443 = values[443 % values.length];
+        f444 = values[444 % values.length];
+        f445 = values[445 % values.length];
+        f446 = values[446 % values.length];
+        f447 = values[447 % values.length];
+        f448 = values[448 % values.length];
+        f449 = values[449 % values.length];
+        f450 = values[450 % values.length];
+        f451 = values[451 % values.length];
+        f452 = values[452 % values.length];
+        f453 = values[453 % values.length];
+        f454 = values[454 % values.length];
+        f455 = values[455 % values.length];
+        f456 = values[456 % values.length];
+        f457 = values[457 % values.length];
+        f458 = values[458 % values.length];
+        f459 = values[459 % values.length];
+        f460 = values[460 % values.length];
+        f461 = values[461 % values.length];
+        f462 = values[462 % values.length];
+        f463 = values[463 % values.length];
+        f464 = values[464 % values.length];
+        f465 = values[465 % values.length];
+        f466 = values[466 % values.length];
+        f467 = values[467 % values.length];
+        f468 = values[468 % values.length];
+        f469 = values[469 % values.length];
+        f470 = values[470 % values.length];
+        f471 = values[471 % values.length];
+        f472 = values[472 % values.length];
+        f473 = values[473 % values.length];
+        f474 = values[474 % values.length];
+        f475 = values[475 % values.length];
+        f476 = values[476 % values.length];
+        f477 = values[477 % values.length];
+        f478 = values[478 % values.length];
+        f479 = values[479 % values.length];
+        f480 = values[480 % values.length];
+        f481 = values[481 % values.length];
+        f482 = values[482 % values.length];
+        f483 = values[483 % values.length];
+        f484 = values[484 % values.length];
+        f485 = values[485 % values.length];
+        f486 = values[486 % values.length];
+        f487 = values[487 % values.length];
+        f488 = values[488 % values.length];
+        f489 = values[489 % values.length];
+        f490 = values[490 % values.length];
+        f491 = values[491 % values.length];
+        f492 = values[492 % values.length];
+        f493 = values[493 % values.length];
+        f494 = values[494 % values.length];
+        f495 = values[495 % values.length];
+        f496 = values[496 % values.length];
+        f497 = values[497 % values.length];
+        f498 = values[498 % values.length];
+        f499 = values[499 % values.length];
+    }
+}
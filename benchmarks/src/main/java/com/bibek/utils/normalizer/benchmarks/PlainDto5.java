@@ -0,0 +1,22 @@
+package com.bibek.utils.normalizer.benchmarks;
+
+/**
+ * DTO with 5 String fields; not annotated, so it is normalized through the reflective plan.
+ */
+public class PlainDto5 implements WideDto {
+
+    public String f0;
+    public String f1;
+    public String f2;
+    public String f3;
+    public String f4;
+
+    @Override
+    public void fill(String[] values) {
+        f0 = values[0 % values.length];
+        f1 = values[1 % values.length];
+        f2 = values[2 % values.length];
+        f3 = values[3 % values.length];
+        f4 = values[4 % values.length];
+    }
+}
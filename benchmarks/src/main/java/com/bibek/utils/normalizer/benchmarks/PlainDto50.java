@@ -0,0 +1,112 @@
+package com.bibek.utils.normalizer.benchmarks;
+
+/**
+ * DTO with 50 String fields; not annotated, so it is normalized through the reflective plan.
+ */
+public class PlainDto50 implements WideDto {
+
+    public String f0;
+    public String f1;
+    public String f2;
+    public String f3;
+    public String f4;
+    public String f5;
+    public String f6;
+    public String f7;
+    public String f8;
+    public String f9;
+    public String f10;
+    public String f11;
+    public String f12;
+    public String f13;
+    public String f14;
+    public String f15;
+    public String f16;
+    public String f17;
+    public String f18;
+    public String f19;
+    public String f20;
+    public String f21;
+    public String f22;
+    public String f23;
+    public String f24;
+    public String f25;
+    public String f26;
+    public String f27;
+    public String f28;
+    public String f29;
+    public String f30;
+    public String f31;
+    public String f32;
+    public String f33;
+    public String f34;
+    public String f35;
+    public String f36;
+    public String f37;
+    public String f38;
+    public String f39;
+    public String f40;
+    public String f41;
+    public String f42;
+    public String f43;
+    public String f44;
+    public String f45;
+    public String f46;
+    public String f47;
+    public String f48;
+    public String f49;
+
+    @Override
+    public void fill(String[] values) {
+        f0 = values[0 % values.length];
+        f1 = values[1 % values.length];
+        f2 = values[2 % values.length];
+        f3 = values[3 % values.length];
+        f4 = values[4 % values.length];
+        f5 = values[5 % values.length];
+        f6 = values[6 % values.length];
+        f7 = values[7 % values.length];
+        f8 = values[8 % values.length];
+        f9 = values[9 % values.length];
+        f10 = values[10 % values.length];
+        f11 = values[11 % values.length];
+        f12 = values[12 % values.length];
+        f13 = values[13 % values.length];
+        f14 = values[14 % values.length];
+        f15 = values[15 % values.length];
+        f16 = values[16 % values.length];
+        f17 = values[17 % values.length];
+        f18 = values[18 % values.length];
+        f19 = values[19 % values.length];
+        f20 = values[20 % values.length];
+        f21 = values[21 % values.length];
+        f22 = values[22 % values.length];
+        f23 = values[23 % values.length];
+        f24 = values[24 % values.length];
+        f25 = values[25 % values.length];
+        f26 = values[26 % values.length];
+        f27 = values[27 % values.length];
+        f28 = values[28 % values.length];
+        f29 = values[29 % values.length];
+        f30 = values[30 % values.length];
+        f31 = values[31 % values.length];
+        f32 = values[32 % values.length];
+        f33 = values[33 % values.length];
+        f34 = values[34 % values.length];
+        f35 = values[35 % values.length];
+        f36 = values[36 % values.length];
+        f37 = values[37 % values.length];
+        f38 = values[38 % values.length];
+        f39 = values[39 % values.length];
+        f40 = values[40 % values.length];
+        f41 = values[41 % values.length];
+        f42 = values[42 % values.length];
+        f43 = values[43 % values.length];
+        f44 = values[44 % values.length];
+        f45 = values[45 % values.length];
+        f46 = values[46 % values.length];
+        f47 = values[47 % values.length];
+        f48 = values[48 % values.length];
+        f49 = values[49 % values.length];
+    }
+}
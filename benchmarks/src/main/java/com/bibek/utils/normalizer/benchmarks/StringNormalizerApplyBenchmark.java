@@ -0,0 +1,80 @@
+package com.bibek.utils.normalizer.benchmarks;
+
+import com.bibek.utils.normalizer.NormalizeConfig;
+import com.bibek.utils.normalizer.StringNormalizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * {@link StringNormalizer#apply(String, NormalizeConfig)} over typical value shapes. {@code clean}
+ * values are expected to allocate nothing. {@code extended} runs the case, control character, Unicode
+ * and length steps in the fused pass; {@code chained} does the same with the separate JDK calls an
+ * application would otherwise chain after the library.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StringNormalizerApplyBenchmark {
+
+    private static final Pattern CONTROL_CHARS = Pattern.compile("[\\p{Cntrl}&&[^\\s]]");
+
+    @Param({"clean", "padded", "manySpaces", "blank", "longUnicode"})
+    public String shape;
+
+    private final NormalizeConfig config = new NormalizeConfig(true, true, true);
+
+    private final NormalizeConfig extendedConfig = new NormalizeConfig(true, true, true, false,
+            true, false, true, Normalizer.Form.NFC, false, 256, 0, false);
+
+    private String value;
+
+    @Setup
+    public void setUp() {
+        value = switch (shape) {
+            case "clean" -> "john.doe@example.com";
+            case "padded" -> "   john.doe@example.com \t";
+            case "manySpaces" -> "  1   Infinite    Loop,\t\tCupertino    CA  ";
+            case "blank" -> " \t  \n ";
+            case "longUnicode" -> "  " + "Zürich  Straße  東京都 千代田区  ".repeat(64) + "  ";
+            default -> throw new IllegalArgumentException(shape);
+        };
+    }
+
+    @Benchmark
+    public String apply() {
+        return StringNormalizer.apply(value, config);
+    }
+
+    @Benchmark
+    public String extended() {
+        return StringNormalizer.apply(value, extendedConfig);
+    }
+
+    @Benchmark
+    public String chained() {
+        String result = StringNormalizer.apply(value, config);
+        if (result == null) {
+            return null;
+        }
+        result = CONTROL_CHARS.matcher(result).replaceAll("");
+        result = Normalizer.normalize(result, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        return result.length() > 256 ? result.substring(0, 256) : result;
+    }
+}
@@ -0,0 +1,76 @@
+package com.bibek.utils.normalizer.benchmarks;
+
+import com.bibek.utils.normalizer.NormalizeConfig;
+import com.bibek.utils.normalizer.StringNormalizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link StringNormalizer#normalize} over DTOs with 5, 50 and 500 String fields, through the
+ * build-time generated normalizer and through the reflective plan.
+ * <p>
+ * Each invocation first refills the fields so the DTO is dirty again; {@link #fill()} measures
+ * that refill alone and is the baseline to subtract.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StringNormalizerNormalizeBenchmark {
+
+    @Param({"5", "50", "500"})
+    public int fields;
+
+    @Param({"generated", "reflective"})
+    public String path;
+
+    @Param({"dirty", "clean"})
+    public String input;
+
+    private final NormalizeConfig config = new NormalizeConfig(true, true, true);
+
+    private WideDto dto;
+
+    private String[] values;
+
+    @Setup
+    public void setUp() {
+        boolean generated = path.equals("generated");
+        dto = switch (fields) {
+            case 5 -> generated ? new Dto5() : new PlainDto5();
+            case 50 -> generated ? new Dto50() : new PlainDto50();
+            case 500 -> generated ? new Dto500() : new PlainDto500();
+            default -> throw new IllegalArgumentException(String.valueOf(fields));
+        };
+        values = input.equals("dirty")
+                ? new String[]{"  Jane  ", "a    b", "   ", "clean", null, "\tx y\t"}
+                : new String[]{"Jane", "a b", "clean", null, "x y"};
+        StringNormalizer.prepare(dto.getClass());
+    }
+
+    @Benchmark
+    public WideDto fill() {
+        dto.fill(values);
+        return dto;
+    }
+
+    @Benchmark
+    public WideDto fillAndNormalize() {
+        dto.fill(values);
+        StringNormalizer.normalize(dto, config);
+        return dto;
+    }
+}
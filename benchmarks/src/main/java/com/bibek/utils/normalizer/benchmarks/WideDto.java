@@ -0,0 +1,12 @@
+package com.bibek.utils.normalizer.benchmarks;
+
+/**
+ * DTO whose String fields can be reset between benchmark invocations.
+ */
+public interface WideDto {
+
+    /**
+     * Assigns {@code values[i % values.length]} to the i-th field.
+     */
+    void fill(String[] values);
+}
@@ -0,0 +1,219 @@
+package com.bibek.utils.normalizer.benchmarks.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * End-to-end load test: starts {@link LoadTestApplication} on embedded Tomcat, once with
+ * platform request threads and once with virtual threads ({@code spring.threads.virtual.enabled},
+ * Java 21+ only), and drives its normalized and plain endpoints with closed-loop JSON traffic.
+ * <p>
+ * Each run reports throughput and p50/p99/p99.9 latency; all runs are written as one JSON
+ * document so results can be compared across releases. Everything runs in-process against
+ * {@code localhost}, so no network access or external service is needed.
+ *
+ * <pre>
+ * mvn -Pload verify                                    # defaults
+ * mvn -Pload verify -Dload.args="--concurrency=256 --duration=30"
+ * </pre>
+ * Options: {@code --concurrency=N} (client threads, default 64), {@code --warmup=S} and
+ * {@code --duration=S} (seconds per run, default 10 each), {@code --threads=platform,virtual}
+ * and {@code --output=FILE} (default {@code target/load-results.json}).
+ */
+public final class LoadHarness {
+
+    private static final String[] ENDPOINTS = {"/normalized", "/plain"};
+
+    private LoadHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "64"));
+        int warmup = Integer.parseInt(options.getOrDefault("warmup", "10"));
+        int duration = Integer.parseInt(options.getOrDefault("duration", "10"));
+        List<String> threadModels = List.of(options.getOrDefault("threads", "platform,virtual").split(","));
+        File output = new File(options.getOrDefault("output", "target/load-results.json"));
+
+        ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        ObjectNode report = mapper.createObjectNode();
+        report.put("timestamp", Instant.now().toString());
+        report.put("javaVersion", Runtime.version().toString());
+        report.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        report.put("libraryVersion", System.getProperty("request-normalizer.version", "unknown"));
+        report.put("concurrency", concurrency);
+        report.put("warmupSeconds", warmup);
+        report.put("durationSeconds", duration);
+        ArrayNode runs = report.putArray("runs");
+
+        byte[] body = body();
+        for (String threads : threadModels) {
+            boolean virtual = threads.trim().equals("virtual");
+            if (virtual && Runtime.version().feature() < 21) {
+                ObjectNode skipped = runs.addObject();
+                skipped.put("threads", "virtual");
+                skipped.put("skipped", "virtual threads need Java 21+, running on " + Runtime.version());
+                System.out.println("Skipping virtual threads: Java " + Runtime.version().feature());
+                continue;
+            }
+            try (ConfigurableApplicationContext context = start(virtual)) {
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                // Warm up every endpoint before measuring any, so code both share is equally compiled
+                for (String endpoint : ENDPOINTS) {
+                    run(URI.create("http://localhost:" + port + endpoint), body, concurrency, warmup);
+                }
+                for (String endpoint : ENDPOINTS) {
+                    URI uri = URI.create("http://localhost:" + port + endpoint);
+                    Result result = run(uri, body, concurrency, duration);
+                    System.out.printf("%-8s %-11s %,10.0f req/s  p50 %,8d us  p99 %,8d us  p99.9 %,8d us  errors %d%n",
+                            virtual ? "virtual" : "platform", endpoint, result.throughput(),
+                            result.percentile(0.50) / 1000, result.percentile(0.99) / 1000,
+                            result.percentile(0.999) / 1000, result.errors());
+                    ObjectNode run = runs.addObject();
+                    run.put("threads", virtual ? "virtual" : "platform");
+                    run.put("normalization", endpoint.equals("/normalized"));
+                    run.put("requests", result.latencies().length);
+                    run.put("errors", result.errors());
+                    run.put("throughputPerSecond", Math.round(result.throughput()));
+                    run.put("p50Micros", result.percentile(0.50) / 1000);
+                    run.put("p99Micros", result.percentile(0.99) / 1000);
+                    run.put("p999Micros", result.percentile(0.999) / 1000);
+                    run.put("maxMicros", result.percentile(1.0) / 1000);
+                }
+            }
+        }
+        File parent = output.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+            throw new IOException("Cannot create " + parent);
+        }
+        mapper.writeValue(output, report);
+        System.out.println("Results written to " + output.getAbsolutePath());
+    }
+
+    private static ConfigurableApplicationContext start(boolean virtualThreads) {
+        SpringApplication application = new SpringApplication(LoadTestApplication.class);
+        application.setDefaultProperties(Map.of(
+                "server.port", "0",
+                "spring.threads.virtual.enabled", String.valueOf(virtualThreads),
+                "spring.main.banner-mode", "off",
+                "logging.level.root", "warn"));
+        return application.run();
+    }
+
+    /**
+     * Sends requests from {@code concurrency} client threads, each waiting for its response
+     * before the next request, for {@code seconds}.
+     */
+    private static Result run(URI uri, byte[] body, int concurrency, int seconds) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors())))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        AtomicLong errors = new AtomicLong();
+        long start = System.nanoTime();
+        long deadline = start + Duration.ofSeconds(seconds).toNanos();
+        try {
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(workers.submit(() -> {
+                    long[] latencies = new long[1024];
+                    int count = 0;
+                    while (System.nanoTime() < deadline) {
+                        long sent = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                                continue;
+                            }
+                        } catch (IOException e) {
+                            errors.incrementAndGet();
+                            continue;
+                        }
+                        if (count == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, count * 2);
+                        }
+                        latencies[count++] = System.nanoTime() - sent;
+                    }
+                    return Arrays.copyOf(latencies, count);
+                }));
+            }
+            List<long[]> perWorker = new ArrayList<>();
+            for (Future<long[]> future : futures) {
+                perWorker.add(future.get());
+            }
+            long elapsed = System.nanoTime() - start;
+            long[] all = perWorker.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+            return new Result(all, errors.get(), all.length / (elapsed / 1e9));
+        } finally {
+            workers.shutdownNow();
+            ((ExecutorService) client.executor().orElseThrow()).shutdownNow();
+        }
+    }
+
+    /**
+     * A 50-field body where every third value needs trimming and every fifth collapsing.
+     */
+    private static byte[] body() {
+        StringBuilder json = new StringBuilder("{");
+        for (int i = 0; i < 50; i++) {
+            String value = i % 3 == 0 ? "  value " + i + "  " : i % 5 == 0 ? "value    " + i : "value" + i;
+            json.append(i == 0 ? "" : ",").append("\"f").append(i).append("\":\"").append(value).append('"');
+        }
+        return json.append('}').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        return options;
+    }
+
+    /**
+     * @param latencies sorted request latencies in nanoseconds
+     */
+    private record Result(long[] latencies, long errors, double throughput) {
+
+        long percentile(double quantile) {
+            if (latencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * latencies.length) - 1;
+            return latencies[Math.max(0, Math.min(index, latencies.length - 1))];
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.bibek.utils.normalizer.benchmarks.load;
+
+import com.bibek.utils.normalizer.benchmarks.Dto50;
+import com.bibek.utils.normalizer.benchmarks.PlainDto50;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Sample application the {@link LoadHarness} drives: one endpoint whose body is normalized by the
+ * auto-configured advice, and the same 50-field body without {@code @NormalizeInput}.
+ */
+@SpringBootApplication
+public class LoadTestApplication {
+
+    @RestController
+    static class LoadController {
+
+        @PostMapping("/normalized")
+        public String normalized(@RequestBody Dto50 body) {
+            return body.f0;
+        }
+
+        @PostMapping("/plain")
+        public String plain(@RequestBody PlainDto50 body) {
+            return body.f0;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.bibek.utils.normalizer.client;
+
+import com.bibek.utils.normalizer.benchmarks.Dto50;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end read and write of a 50-field JSON body through {@link NormalizingJsonHttpMessageConverter},
+ * against a plain {@link MappingJackson2HttpMessageConverter} as the baseline.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NormalizingJsonHttpMessageConverterBenchmark {
+
+    @Param({"normalizing", "plain"})
+    public String converterType;
+
+    private MappingJackson2HttpMessageConverter converter;
+
+    private byte[] json;
+
+    private final Dto50 body = new Dto50();
+
+    private final String[] values = {"  Jane  ", "a    b", "   ", "clean"};
+
+    private final BufferOutputMessage output = new BufferOutputMessage();
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        converter = converterType.equals("normalizing")
+                ? new NormalizingJsonHttpMessageConverter(objectMapper)
+                : new MappingJackson2HttpMessageConverter(objectMapper);
+        body.fill(values);
+        json = objectMapper.writeValueAsBytes(body);
+    }
+
+    @Benchmark
+    public Object read() throws Exception {
+        return converter.read(Dto50.class, null, new BytesInputMessage(json));
+    }
+
+    @Benchmark
+    public int write() throws Exception {
+        body.fill(values);
+        output.body.reset();
+        converter.write(body, MediaType.APPLICATION_JSON, output);
+        return output.body.size();
+    }
+
+    private static final class BytesInputMessage implements HttpInputMessage {
+
+        private static final HttpHeaders HEADERS = new HttpHeaders();
+
+        static {
+            HEADERS.setContentType(MediaType.APPLICATION_JSON);
+        }
+
+        private final byte[] bytes;
+
+        BytesInputMessage(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public InputStream getBody() {
+            return new ByteArrayInputStream(bytes);
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return HEADERS;
+        }
+    }
+
+    private static final class BufferOutputMessage implements HttpOutputMessage {
+
+        final ByteArrayOutputStream body = new ByteArrayOutputStream(8192);
+
+        private final HttpHeaders headers = new HttpHeaders();
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
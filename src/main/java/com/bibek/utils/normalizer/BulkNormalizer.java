@@ -0,0 +1,213 @@
+package com.bibek.utils.normalizer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Stream;
+
+/**
+ * Normalizes many DTOs outside an HTTP request, e.g. the records of a batch job or the payloads
+ * of a message consumer, with the same cached per-class plans as {@link StringNormalizer}.
+ * <p>
+ * Each item is normalized as by {@link StringNormalizer#normalize(Object, NormalizeConfig)}, with
+ * the given config or, by the overloads without one, with the {@link NormalizeInput} of the item's
+ * own class (items of unannotated classes are left as they are). Items are walked independently:
+ * one item throwing {@link OversizedInputException} stops the run, but items already normalized
+ * stay normalized.
+ * <p>
+ * The {@code Iterable} and {@code Spliterator} overloads normalize items in place, which Strings
+ * cannot be: given a config, they reject String items with an {@link IllegalArgumentException}.
+ * Normalize Strings through {@link #normalizeAll(Stream, NormalizeConfig)}, which replaces them.
+ * <p>
+ * A {@link #parallel(ForkJoinPool, int) parallel} normalizer splits sources of at least
+ * {@code threshold} items into fork-join tasks of at most {@code threshold} items each; smaller
+ * sources are normalized on the calling thread. Streams are normalized lazily, as they are
+ * consumed, and in parallel only if the stream itself is parallel.
+ *
+ * <pre>{@code
+ * BulkNormalizer.parallel().normalizeAll(chunk.getItems());
+ * }</pre>
+ */
+public final class BulkNormalizer {
+
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1024;
+
+    private static final BulkNormalizer SEQUENTIAL = new BulkNormalizer(null, Integer.MAX_VALUE);
+
+    private static final ClassValue<Optional<NormalizeConfig>> ANNOTATED = new ClassValue<>() {
+        @Override
+        protected Optional<NormalizeConfig> computeValue(Class<?> type) {
+            return Optional.ofNullable(NormalizeConfig.of(type.getAnnotation(NormalizeInput.class)));
+        }
+    };
+
+    private final ForkJoinPool pool;
+
+    private final int threshold;
+
+    private BulkNormalizer(ForkJoinPool pool, int threshold) {
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Returns a normalizer that walks every item on the calling thread.
+     */
+    public static BulkNormalizer sequential() {
+        return SEQUENTIAL;
+    }
+
+    /**
+     * Returns a normalizer that splits sources of {@link #DEFAULT_PARALLEL_THRESHOLD} items or
+     * more across the {@linkplain ForkJoinPool#commonPool() common pool}.
+     */
+    public static BulkNormalizer parallel() {
+        return parallel(ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Returns a normalizer that splits sources of {@code threshold} items or more across
+     * {@code pool}, in tasks of at most {@code threshold} items.
+     */
+    public static BulkNormalizer parallel(ForkJoinPool pool, int threshold) {
+        if (pool == null) {
+            throw new IllegalArgumentException("pool must not be null");
+        }
+        if (threshold < 1) {
+            throw new IllegalArgumentException("threshold must be positive: " + threshold);
+        }
+        return new BulkNormalizer(pool, threshold);
+    }
+
+    /**
+     * Normalizes every item with the {@link NormalizeInput} of its own class.
+     */
+    public void normalizeAll(Iterable<?> items) {
+        run(items.spliterator(), null);
+    }
+
+    /**
+     * Normalizes every item with {@code config}.
+     *
+     * @throws IllegalArgumentException if an item is a String
+     */
+    public void normalizeAll(Iterable<?> items, NormalizeConfig config) {
+        run(items.spliterator(), requireConfig(config));
+    }
+
+    /**
+     * Normalizes every remaining item of {@code items} with the {@link NormalizeInput} of its own class.
+     */
+    public void normalizeAll(Spliterator<?> items) {
+        run(items, null);
+    }
+
+    /**
+     * Normalizes every remaining item of {@code items} with {@code config}.
+     *
+     * @throws IllegalArgumentException if an item is a String
+     */
+    public void normalizeAll(Spliterator<?> items, NormalizeConfig config) {
+        run(items, requireConfig(config));
+    }
+
+    /**
+     * Returns {@code items} with each item normalized, as it is consumed, with the
+     * {@link NormalizeInput} of its own class.
+     */
+    public <T> Stream<T> normalizeAll(Stream<T> items) {
+        return items.map(item -> normalizeItem(item, null));
+    }
+
+    /**
+     * Returns {@code items} with each item normalized with {@code config} as it is consumed;
+     * String items are replaced by their normalized value.
+     */
+    public <T> Stream<T> normalizeAll(Stream<T> items, NormalizeConfig config) {
+        NormalizeConfig checked = requireConfig(config);
+        return items.map(item -> normalizeItem(item, checked));
+    }
+
+    private void run(Spliterator<?> items, NormalizeConfig config) {
+        if (pool != null && items.estimateSize() >= threshold) {
+            pool.invoke(new NormalizeTask(items, config, threshold));
+        } else {
+            items.forEachRemaining(item -> normalizeInPlace(item, config));
+        }
+    }
+
+    private static NormalizeConfig requireConfig(NormalizeConfig config) {
+        if (config == null) {
+            throw new IllegalArgumentException("config must not be null");
+        }
+        return config;
+    }
+
+    /**
+     * Same as {@link #normalizeItem}, for items that cannot be replaced: rejects a String that
+     * would be normalized, as its normalized value would be lost.
+     */
+    private static void normalizeInPlace(Object item, NormalizeConfig config) {
+        if (item instanceof String && config != null) {
+            throw new IllegalArgumentException(
+                    "String items cannot be normalized in place; use normalizeAll(Stream, NormalizeConfig)");
+        }
+        normalizeItem(item, config);
+    }
+
+    /**
+     * Normalizes one item with {@code config}, or with its class's own config if {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T normalizeItem(T item, NormalizeConfig config) {
+        if (item == null) {
+            return null;
+        }
+        NormalizeConfig effective = config != null ? config : ANNOTATED.get(item.getClass()).orElse(null);
+        if (effective == null) {
+            return item;
+        }
+        if (item instanceof String text) {
+            return (T) StringNormalizer.apply(text, effective);
+        }
+        StringNormalizer.normalize(item, effective);
+        return item;
+    }
+
+    /**
+     * Splits its items until no more than {@code threshold} remain, forking the split-off parts,
+     * then normalizes the rest itself and joins the forks.
+     */
+    private static final class NormalizeTask extends RecursiveAction {
+
+        private final Spliterator<?> items;
+
+        private final NormalizeConfig config;
+
+        private final int threshold;
+
+        NormalizeTask(Spliterator<?> items, NormalizeConfig config, int threshold) {
+            this.items = items;
+            this.config = config;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            List<NormalizeTask> forks = new ArrayList<>();
+            Spliterator<?> split;
+            while (items.estimateSize() > threshold && (split = items.trySplit()) != null) {
+                NormalizeTask fork = new NormalizeTask(split, config, threshold);
+                fork.fork();
+                forks.add(fork);
+            }
+            items.forEachRemaining(item -> normalizeInPlace(item, config));
+            for (int i = forks.size() - 1; i >= 0; i--) {
+                forks.get(i).join();
+            }
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.bibek.utils.normalizer;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.GroupSequence;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import org.springframework.util.ClassUtils;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedArrayType;
+import java.lang.reflect.AnnotatedParameterizedType;
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * The Bean Validation constraints of a class that {@link NormalizationPlan#walkValidated} checks
+ * while it normalizes: {@code @NotNull}, {@code @NotEmpty}, {@code @NotBlank}, {@code @Size} and
+ * {@code @Pattern} on the class's own String fields, in the default group.
+ * <p>
+ * The class is {@link #covered()} when those are all the constraints it declares: no class-level,
+ * getter or container element constraints, no other constraint types, no {@code @Valid} cascades
+ * and no group sequences. A valid instance of a covered class needs no further validation; any
+ * other class, or any violation, is left to the full validator, which then reports every error
+ * with its usual codes and messages. A class in which a field hides a superclass field of the
+ * same name is never covered.
+ */
+final class FusedConstraints {
+
+    /**
+     * Whether the Bean Validation API is on the classpath; this class must not be used otherwise.
+     */
+    static final boolean PRESENT = ClassUtils.isPresent("jakarta.validation.Constraint",
+            FusedConstraints.class.getClassLoader());
+
+    static final FusedConstraints NONE = new FusedConstraints(Map.of(), false);
+
+    private static final Set<Class<? extends Annotation>> SUPPORTED = Set.of(
+            NotNull.class, NotEmpty.class, NotBlank.class, Size.class, jakarta.validation.constraints.Pattern.class);
+
+    private final Map<Field, Check> checks;
+
+    private final boolean covered;
+
+    private FusedConstraints(Map<Field, Check> checks, boolean covered) {
+        this.checks = checks;
+        this.covered = covered;
+    }
+
+    boolean covered() {
+        return covered;
+    }
+
+    /**
+     * Returns the check for the String field {@code field}, or {@code null} if it has no constraints.
+     */
+    Check check(Field field) {
+        return checks.get(field);
+    }
+
+    /**
+     * Whether every constrained field is one of {@code fields}, i.e. none is left out of the walk
+     * (such as a {@link SkipNormalization} field).
+     */
+    boolean checksOnly(Set<Field> fields) {
+        return fields.containsAll(checks.keySet());
+    }
+
+    static FusedConstraints of(Class<?> type) {
+        Map<Field, Check> checks = new HashMap<>();
+        Set<String> names = new HashSet<>();
+        boolean covered = !type.isRecord() && !type.isInterface();
+        for (Class<?> contract : ClassUtils.getAllInterfacesForClassAsSet(type)) {
+            covered &= !hasTypeConstraints(contract) && !hasMethodConstraints(contract);
+        }
+        for (Class<?> clazz = type; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+            covered &= !hasTypeConstraints(clazz) && !hasMethodConstraints(clazz);
+            for (Field field : clazz.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                if (!names.add(field.getName())
+                        || field.isAnnotationPresent(Valid.class) || hasElementConstraints(field.getAnnotatedType())) {
+                    // A hidden field, or a cascade or element constraint
+                    covered = false;
+                }
+                Check check = null;
+                for (Annotation annotation : field.getAnnotations()) {
+                    if (!isValidationAnnotation(annotation.annotationType())) {
+                        continue;
+                    }
+                    if (field.getType() != String.class || !isSupported(annotation)) {
+                        covered = false;
+                        continue;
+                    }
+                    check = Check.merge(check, annotation);
+                }
+                if (check != null) {
+                    checks.put(field, check);
+                }
+            }
+        }
+        return checks.isEmpty() && !covered ? NONE : new FusedConstraints(Map.copyOf(checks), covered);
+    }
+
+    private static boolean hasTypeConstraints(Class<?> type) {
+        if (type.isAnnotationPresent(GroupSequence.class)) {
+            return true;
+        }
+        for (Annotation annotation : type.getAnnotations()) {
+            if (isValidationAnnotation(annotation.annotationType())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasMethodConstraints(Class<?> type) {
+        for (Method method : type.getDeclaredMethods()) {
+            if (Modifier.isStatic(method.getModifiers())) {
+                continue;
+            }
+            for (Annotation annotation : method.getAnnotations()) {
+                if (annotation.annotationType() == Valid.class || isValidationAnnotation(annotation.annotationType())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasElementConstraints(AnnotatedType type) {
+        if (type instanceof AnnotatedParameterizedType parameterized) {
+            for (AnnotatedType argument : parameterized.getAnnotatedActualTypeArguments()) {
+                if (argument.getAnnotations().length > 0 || hasElementConstraints(argument)) {
+                    return true;
+                }
+            }
+        }
+        if (type instanceof AnnotatedArrayType array) {
+            AnnotatedType component = array.getAnnotatedGenericComponentType();
+            return component.getAnnotations().length > 0 || hasElementConstraints(component);
+        }
+        return false;
+    }
+
+    /**
+     * Constraints, and the {@code .List} containers of repeated constraints, of any provider.
+     */
+    private static boolean isValidationAnnotation(Class<? extends Annotation> type) {
+        if (type.isAnnotationPresent(Constraint.class)) {
+            return true;
+        }
+        String name = type.getName();
+        return name.startsWith("jakarta.validation.") || name.startsWith("org.hibernate.validator.");
+    }
+
+    private static boolean isSupported(Annotation annotation) {
+        if (!SUPPORTED.contains(annotation.annotationType())) {
+            return false;
+        }
+        // Every supported constraint declares groups() and payload(); only the default group is fused
+        try {
+            Method groups = annotation.annotationType().getMethod("groups");
+            Method payload = annotation.annotationType().getMethod("payload");
+            return ((Object[]) groups.invoke(annotation)).length == 0 && ((Object[]) payload.invoke(annotation)).length == 0;
+        } catch (ReflectiveOperationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * The supported constraints of one String field, with the semantics of the reference
+     * implementation: {@code null} passes {@code @Size} and {@code @Pattern}, and
+     * {@code @NotBlank} ignores leading and trailing characters up to U+0020.
+     */
+    record Check(boolean notNull, boolean notEmpty, boolean notBlank, int min, int max, Pattern[] patterns) {
+
+        private static final Check EMPTY = new Check(false, false, false, 0, Integer.MAX_VALUE, new Pattern[0]);
+
+        boolean test(String value) {
+            if (value == null) {
+                return !notNull;
+            }
+            int length = value.length();
+            if ((notEmpty && length == 0) || (notBlank && value.trim().isEmpty()) || length < min || length > max) {
+                return false;
+            }
+            for (Pattern pattern : patterns) {
+                if (!pattern.matcher(value).matches()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        static Check merge(Check check, Annotation annotation) {
+            Check base = check != null ? check : EMPTY;
+            if (annotation instanceof NotNull) {
+                return new Check(true, base.notEmpty, base.notBlank, base.min, base.max, base.patterns);
+            }
+            if (annotation instanceof NotEmpty) {
+                return new Check(true, true, base.notBlank, base.min, base.max, base.patterns);
+            }
+            if (annotation instanceof NotBlank) {
+                return new Check(true, base.notEmpty, true, base.min, base.max, base.patterns);
+            }
+            if (annotation instanceof Size size) {
+                return new Check(base.notNull, base.notEmpty, base.notBlank,
+                        Math.max(base.min, size.min()), Math.min(base.max, size.max()), base.patterns);
+            }
+            if (annotation instanceof jakarta.validation.constraints.Pattern pattern) {
+                Pattern[] patterns = Arrays.copyOf(base.patterns, base.patterns.length + 1);
+                patterns[base.patterns.length] = compile(pattern);
+                return new Check(base.notNull, base.notEmpty, base.notBlank, base.min, base.max, patterns);
+            }
+            throw new IllegalArgumentException("Unsupported constraint " + annotation);
+        }
+
+        private static Pattern compile(jakarta.validation.constraints.Pattern pattern) {
+            int flags = 0;
+            for (jakarta.validation.constraints.Pattern.Flag flag : pattern.flags()) {
+                flags |= flag.getValue();
+            }
+            return Pattern.compile(pattern.regexp(), flags);
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package com.bibek.utils.normalizer;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+
+/**
+ * Single-pass scanner for configs with steps beyond trim, collapse and blank-to-null (see
+ * {@link NormalizeConfig#extended()}).
+ * <p>
+ * Control characters and diacritics are dropped, whitespace runs trimmed or collapsed, case
+ * mapped and the result truncated in one loop over the input, which writes to a buffer only from
+ * the first character that changes. Pure ASCII input never reaches {@link Normalizer}: ASCII is
+ * invariant under every normalization form and has no diacritics. Other input is converted only
+ * when {@link Normalizer#isNormalized} says it is not already in the required form.
+ */
+final class FusedScanner {
+
+    private final CharSequence text;
+    private final NormalizeConfig config;
+    private final boolean stripMarks;
+
+    /**
+     * Output buffer, allocated at the first change; until then the output is {@code text[0, n)}.
+     */
+    private char[] out;
+    private int n;
+
+    private FusedScanner(CharSequence text, NormalizeConfig config, boolean stripMarks) {
+        this.text = text;
+        this.config = config;
+        this.stripMarks = stripMarks;
+    }
+
+    /**
+     * Returns {@code value} itself when nothing changes, otherwise the normalized value or
+     * {@code null} for blank-to-null.
+     */
+    static CharSequence scan(CharSequence value, NormalizeConfig config) {
+        if (isCleanAscii(value, config)) {
+            return value;
+        }
+        Normalizer.Form form = config.unicodeForm();
+        boolean strip = config.stripAccents();
+        if ((form == null && !strip) || isAscii(value)) {
+            return new FusedScanner(value, config, false).run();
+        }
+        // Accents are separate combining marks only in a decomposed form
+        CharSequence text = toForm(value, strip ? decomposed(form) : form);
+        CharSequence result = new FusedScanner(text, config, strip).run();
+        Normalizer.Form recompose = strip ? composed(form) : null;
+        return result != null && recompose != null ? toForm(result, recompose) : result;
+    }
+
+    private CharSequence run() {
+        int length = text.length();
+        boolean trim = config.trim();
+        boolean collapse = config.collapseSpaces();
+        boolean content = false;
+        int runStart = -1;
+        int runLength = 0;
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (StringNormalizer.isWhitespace(c)) {
+                if (runStart < 0) {
+                    runStart = n;
+                    runLength = 0;
+                }
+                runLength++;
+                append(c, i);
+                continue;
+            }
+            if (isDropped(c)) {
+                edit();
+                continue;
+            }
+            if (runStart >= 0) {
+                if (!content && trim) {
+                    edit();
+                    n = 0;
+                } else if (collapse && runLength > 1) {
+                    edit();
+                    n = runStart;
+                    out[n++] = ' ';
+                }
+                runStart = -1;
+            }
+            content = true;
+            if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, text.charAt(i + 1));
+                int mapped = mapCase(codePoint);
+                if (mapped == codePoint) {
+                    append(c, i);
+                    append(text.charAt(i + 1), i + 1);
+                } else {
+                    appendCodePoint(mapped);
+                }
+                i++;
+                continue;
+            }
+            int mapped = c < 0x80 ? mapAsciiCase(c, config) : mapCase(c);
+            if (mapped == c) {
+                append(c, i);
+            } else {
+                appendCodePoint(mapped);
+            }
+        }
+        if (!content) {
+            return blank();
+        }
+        if (runStart >= 0) {
+            if (trim) {
+                n = runStart;
+            } else if (collapse && runLength > 1) {
+                edit();
+                n = runStart;
+                out[n++] = ' ';
+            }
+        }
+        truncate();
+        if (out != null) {
+            return new String(out, 0, n);
+        }
+        return n == length ? text : text.subSequence(0, n);
+    }
+
+    /**
+     * Same rules as for an all-whitespace value in {@link StringNormalizer}; dropped characters
+     * count as absent.
+     */
+    private CharSequence blank() {
+        if (config.blankToNull() && (config.trim() || n == 0)) {
+            return null;
+        }
+        if (config.trim()) {
+            return "";
+        }
+        if (config.collapseSpaces() && n > 1) {
+            return " ";
+        }
+        return out != null ? new String(out, 0, n) : n == text.length() ? text : text.subSequence(0, n);
+    }
+
+    private void truncate() {
+        int max = config.maxLength();
+        if (max == 0 || n <= max) {
+            return;
+        }
+        n = max;
+        if (Character.isHighSurrogate(charAt(n - 1))) {
+            n--;
+        }
+        if (config.trim()) {
+            while (n > 0 && StringNormalizer.isWhitespace(charAt(n - 1))) {
+                n--;
+            }
+        }
+    }
+
+    private boolean isDropped(char c) {
+        if (c < 0x80) {
+            return config.removeControlChars() && (c < 0x20 || c == 0x7F);
+        }
+        return (config.removeControlChars() && c <= 0x9F)
+                || (stripMarks && Character.getType(c) == Character.NON_SPACING_MARK);
+    }
+
+    private static int mapAsciiCase(char c, NormalizeConfig config) {
+        if (config.lowercase() && c >= 'A' && c <= 'Z') {
+            return c + ('a' - 'A');
+        }
+        if (config.uppercase() && c >= 'a' && c <= 'z') {
+            return c - ('a' - 'A');
+        }
+        return c;
+    }
+
+    private int mapCase(int codePoint) {
+        if (config.lowercase()) {
+            return Character.toLowerCase(codePoint);
+        }
+        return config.uppercase() ? Character.toUpperCase(codePoint) : codePoint;
+    }
+
+    /**
+     * Appends {@code text[i]} unchanged, copying only once the output has diverged from the input.
+     */
+    private void append(char c, int i) {
+        if (out == null && n == i) {
+            n++;
+            return;
+        }
+        edit();
+        out[n++] = c;
+    }
+
+    private void appendCodePoint(int codePoint) {
+        edit();
+        if (n + 2 > out.length) {
+            out = Arrays.copyOf(out, out.length + 2);
+        }
+        n += Character.toChars(codePoint, out, n);
+    }
+
+    private void edit() {
+        if (out == null) {
+            out = new char[text.length()];
+            for (int i = 0; i < n; i++) {
+                out[i] = text.charAt(i);
+            }
+        }
+    }
+
+    private char charAt(int index) {
+        return out != null ? out[index] : text.charAt(index);
+    }
+
+    /**
+     * Allocation-free check for the common case: ASCII input that no step would change.
+     */
+    private static boolean isCleanAscii(CharSequence value, NormalizeConfig config) {
+        int length = value.length();
+        if (length == 0 || (config.maxLength() > 0 && length > config.maxLength())) {
+            return false;
+        }
+        if (config.trim() && (StringNormalizer.isWhitespace(value.charAt(0))
+                || StringNormalizer.isWhitespace(value.charAt(length - 1)))) {
+            return false;
+        }
+        boolean content = false;
+        boolean previousWhitespace = false;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80) {
+                return false;
+            }
+            if (StringNormalizer.isWhitespace(c)) {
+                if (previousWhitespace && config.collapseSpaces()) {
+                    return false;
+                }
+                previousWhitespace = true;
+                continue;
+            }
+            previousWhitespace = false;
+            content = true;
+            if ((c < 0x20 || c == 0x7F) && config.removeControlChars()
+                    || mapAsciiCase(c, config) != c) {
+                return false;
+            }
+        }
+        return content;
+    }
+
+    private static boolean isAscii(CharSequence value) {
+        for (int i = 0, length = value.length(); i < length; i++) {
+            if (value.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static CharSequence toForm(CharSequence text, Normalizer.Form form) {
+        return form == null || Normalizer.isNormalized(text, form) ? text : Normalizer.normalize(text, form);
+    }
+
+    private static Normalizer.Form decomposed(Normalizer.Form form) {
+        return form == Normalizer.Form.NFKC || form == Normalizer.Form.NFKD ? Normalizer.Form.NFKD : Normalizer.Form.NFD;
+    }
+
+    /**
+     * The form to restore after stripping marks: composed unless a decomposed form was requested.
+     */
+    private static Normalizer.Form composed(Normalizer.Form form) {
+        if (form == Normalizer.Form.NFD || form == Normalizer.Form.NFKD) {
+            return null;
+        }
+        return form == Normalizer.Form.NFKC ? Normalizer.Form.NFKC : Normalizer.Form.NFC;
+    }
+}
@@ -0,0 +1,76 @@
+package com.bibek.utils.normalizer;
+
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * MVC validator that skips the full validator for a {@code @Valid @RequestBody} whose constraints
+ * {@link RequestNormalizerRequestBodyAdvice} already checked while normalizing it (see
+ * {@link FusedConstraints}). Every other target, including bodies with a violation, is validated
+ * by the delegate as usual, so errors keep their codes and messages.
+ * <p>
+ * The advice marks a body by storing it as the {@link #ATTRIBUTE} request attribute; the mark is
+ * consumed by the first validation of that very instance.
+ */
+final class FusedValidator implements SmartValidator {
+
+    static final String ATTRIBUTE = FusedValidator.class.getName() + ".VALIDATED";
+
+    private final SmartValidator delegate;
+
+    FusedValidator(SmartValidator delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Marks {@code body} as validated for the current request.
+     */
+    static void markValidated(Object body) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(ATTRIBUTE, body, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return delegate.supports(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        if (!consumeMark(target)) {
+            delegate.validate(target, errors);
+        }
+    }
+
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        // Validation groups are never fused
+        delegate.validate(target, errors, validationHints);
+    }
+
+    @Override
+    public void validateValue(Class<?> targetType, String fieldName, Object value, Errors errors,
+                              Object... validationHints) {
+        delegate.validateValue(targetType, fieldName, value, errors, validationHints);
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> type) {
+        // Lets MVC method validation find the underlying jakarta.validation.Validator
+        return delegate.unwrap(type);
+    }
+
+    private static boolean consumeMark(Object target) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null || target == null
+                || attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != target) {
+            return false;
+        }
+        attributes.removeAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return true;
+    }
+}
@@ -0,0 +1,37 @@
+package com.bibek.utils.normalizer;
+
+/**
+ * Normalizer generated at build time for a {@link NormalizeInput} type by
+ * {@link com.bibek.utils.normalizer.processor.NormalizeInputProcessor}.
+ * <p>
+ * Generated classes read and write String fields through direct field access or accessor calls,
+ * so {@link StringNormalizer#normalize} needs no reflection for their types. They are looked up by
+ * naming convention ({@code com.example.Outer.Dto} → {@code com.example.Outer_Dto_Normalizer}) and
+ * used in place of the reflective plan when present.
+ *
+ * @param <T> the normalized type
+ */
+public interface GeneratedNormalizer<T> {
+
+    /**
+     * Suffix appended to the generated class name.
+     */
+    String CLASS_NAME_SUFFIX = "_Normalizer";
+
+    /**
+     * Normalizes the String fields of {@code target} and returns how many were replaced.
+     */
+    int normalize(T target, NormalizeConfig config);
+
+    /**
+     * Returns the name of the class generated for {@code type}.
+     */
+    static String generatedClassName(Class<?> type) {
+        String packageName = type.getPackageName();
+        String simpleBinaryName = packageName.isEmpty()
+                ? type.getName()
+                : type.getName().substring(packageName.length() + 1);
+        return (packageName.isEmpty() ? "" : packageName + ".")
+                + simpleBinaryName.replace('$', '_') + CLASS_NAME_SUFFIX;
+    }
+}
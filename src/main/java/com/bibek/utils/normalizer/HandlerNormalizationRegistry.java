@@ -0,0 +1,375 @@
+package com.bibek.utils.normalizer;
+
+import com.bibek.utils.normalizer.jackson.NormalizingJacksonModule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Resolves, once at startup, how every {@code @RequestBody} parameter of every mapped handler
+ * method is normalized, so {@link RequestNormalizerRequestBodyAdvice} does a single map lookup per
+ * request instead of reading annotations and building a {@link NormalizeConfig}.
+ * <p>
+ * Targets that cannot be normalized after deserialization — records and other types with
+ * unwritable String fields, or JDK value types — fail application startup instead of the first
+ * request.
+ * <p>
+ * Every active target's type is handed to {@link NormalizationRecorder#prepare} up front, so
+ * metrics for it exist before the first request.
+ * <p>
+ * Handler methods annotated with {@link NormalizeInput} are recorded as well, for
+ * {@link RequestNormalizerResponseBodyAdvice}.
+ * <p>
+ * {@link NormalizationPolicies} from the environment are applied when the targets are resolved
+ * and again on {@link #setPolicies reload}: every change builds a new immutable map that replaces
+ * the old one in a single volatile write, so the request path never locks or reads properties.
+ * Policies cannot reach bodies the Jackson module normalizes while parsing; one that would change
+ * the config of such a body fails startup, or the reload, instead of being silently ignored.
+ */
+class HandlerNormalizationRegistry implements SmartInitializingSingleton {
+
+    private final ObjectProvider<RequestMappingHandlerMapping> handlerMappings;
+
+    private final boolean parseTimeNormalization;
+
+    private final boolean creatorNormalization;
+
+    private final ObjectMapper objectMapper;
+
+    private final NormalizationRecorder recorder;
+
+    private JsonTreeHandler treeHandler = JsonTreeHandler.DEFAULT;
+
+    private ParallelNormalizer parallel;
+
+    /**
+     * Targets as resolved from annotations, and the mapping patterns of their handlers; kept to
+     * re-apply {@link NormalizationPolicies} on reload.
+     */
+    private Map<MethodParameter, NormalizationTarget> annotated = Map.of();
+
+    private Map<MethodParameter, Set<String>> patterns = Map.of();
+
+    /**
+     * Annotated body types the Jackson module normalizes while parsing, by parameter; policies
+     * must leave their config as it is.
+     */
+    private Map<MethodParameter, Class<?>> parsed = Map.of();
+
+    private NormalizationPolicies policies = NormalizationPolicies.NONE;
+
+    /**
+     * Immutable snapshot read by every request; replaced as a whole when policies change.
+     */
+    private volatile Map<MethodParameter, NormalizationTarget> targets = Map.of();
+
+    private volatile Map<Method, NormalizeConfig> responses = Map.of();
+
+    private volatile Set<Method> scanned = Set.of();
+
+    HandlerNormalizationRegistry(ObjectProvider<RequestMappingHandlerMapping> handlerMappings,
+                                 boolean parseTimeNormalization) {
+        this(handlerMappings, parseTimeNormalization, NormalizationRecorder.NONE);
+    }
+
+    HandlerNormalizationRegistry(ObjectProvider<RequestMappingHandlerMapping> handlerMappings,
+                                 boolean parseTimeNormalization, NormalizationRecorder recorder) {
+        this(handlerMappings, parseTimeNormalization, parseTimeNormalization, null, recorder);
+    }
+
+    /**
+     * @param objectMapper the request body {@code ObjectMapper}, or {@code null}; the variant of
+     *                     {@link NormalizingJacksonModule} registered with it decides which bodies
+     *                     arrive normalized, and its introspection which types are built from
+     *                     creator arguments
+     */
+    HandlerNormalizationRegistry(ObjectProvider<RequestMappingHandlerMapping> handlerMappings,
+                                 ObjectMapper objectMapper, NormalizationRecorder recorder) {
+        this(handlerMappings, NormalizingJacksonModule.isRegistered(objectMapper),
+                NormalizingJacksonModule.normalizesCreators(objectMapper), objectMapper, recorder);
+    }
+
+    private HandlerNormalizationRegistry(ObjectProvider<RequestMappingHandlerMapping> handlerMappings,
+                                         boolean parseTimeNormalization, boolean creatorNormalization,
+                                         ObjectMapper objectMapper, NormalizationRecorder recorder) {
+        this.handlerMappings = handlerMappings;
+        this.parseTimeNormalization = parseTimeNormalization;
+        this.creatorNormalization = creatorNormalization || parseTimeNormalization;
+        this.objectMapper = objectMapper;
+        this.recorder = recorder;
+    }
+
+    /**
+     * Sets the depth and value count limits for {@code JsonNode} and untyped map and list bodies;
+     * must be called before the handler methods are scanned.
+     */
+    void setTreeLimits(int maxDepth, int maxNodes) {
+        this.treeHandler = maxDepth == JsonTreeHandler.DEFAULT_MAX_DEPTH && maxNodes == JsonTreeHandler.DEFAULT_MAX_NODES
+                ? JsonTreeHandler.DEFAULT : new JsonTreeHandler(maxDepth, maxNodes);
+    }
+
+    @Override
+    public synchronized void afterSingletonsInstantiated() {
+        Map<MethodParameter, NormalizationTarget> resolved = new HashMap<>();
+        Map<MethodParameter, Set<String>> resolvedPatterns = new HashMap<>();
+        Map<MethodParameter, Class<?>> resolvedParsed = new HashMap<>();
+        Map<Method, NormalizeConfig> resolvedResponses = new HashMap<>();
+        Set<Method> methods = new HashSet<>();
+        handlerMappings.orderedStream().forEach(mapping -> {
+            register(mapping.getHandlerMethods(), resolved, resolvedPatterns, resolvedParsed, resolvedResponses);
+            mapping.getHandlerMethods().values().forEach(handlerMethod -> methods.add(handlerMethod.getMethod()));
+        });
+        this.annotated = Map.copyOf(resolved);
+        this.patterns = Map.copyOf(resolvedPatterns);
+        this.parsed = Map.copyOf(resolvedParsed);
+        this.targets = applyPolicies(annotated, policies);
+        this.responses = Map.copyOf(resolvedResponses);
+        this.scanned = Set.copyOf(methods);
+    }
+
+    /**
+     * Applies {@code request-normalizer.policies} on top of the annotation configs of the scanned
+     * targets and publishes the result as one new snapshot; requests in flight keep the one they
+     * read. Parameters that were not scanned keep their annotation config.
+     *
+     * @throws IllegalStateException if a policy would change the config of a body the Jackson
+     *                               module normalizes while parsing; the current snapshot is kept
+     */
+    synchronized void setPolicies(NormalizationPolicies policies) {
+        Map<MethodParameter, NormalizationTarget> updated = applyPolicies(annotated, policies);
+        this.policies = policies;
+        this.targets = updated;
+    }
+
+    private Map<MethodParameter, NormalizationTarget> applyPolicies(Map<MethodParameter, NormalizationTarget> resolved,
+                                                                   NormalizationPolicies policies) {
+        if (policies.isEmpty()) {
+            return resolved;
+        }
+        parsed.forEach((parameter, type) -> {
+            NormalizeConfig config = NormalizeConfig.of(type.getAnnotation(NormalizeInput.class));
+            if (!policies.apply(config, patterns.getOrDefault(parameter, Set.of()), type).equals(config)) {
+                throw new IllegalStateException(NormalizationPolicies.PREFIX + " change the config of @RequestBody parameter "
+                        + parameter.getParameterIndex() + " of " + parameter.getMethod() + ", but " + type.getName()
+                        + " is normalized by the Jackson module while parsing; narrow the policy's paths or "
+                        + "packages, or change the annotation on the type instead");
+            }
+        });
+        Map<MethodParameter, NormalizationTarget> updated = new HashMap<>(resolved);
+        updated.replaceAll((parameter, target) -> {
+            if (!target.isActive()) {
+                return target;
+            }
+            NormalizeConfig config = policies.apply(target.config(), patterns.getOrDefault(parameter, Set.of()), target.type());
+            return config.equals(target.config()) ? target
+                    : new NormalizationTarget(config, target.handler(), target.type(), target.parameterLevel());
+        });
+        return Map.copyOf(updated);
+    }
+
+    private void register(Map<RequestMappingInfo, HandlerMethod> handlerMethods,
+                          Map<MethodParameter, NormalizationTarget> resolved,
+                          Map<MethodParameter, Set<String>> resolvedPatterns,
+                          Map<MethodParameter, Class<?>> resolvedParsed,
+                          Map<Method, NormalizeConfig> resolvedResponses) {
+        for (Map.Entry<RequestMappingInfo, HandlerMethod> entry : handlerMethods.entrySet()) {
+            HandlerMethod handlerMethod = entry.getValue();
+            NormalizeConfig response = responseConfig(handlerMethod.getMethod());
+            if (response != null) {
+                resolvedResponses.put(handlerMethod.getMethod(), response);
+            }
+            for (MethodParameter parameter : handlerMethod.getMethodParameters()) {
+                if (!parameter.hasParameterAnnotation(RequestBody.class)) {
+                    continue;
+                }
+                NormalizationTarget target;
+                try {
+                    target = resolve(parameter, parseTimeNormalization, creatorNormalization, objectMapper);
+                } catch (IllegalStateException e) {
+                    throw new IllegalStateException("Cannot normalize @RequestBody parameter "
+                            + parameter.getParameterIndex() + " of " + handlerMethod + ": " + e.getMessage(), e);
+                }
+                if (target.handler() == JsonTreeHandler.DEFAULT && treeHandler != JsonTreeHandler.DEFAULT) {
+                    target = new NormalizationTarget(target.config(), treeHandler, target.type(), target.parameterLevel());
+                }
+                resolved.put(parameter, target);
+                Class<?> type = elementType(ResolvableType.forMethodParameter(parameter));
+                if (target == NormalizationTarget.NONE && !parameter.hasParameterAnnotation(NormalizeInput.class)
+                        && type.isAnnotationPresent(NormalizeInput.class)
+                        && normalizedWhileParsing(type, parseTimeNormalization, creatorNormalization, objectMapper)) {
+                    resolvedParsed.put(parameter, type);
+                }
+                resolvedPatterns.computeIfAbsent(parameter, key -> new HashSet<>())
+                        .addAll(entry.getKey().getPatternValues());
+                if (target.isActive()) {
+                    recorder.prepare(target.type());
+                }
+            }
+        }
+    }
+
+    /**
+     * Sets the normalizer whose pool splits large collections in {@code @RequestBody} bodies, or
+     * {@code null} to walk every body sequentially.
+     */
+    void setParallel(ParallelNormalizer parallel) {
+        this.parallel = parallel;
+    }
+
+    ParallelNormalizer parallel() {
+        return parallel;
+    }
+
+    boolean isParseTimeNormalization() {
+        return parseTimeNormalization;
+    }
+
+    boolean isCreatorNormalization() {
+        return creatorNormalization;
+    }
+
+    ObjectMapper objectMapper() {
+        return objectMapper;
+    }
+
+    NormalizationRecorder recorder() {
+        return recorder;
+    }
+
+    /**
+     * Returns the target resolved at startup, or {@code null} for a parameter that was not scanned.
+     */
+    NormalizationTarget lookup(MethodParameter parameter) {
+        return targets.get(parameter);
+    }
+
+    /**
+     * Returns the response config of a handler method, or {@code null} if its response is not
+     * normalized. Methods that were not scanned at startup are resolved on the spot.
+     */
+    NormalizeConfig lookupResponse(Method method) {
+        NormalizeConfig config = responses.get(method);
+        return config != null || scanned.contains(method) ? config : responseConfig(method);
+    }
+
+    /**
+     * The config of a handler method's own {@link NormalizeInput}; the annotation on the returned
+     * type configures request bodies only and does not opt responses in.
+     */
+    static NormalizeConfig responseConfig(Method method) {
+        return NormalizeConfig.of(method.getAnnotation(NormalizeInput.class));
+    }
+
+    /**
+     * Resolves the normalization of a body parameter; parameter-level {@link NormalizeInput} wins
+     * over the annotation on the body type. For collection, array, map and {@code Stream} bodies
+     * the element type is what is annotated and validated.
+     */
+    static NormalizationTarget resolve(MethodParameter parameter, boolean parseTimeNormalization) {
+        return resolve(parameter, parseTimeNormalization, parseTimeNormalization, null);
+    }
+
+    /**
+     * How to get a record body normalized, depending on where it is annotated and whether a
+     * Jackson module normalizes while parsing.
+     */
+    private static String recordAdvice(boolean parameterLevel, boolean typeLevel, boolean moduleEnabled) {
+        String enable = moduleEnabled ? "" : " and set request-normalizer.jackson.creators.enabled=true";
+        if (parameterLevel && typeLevel) {
+            return "remove @NormalizeInput from the parameter, so the record's own annotation applies while parsing"
+                    + enable;
+        }
+        if (parameterLevel) {
+            return "annotate the record itself instead of the parameter" + enable;
+        }
+        if (moduleEnabled) {
+            return "Jackson does not build it from creator arguments alone; set request-normalizer.jackson.enabled=true "
+                    + "to normalize it while parsing";
+        }
+        return "set request-normalizer.jackson.creators.enabled=true to construct it from normalized values";
+    }
+
+    /**
+     * Same as {@link #resolve(MethodParameter, boolean)}; with {@code creatorNormalization},
+     * annotated types that {@code objectMapper} builds from creator arguments for all their String
+     * properties, such as records, are left to the Jackson module, which passes normalized values
+     * to their constructor. Types bound through setters, fields or a builder are still walked.
+     */
+    static NormalizationTarget resolve(MethodParameter parameter, boolean parseTimeNormalization,
+                                       boolean creatorNormalization, ObjectMapper objectMapper) {
+        NormalizeInput paramAnnotation = parameter.getParameterAnnotation(NormalizeInput.class);
+        ResolvableType bodyType = ResolvableType.forMethodParameter(parameter);
+        Class<?> type = elementType(bodyType);
+        NormalizeInput typeAnnotation = type.getAnnotation(NormalizeInput.class);
+        if (paramAnnotation == null && typeAnnotation == null) {
+            return NormalizationTarget.NONE;
+        }
+        if (paramAnnotation == null
+                && normalizedWhileParsing(type, parseTimeNormalization, creatorNormalization, objectMapper)) {
+            // Already normalized by the Jackson module while parsing, or constructed from values it normalized
+            return NormalizationTarget.NONE;
+        }
+        if (type.isRecord()) {
+            throw new IllegalStateException("record " + type.getName() + " cannot be normalized after deserialization; "
+                    + recordAdvice(paramAnnotation != null, typeAnnotation != null,
+                    parseTimeNormalization || creatorNormalization));
+        }
+        if (type != String.class && isJdkValueType(type)) {
+            throw new IllegalStateException(type.getName() + " is immutable and has no String fields to normalize");
+        }
+        ValueHandler handler = NormalizationPlan.rootHandler(bodyType);
+        if (handler == null) {
+            return NormalizationTarget.NONE;
+        }
+        NormalizeConfig config = NormalizeConfig.of(paramAnnotation != null ? paramAnnotation : typeAnnotation);
+        return new NormalizationTarget(config, handler, type, paramAnnotation != null);
+    }
+
+    private static boolean normalizedWhileParsing(Class<?> type, boolean parseTimeNormalization,
+                                                  boolean creatorNormalization, ObjectMapper objectMapper) {
+        return parseTimeNormalization && (type.isRecord() || StringNormalizer.isFlat(type))
+                || creatorNormalization && NormalizingJacksonModule.buildsFromCreators(objectMapper, type);
+    }
+
+    /**
+     * The element type of a collection, {@code Stream} or array body, the value type of a map
+     * body, or the body type itself.
+     */
+    private static Class<?> elementType(ResolvableType type) {
+        Class<?> raw = type.resolve(Object.class);
+        if (raw.isArray()) {
+            return type.getComponentType().resolve(Object.class);
+        }
+        if (Collection.class.isAssignableFrom(raw)) {
+            return type.asCollection().getGeneric(0).resolve(Object.class);
+        }
+        if (Stream.class.isAssignableFrom(raw)) {
+            return type.as(Stream.class).getGeneric(0).resolve(Object.class);
+        }
+        if (Map.class.isAssignableFrom(raw)) {
+            return type.asMap().getGeneric(1).resolve(Object.class);
+        }
+        return raw;
+    }
+
+    private static boolean isJdkValueType(Class<?> type) {
+        return (type.isPrimitive() || type.getName().startsWith("java."))
+                && !Collection.class.isAssignableFrom(type)
+                && !Map.class.isAssignableFrom(type)
+                && type != Object.class;
+    }
+}
@@ -0,0 +1,181 @@
+package com.bibek.utils.normalizer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+
+/**
+ * Normalizes untyped JSON trees in place: {@link JsonNode} bodies and the {@code Map<String, Object>}
+ * and {@code List<Object>} bodies Jackson builds for generic gateway endpoints.
+ * <p>
+ * Every textual node is passed through {@link StringNormalizer#apply}; a {@link TextNode} is
+ * replaced only when its value changes, so already clean documents are walked without allocating.
+ * No reflection is involved. Documents nested deeper than {@code maxDepth} containers or holding
+ * more than {@code maxNodes} values are rejected with an {@link OversizedInputException}.
+ */
+final class JsonTreeHandler extends ValueHandler {
+
+    static final int DEFAULT_MAX_DEPTH = 100;
+
+    static final int DEFAULT_MAX_NODES = 100_000;
+
+    static final JsonTreeHandler DEFAULT = new JsonTreeHandler(DEFAULT_MAX_DEPTH, DEFAULT_MAX_NODES);
+
+    private final int maxDepth;
+
+    private final int maxNodes;
+
+    JsonTreeHandler(int maxDepth, int maxNodes) {
+        if (maxDepth < 1 || maxNodes < 1) {
+            throw new IllegalArgumentException("JSON tree limits must be positive: maxDepth=" + maxDepth
+                    + ", maxNodes=" + maxNodes);
+        }
+        this.maxDepth = maxDepth;
+        this.maxNodes = maxNodes;
+    }
+
+    static boolean isTree(Class<?> type) {
+        return JsonNode.class.isAssignableFrom(type);
+    }
+
+    @Override
+    Object normalize(Object value, NormalizationWalk walk) {
+        Visit visit = new Visit();
+        if (value instanceof TextNode text) {
+            // A root TextNode is immutable; only its replacement can carry the normalized value
+            JsonNode normalized = normalizeText(text, walk, visit);
+            return normalized != null ? normalized : text;
+        }
+        return normalize(value, walk, visit, 0);
+    }
+
+    @Override
+    boolean replaces() {
+        return true;
+    }
+
+    private Object normalize(Object value, NormalizationWalk walk, Visit visit, int depth) {
+        visit.count(maxNodes);
+        if (value instanceof String s) {
+            return walk.countString(s, StringNormalizer.apply(s, walk.config));
+        }
+        if (value instanceof JsonNode node) {
+            if (node.isContainerNode()) {
+                normalizeNode(node, walk, visit, enter(depth));
+            }
+            return value;
+        }
+        if (value instanceof Map<?, ?> map) {
+            normalizeMap(map, walk, visit, enter(depth));
+        } else if (value instanceof List<?> list) {
+            normalizeList(list, walk, visit, enter(depth));
+        } else if (value instanceof Object[] array) {
+            int next = enter(depth);
+            for (int i = 0; i < array.length; i++) {
+                array[i] = normalize(array[i], walk, visit, next);
+            }
+        } else if (value instanceof Collection<?>) {
+            enter(depth);
+            ValueHandler.DYNAMIC.normalize(value, walk);
+        } else if (value != null) {
+            // Annotated beans placed in the tree by the application, if any
+            ValueHandler.DYNAMIC.normalize(value, walk);
+        }
+        return value;
+    }
+
+    private void normalizeNode(JsonNode node, NormalizationWalk walk, Visit visit, int depth) {
+        if (node instanceof ObjectNode object) {
+            for (Map.Entry<String, JsonNode> entry : object.properties()) {
+                JsonNode child = entry.getValue();
+                JsonNode normalized = normalizeChild(child, walk, visit, depth);
+                if (normalized != null) {
+                    entry.setValue(normalized);
+                }
+            }
+        } else if (node instanceof ArrayNode array) {
+            for (int i = 0, size = array.size(); i < size; i++) {
+                JsonNode normalized = normalizeChild(array.get(i), walk, visit, depth);
+                if (normalized != null) {
+                    array.set(i, normalized);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the replacement for a changed text node, or {@code null} to keep {@code child}.
+     */
+    private JsonNode normalizeChild(JsonNode child, NormalizationWalk walk, Visit visit, int depth) {
+        if (child instanceof TextNode text) {
+            return normalizeText(text, walk, visit);
+        }
+        visit.count(maxNodes);
+        if (child.isContainerNode()) {
+            normalizeNode(child, walk, visit, enter(depth));
+        }
+        return null;
+    }
+
+    private JsonNode normalizeText(TextNode text, NormalizationWalk walk, Visit visit) {
+        visit.count(maxNodes);
+        String value = text.textValue();
+        String normalized = walk.countString(value, StringNormalizer.apply(value, walk.config));
+        if (normalized == value) {
+            return null;
+        }
+        return normalized != null ? TextNode.valueOf(normalized) : NullNode.getInstance();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void normalizeMap(Map<?, ?> map, NormalizationWalk walk, Visit visit, int depth) {
+        for (Map.Entry<Object, Object> entry : ((Map<Object, Object>) map).entrySet()) {
+            Object item = entry.getValue();
+            Object normalized = normalize(item, walk, visit, depth);
+            if (normalized != item) {
+                entry.setValue(normalized);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void normalizeList(List<?> list, NormalizationWalk walk, Visit visit, int depth) {
+        for (ListIterator<Object> it = ((List<Object>) list).listIterator(); it.hasNext(); ) {
+            Object item = it.next();
+            Object normalized = normalize(item, walk, visit, depth);
+            if (normalized != item) {
+                it.set(normalized);
+            }
+        }
+    }
+
+    private int enter(int depth) {
+        if (depth >= maxDepth) {
+            throw new OversizedInputException("JSON document is nested deeper than the maximum depth of "
+                    + maxDepth, depth + 1, maxDepth);
+        }
+        return depth + 1;
+    }
+
+    /**
+     * Values visited so far in one document.
+     */
+    private static final class Visit {
+
+        private int nodes;
+
+        void count(int maxNodes) {
+            if (++nodes > maxNodes) {
+                throw new OversizedInputException("JSON document holds more than the maximum of "
+                        + maxNodes + " values", nodes, maxNodes);
+            }
+        }
+    }
+}
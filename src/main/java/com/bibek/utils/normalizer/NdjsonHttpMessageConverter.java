@@ -0,0 +1,127 @@
+package com.bibek.utils.normalizer;
+
+import com.bibek.utils.normalizer.jackson.NormalizingJacksonModule;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads {@code application/x-ndjson} request bodies into a {@code List} (or {@code Collection})
+ * or a lazy {@code Stream} of elements, one JSON value per line.
+ * <p>
+ * Each element is parsed on its own and, if its type is annotated with {@link NormalizeInput},
+ * normalized right away — a {@code Stream} body is never materialized, so handlers can consume
+ * arbitrarily large imports in constant memory.
+ * <p>
+ * Registered next to {@link RequestNormalizerRequestBodyAdvice}, the converter leaves elements to
+ * the advice instead, which normalizes them — lazily, for streams — with the parameter's resolved
+ * config, {@code request-normalizer.policies} included.
+ */
+class NdjsonHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    private final ObjectMapper objectMapper;
+
+    private final boolean normalizeElements;
+
+    NdjsonHttpMessageConverter(ObjectMapper objectMapper) {
+        this(objectMapper, true);
+    }
+
+    /**
+     * @param normalizeElements whether to normalize elements of annotated types while reading;
+     *                          {@code false} when the advice normalizes the body
+     */
+    NdjsonHttpMessageConverter(ObjectMapper objectMapper, boolean normalizeElements) {
+        super(MediaType.APPLICATION_NDJSON);
+        this.objectMapper = objectMapper;
+        this.normalizeElements = normalizeElements;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == Stream.class || clazz.isAssignableFrom(ArrayList.class);
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        JavaType bodyType = objectMapper.constructType(GenericTypeResolver.resolveType(type, contextClass));
+        JavaType elementType = bodyType.containedTypeOrUnknown(0);
+        UnaryOperator<Object> normalizer = elementNormalizer(elementType.getRawClass());
+        try {
+            MappingIterator<Object> values = objectMapper.readerFor(elementType).readValues(inputMessage.getBody());
+            if (bodyType.getRawClass() == Stream.class) {
+                return StreamSupport.stream(Spliterators.spliteratorUnknownSize(values, Spliterator.ORDERED), false)
+                        .map(normalizer)
+                        .onClose(() -> close(values));
+            }
+            List<Object> elements = new ArrayList<>();
+            while (values.hasNextValue()) {
+                elements.add(normalizer.apply(values.nextValue()));
+            }
+            return elements;
+        } catch (JsonProcessingException e) {
+            throw new HttpMessageNotReadableException("NDJSON parse error: " + e.getOriginalMessage(), e, inputMessage);
+        } catch (OversizedInputException e) {
+            throw new HttpMessageNotReadableException(e.getMessage(), e, inputMessage);
+        }
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        return read(clazz, null, inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) {
+        throw new HttpMessageNotWritableException("NDJSON responses are not supported");
+    }
+
+    private UnaryOperator<Object> elementNormalizer(Class<?> elementType) {
+        NormalizeConfig config = normalizeElements ? NormalizeConfig.of(elementType.getAnnotation(NormalizeInput.class)) : null;
+        if (config == null || NormalizingJacksonModule.normalizesWhileParsing(objectMapper, elementType)) {
+            return UnaryOperator.identity();
+        }
+        return value -> {
+            StringNormalizer.normalize(value, config);
+            return value;
+        };
+    }
+
+    private static void close(MappingIterator<?> values) {
+        try {
+            values.close();
+        } catch (IOException e) {
+            // Nothing left to read
+        }
+    }
+}
@@ -0,0 +1,517 @@
+package com.bibek.utils.normalizer;
+
+import org.springframework.core.ResolvableType;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Precomputed, per-class list of the fields {@link StringNormalizer} has to visit.
+ * <p>
+ * The plan is a static analysis of the declared field types: a field is kept only if a String
+ * can be reached through it — directly, as a collection/map value or array element, or via a
+ * nested object — so whole subtrees that cannot contain Strings are never walked. The plan also
+ * records whether the reachable type graph is acyclic; walks over acyclic graphs skip cycle
+ * detection entirely.
+ * <p>
+ * Plans are built once per class (field discovery, {@code setAccessible} and method handle
+ * creation all happen here) and cached in a {@link ClassValue}, so normalizing an instance
+ * only invokes the prepared accessors. When the annotation processor generated a
+ * {@link GeneratedNormalizer} for the class, the plan delegates to it and uses no reflection.
+ * <p>
+ * Field annotations are resolved here too: {@link SkipNormalization} fields are left out of the
+ * plan entirely, and a field-level {@link NormalizeInput} becomes the config for that field.
+ */
+final class NormalizationPlan {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<NormalizationPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected NormalizationPlan computeValue(Class<?> type) {
+            return new NormalizationPlan(type);
+        }
+    };
+
+    private final FieldSlot[] fields;
+
+    private final boolean flat;
+
+    private final boolean mayRevisit;
+
+    private final GeneratedNormalizer<Object> generated;
+
+    private final int generatedStringFields;
+
+    private final Class<?> type;
+
+    /**
+     * Fields and their names for {@link #walkTracked}; the reflective fields, built on first use
+     * when a generated normalizer makes {@link #fields} empty.
+     */
+    private volatile Tracking tracking;
+
+    /**
+     * Fields and constraint checks for {@link #walkValidated}, built on first use;
+     * {@link Validation#NONE} if the class's constraints cannot all be checked during the walk.
+     */
+    private volatile Validation validation;
+
+    private NormalizationPlan(Class<?> type) {
+        this.type = type;
+        this.generated = isJdkType(type) ? null : findGenerated(type);
+        FieldSlot[] found = generated == null ? reflectiveFields(type) : new FieldSlot[0];
+        boolean flat = true;
+        for (FieldSlot field : found) {
+            flat &= field.handler() == ValueHandler.STRING;
+        }
+        this.generatedStringFields = generated != null
+                ? (int) instanceFields(type).stream().filter(field -> field.getType() == String.class).count()
+                : 0;
+        this.fields = found;
+        this.flat = flat;
+        this.mayRevisit = found.length > 0 && mayRevisit(type, new HashSet<>(), new HashSet<>());
+    }
+
+    private static FieldSlot[] reflectiveFields(Class<?> type) {
+        if (isJdkType(type)) {
+            return new FieldSlot[0];
+        }
+        List<FieldSlot> found = new ArrayList<>();
+        for (Field field : instanceFields(type)) {
+            ValueHandler handler = handlerFor(ResolvableType.forField(field, type), new HashSet<>());
+            if (handler != null) {
+                found.add(FieldSlot.of(field, handler, NormalizeConfig.of(field.getAnnotation(NormalizeInput.class))));
+            }
+        }
+        return found.toArray(new FieldSlot[0]);
+    }
+
+    static NormalizationPlan of(Class<?> type) {
+        return PLANS.get(type);
+    }
+
+    int fieldCount() {
+        return fields.length;
+    }
+
+    /**
+     * Whether every String this plan reaches is a String field of the type itself.
+     */
+    boolean isFlat() {
+        return flat;
+    }
+
+    /**
+     * Whether a walk starting at this type can meet the same object twice (cycles, or values whose
+     * declared type is too generic to tell).
+     */
+    boolean mayRevisit() {
+        return mayRevisit;
+    }
+
+    void walk(Object target, NormalizationWalk walk) {
+        if (generated != null) {
+            walk.countGenerated(generatedStringFields, generated.normalize(target, walk.config));
+            return;
+        }
+        for (FieldSlot field : fields) {
+            field.normalize(target, walk);
+        }
+    }
+
+    /**
+     * Same as {@link #walk}, recording which fields of {@code target} itself changed. The masks
+     * are allocated at the first change, so a walk that changes nothing allocates no result.
+     */
+    NormalizationResult walkTracked(Object target, NormalizationWalk walk) {
+        Tracking tracked = tracking();
+        FieldSlot[] slots = tracked.fields();
+        long[] changed = null;
+        long[] nulled = null;
+        for (int i = 0; i < slots.length; i++) {
+            int before = walk.changed;
+            boolean isNulled = slots[i].normalize(target, walk);
+            if (walk.changed != before) {
+                if (changed == null) {
+                    changed = new long[(slots.length + 63) >>> 6];
+                    nulled = new long[changed.length];
+                }
+                NormalizationResult.set(changed, i);
+                if (isNulled) {
+                    NormalizationResult.set(nulled, i);
+                }
+            }
+        }
+        return changed == null ? NormalizationResult.ofCount(walk.changed)
+                : new NormalizationResult(tracked.names(), changed, nulled, walk.changed);
+    }
+
+    private Tracking tracking() {
+        Tracking tracked = tracking;
+        if (tracked == null) {
+            FieldSlot[] slots = generated != null ? reflectiveFields(type) : fields;
+            String[] names = new String[slots.length];
+            for (int i = 0; i < slots.length; i++) {
+                names[i] = slots[i].name();
+            }
+            tracked = new Tracking(slots, names);
+            tracking = tracked;
+        }
+        return tracked;
+    }
+
+    private record Tracking(FieldSlot[] fields, String[] names) {
+    }
+
+    /**
+     * Same as {@link #walk}, checking the {@link FusedConstraints} of each of {@code target}'s own
+     * fields right after normalizing it. Returns whether {@code target} is known to be valid: its
+     * class is {@link FusedConstraints#covered() covered} and no check failed. {@code false}
+     * leaves validation to the full validator.
+     */
+    boolean walkValidated(Object target, NormalizationWalk walk) {
+        Validation validated = validation();
+        if (validated == Validation.NONE) {
+            walk(target, walk);
+            return false;
+        }
+        FieldSlot[] slots = validated.fields();
+        FusedConstraints.Check[] checks = validated.checks();
+        boolean valid = true;
+        for (int i = 0; i < slots.length; i++) {
+            slots[i].normalize(target, walk);
+            if (valid && checks[i] != null) {
+                valid = checks[i].test((String) slots[i].get(target));
+            }
+        }
+        return valid;
+    }
+
+    private Validation validation() {
+        Validation validated = validation;
+        if (validated == null) {
+            validated = Validation.NONE;
+            FusedConstraints constraints = FusedConstraints.PRESENT ? FusedConstraints.of(type) : null;
+            if (constraints != null && constraints.covered()) {
+                Tracking tracked = tracking();
+                FusedConstraints.Check[] checks = new FusedConstraints.Check[tracked.fields().length];
+                Set<Field> walked = new HashSet<>();
+                for (int i = 0; i < checks.length; i++) {
+                    Field field = tracked.fields()[i].field();
+                    checks[i] = constraints.check(field);
+                    walked.add(field);
+                }
+                if (constraints.checksOnly(walked)) {
+                    validated = new Validation(tracked.fields(), checks);
+                }
+            }
+            validation = validated;
+        }
+        return validated;
+    }
+
+    private record Validation(FieldSlot[] fields, FusedConstraints.Check[] checks) {
+
+        static final Validation NONE = new Validation(null, null);
+    }
+
+    /**
+     * Returns the build-time generated normalizer for {@code type}, if the annotation processor
+     * produced one.
+     */
+    @SuppressWarnings("unchecked")
+    private static GeneratedNormalizer<Object> findGenerated(Class<?> type) {
+        Class<?> generatedClass;
+        try {
+            generatedClass = Class.forName(GeneratedNormalizer.generatedClassName(type), false, type.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+        if (!GeneratedNormalizer.class.isAssignableFrom(generatedClass)) {
+            return null;
+        }
+        try {
+            return (GeneratedNormalizer<Object>) generatedClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot instantiate " + generatedClass.getName(), e);
+        }
+    }
+
+    // ---- static type analysis -------------------------------------------------------------
+
+    /**
+     * Returns {@code type} and every class the plan for it may descend into, without building
+     * any accessors. Used to register reflection hints ahead of time.
+     */
+    static Set<Class<?>> reachableTypes(Class<?> type) {
+        Set<Class<?>> types = new LinkedHashSet<>();
+        if (!isJdkType(type)) {
+            collectReachableTypes(type, types);
+        }
+        return types;
+    }
+
+    private static void collectReachableTypes(Class<?> type, Set<Class<?>> types) {
+        if (!types.add(type)) {
+            return;
+        }
+        for (Field field : instanceFields(type)) {
+            ValueHandler handler = handlerFor(ResolvableType.forField(field, type), new HashSet<>());
+            while (handler != null && !(handler instanceof ValueHandler.BeanHandler)) {
+                handler = handler instanceof ValueHandler.CollectionHandler collection ? collection.element
+                        : handler instanceof ValueHandler.MapHandler map ? map.value
+                        : handler instanceof ValueHandler.ArrayHandler array ? array.element
+                        : null;
+            }
+            if (handler instanceof ValueHandler.BeanHandler bean) {
+                collectReachableTypes(bean.declaredType, types);
+            }
+        }
+    }
+
+    /**
+     * Returns how to normalize a request body declared as {@code type} — a bean, a String, or a
+     * collection, map, array or {@code Stream} of them — or {@code null} if no String can be reached.
+     * {@code JsonNode} bodies, and maps and lists of {@code Object}, are walked as JSON trees with
+     * depth and size limits.
+     */
+    static ValueHandler rootHandler(ResolvableType type) {
+        if (isUntypedTree(type)) {
+            return JsonTreeHandler.DEFAULT;
+        }
+        if (Stream.class.isAssignableFrom(type.resolve(Object.class))) {
+            ValueHandler element = handlerFor(type.as(Stream.class).getGeneric(0), new HashSet<>());
+            return element != null ? new ValueHandler.StreamHandler(element) : null;
+        }
+        return handlerFor(type, new HashSet<>());
+    }
+
+    private static boolean isUntypedTree(ResolvableType type) {
+        Class<?> raw = type.resolve(Object.class);
+        if (Map.class.isAssignableFrom(raw)) {
+            return type.asMap().getGeneric(1).resolve(Object.class) == Object.class;
+        }
+        if (List.class.isAssignableFrom(raw)) {
+            return type.asCollection().getGeneric(0).resolve(Object.class) == Object.class;
+        }
+        return false;
+    }
+
+    /**
+     * Returns how to normalize values of {@code type}, or {@code null} if no String can be reached.
+     * {@code visiting} holds the classes on the current analysis path.
+     */
+    private static ValueHandler handlerFor(ResolvableType type, Set<Class<?>> visiting) {
+        Class<?> raw = type.resolve(Object.class);
+        if (raw == String.class) {
+            return ValueHandler.STRING;
+        }
+        if (JsonTreeHandler.isTree(raw)) {
+            return JsonTreeHandler.DEFAULT;
+        }
+        if (raw.isArray()) {
+            if (raw.getComponentType().isPrimitive()) {
+                return null;
+            }
+            ValueHandler element = handlerFor(type.getComponentType(), visiting);
+            return element != null ? new ValueHandler.ArrayHandler(element) : null;
+        }
+        if (Collection.class.isAssignableFrom(raw)) {
+            ValueHandler element = handlerFor(type.asCollection().getGeneric(0), visiting);
+            return element != null ? new ValueHandler.CollectionHandler(element) : null;
+        }
+        if (Map.class.isAssignableFrom(raw)) {
+            ValueHandler value = handlerFor(type.asMap().getGeneric(1), visiting);
+            return value != null ? new ValueHandler.MapHandler(value) : null;
+        }
+        if (isDynamic(raw)) {
+            return ValueHandler.DYNAMIC;
+        }
+        if (isOpaque(raw)) {
+            return null;
+        }
+        return reachesString(raw, visiting) ? new ValueHandler.BeanHandler(raw) : null;
+    }
+
+    private static boolean reachesString(Class<?> type, Set<Class<?>> visiting) {
+        if (!visiting.add(type)) {
+            // Already on the path: any String it reaches is found through its other fields
+            return false;
+        }
+        try {
+            for (Field field : instanceFields(type)) {
+                if (handlerFor(ResolvableType.forField(field, type), visiting) != null) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            visiting.remove(type);
+        }
+    }
+
+    private static boolean mayRevisit(Class<?> type, Set<Class<?>> path, Set<Class<?>> done) {
+        if (done.contains(type)) {
+            return false;
+        }
+        if (!path.add(type)) {
+            return true;
+        }
+        for (Field field : instanceFields(type)) {
+            ValueHandler handler = handlerFor(ResolvableType.forField(field, type), new HashSet<>());
+            if (handler != null && mayRevisit(handler, path, done)) {
+                return true;
+            }
+        }
+        path.remove(type);
+        done.add(type);
+        return false;
+    }
+
+    private static boolean mayRevisit(ValueHandler handler, Set<Class<?>> path, Set<Class<?>> done) {
+        if (handler == ValueHandler.DYNAMIC) {
+            return true;
+        }
+        if (handler instanceof ValueHandler.BeanHandler bean) {
+            return mayRevisit(bean.declaredType, path, done);
+        }
+        if (handler instanceof ValueHandler.CollectionHandler collection) {
+            return mayRevisit(collection.element, path, done);
+        }
+        if (handler instanceof ValueHandler.MapHandler map) {
+            return mayRevisit(map.value, path, done);
+        }
+        if (handler instanceof ValueHandler.ArrayHandler array) {
+            return mayRevisit(array.element, path, done);
+        }
+        return false;
+    }
+
+    /**
+     * Declared types that may hold anything, including Strings, at runtime.
+     */
+    private static boolean isDynamic(Class<?> type) {
+        if (type == Object.class || type == CharSequence.class
+                || type == Serializable.class || type == Comparable.class) {
+            return true;
+        }
+        return !isJdkType(type) && !type.isArray() && !type.isEnum() && !type.isAnnotation()
+                && (type.isInterface() || Modifier.isAbstract(type.getModifiers()));
+    }
+
+    /**
+     * Types that are never walked: primitives, enums, records, annotations and JDK classes.
+     */
+    private static boolean isOpaque(Class<?> type) {
+        return type.isPrimitive() || type.isEnum() || type.isRecord() || type.isAnnotation()
+                || isJdkType(type);
+    }
+
+    private static boolean isJdkType(Class<?> type) {
+        String name = type.getName();
+        return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jdk.")
+                || name.startsWith("sun.") || name.startsWith("com.sun.");
+    }
+
+    private static List<Field> instanceFields(Class<?> type) {
+        List<Field> fields = new ArrayList<>();
+        Class<?> clazz = type;
+        while (clazz != null && clazz != Object.class) {
+            for (Field field : clazz.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()
+                        && !field.isAnnotationPresent(SkipNormalization.class)) {
+                    fields.add(field);
+                }
+            }
+            clazz = clazz.getSuperclass();
+        }
+        return fields;
+    }
+
+    /**
+     * @param override the field's own config, or {@code null} to use the one of the walk
+     */
+    private record FieldSlot(Field field, MethodHandle getter, MethodHandle setter, ValueHandler handler,
+                             NormalizeConfig override) {
+
+        static FieldSlot of(Field field, ValueHandler handler, NormalizeConfig override) {
+            try {
+                field.setAccessible(true);
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                MethodHandle setter = handler.replaces()
+                        ? lookup.unreflectSetter(field).asType(SETTER_TYPE)
+                        : null;
+                return new FieldSlot(field, lookup.unreflectGetter(field).asType(GETTER_TYPE),
+                        setter, handler, override);
+            } catch (IllegalAccessException | RuntimeException e) {
+                throw new IllegalStateException("Cannot normalize field '" + field.getName()
+                        + "' of " + field.getDeclaringClass().getName(), e);
+            }
+        }
+
+        String name() {
+            return field.getName();
+        }
+
+        Object get(Object target) {
+            try {
+                return getter.invokeExact(target);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Failed to read field '" + name() + "'", e);
+            }
+        }
+
+        /**
+         * Returns whether the field was set to {@code null}.
+         */
+        boolean normalize(Object target, NormalizationWalk walk) {
+            if (override == null) {
+                return normalizeWith(target, walk);
+            }
+            NormalizeConfig inherited = walk.config;
+            walk.config = override;
+            try {
+                return normalizeWith(target, walk);
+            } finally {
+                walk.config = inherited;
+            }
+        }
+
+        private boolean normalizeWith(Object target, NormalizationWalk walk) {
+            walk.fields++;
+            try {
+                Object value = getter.invokeExact(target);
+                if (value == null && handler == ValueHandler.STRING) {
+                    walk.unchanged++;
+                } else if (value != null) {
+                    Object normalized = handler.normalize(value, walk);
+                    if (normalized != value) {
+                        setter.invokeExact(target, normalized);
+                        return normalized == null;
+                    }
+                }
+                return false;
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Failed to normalize field '" + name() + "'", e);
+            }
+        }
+    }
+}
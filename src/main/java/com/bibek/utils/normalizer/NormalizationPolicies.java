@@ -0,0 +1,50 @@
+package com.bibek.utils.normalizer;
+
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Immutable snapshot of the {@link NormalizationPolicy} list bound from
+ * {@code request-normalizer.policies}, applied in declaration order, so later entries win.
+ */
+final class NormalizationPolicies {
+
+    static final String PREFIX = "request-normalizer.policies";
+
+    static final NormalizationPolicies NONE = new NormalizationPolicies(List.of());
+
+    private final List<NormalizationPolicy> policies;
+
+    NormalizationPolicies(List<NormalizationPolicy> policies) {
+        this.policies = List.copyOf(policies);
+    }
+
+    static NormalizationPolicies bind(Environment environment) {
+        List<NormalizationPolicy> bound = Binder.get(environment)
+                .bind(PREFIX, Bindable.listOf(NormalizationPolicy.class))
+                .orElse(List.of());
+        return bound.isEmpty() ? NONE : new NormalizationPolicies(bound);
+    }
+
+    boolean isEmpty() {
+        return policies.isEmpty();
+    }
+
+    /**
+     * Returns the config for a body of {@code type} read by a handler mapped to {@code patterns},
+     * or {@code config} itself when no policy matches.
+     */
+    NormalizeConfig apply(NormalizeConfig config, Set<String> patterns, Class<?> type) {
+        NormalizeConfig result = config;
+        for (NormalizationPolicy policy : policies) {
+            if (policy.matches(patterns, type)) {
+                result = policy.applyTo(result);
+            }
+        }
+        return result;
+    }
+}
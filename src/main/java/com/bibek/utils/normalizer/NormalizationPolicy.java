@@ -0,0 +1,72 @@
+package com.bibek.utils.normalizer;
+
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * One entry of {@code request-normalizer.policies}: options that override the {@link NormalizeInput}
+ * config of request bodies bound by handlers mapped under one of {@code paths}, or whose type
+ * (element type, for collections) is in one of {@code packages} or their subpackages. Options left
+ * unset keep the annotation's value; a policy with neither paths nor packages applies everywhere.
+ *
+ * <pre>
+ * request-normalizer:
+ *   policies:
+ *     - paths: /search/**
+ *       collapse-spaces: true
+ *     - packages: com.example.billing
+ *       uppercase: true
+ * </pre>
+ */
+record NormalizationPolicy(List<String> paths, List<String> packages, Boolean trim, Boolean blankToNull,
+                           Boolean collapseSpaces, Boolean deduplicate, Boolean lowercase, Boolean uppercase,
+                           Boolean removeControlChars, NormalizeInput.UnicodeForm normalizeUnicode,
+                           Boolean stripAccents, Integer maxLength, Integer maxInputLength,
+                           NormalizeInput.OversizePolicy onOversize) {
+
+    private static final AntPathMatcher PATHS = new AntPathMatcher();
+
+    NormalizationPolicy {
+        paths = paths != null ? List.copyOf(paths) : List.of();
+        packages = packages != null ? List.copyOf(packages) : List.of();
+    }
+
+    /**
+     * Whether the policy applies to a body of {@code type} read by a handler mapped to
+     * {@code patterns}; a path policy matches when any of the handler's patterns falls under it.
+     */
+    boolean matches(Set<String> patterns, Class<?> type) {
+        if (!paths.isEmpty() && paths.stream().noneMatch(path -> patterns.stream().anyMatch(
+                pattern -> PATHS.match(path, pattern)))) {
+            return false;
+        }
+        if (packages.isEmpty()) {
+            return true;
+        }
+        String name = type.getPackageName();
+        return packages.stream().anyMatch(prefix -> name.equals(prefix) || name.startsWith(prefix + "."));
+    }
+
+    /**
+     * Returns {@code config} with this policy's options applied. Turning one case mapping on
+     * turns the other off.
+     */
+    NormalizeConfig applyTo(NormalizeConfig config) {
+        boolean lower = lowercase != null ? lowercase : config.lowercase() && !Boolean.TRUE.equals(uppercase);
+        boolean upper = uppercase != null ? uppercase : config.uppercase() && !Boolean.TRUE.equals(lowercase);
+        return new NormalizeConfig(
+                trim != null ? trim : config.trim(),
+                blankToNull != null ? blankToNull : config.blankToNull(),
+                collapseSpaces != null ? collapseSpaces : config.collapseSpaces(),
+                deduplicate != null ? deduplicate : config.deduplicate(),
+                lower, upper,
+                removeControlChars != null ? removeControlChars : config.removeControlChars(),
+                normalizeUnicode != null ? normalizeUnicode.form() : config.unicodeForm(),
+                stripAccents != null ? stripAccents : config.stripAccents(),
+                maxLength != null ? maxLength : config.maxLength(),
+                maxInputLength != null ? maxInputLength : config.maxInputLength(),
+                onOversize != null ? onOversize == NormalizeInput.OversizePolicy.REJECT : config.rejectOversized());
+    }
+}
@@ -0,0 +1,46 @@
+package com.bibek.utils.normalizer;
+
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.event.SmartApplicationListener;
+import org.springframework.core.env.Environment;
+
+/**
+ * Re-binds {@code request-normalizer.policies} from the {@link Environment} and swaps the
+ * resulting snapshot into the {@code @RequestBody} advice's targets.
+ * <p>
+ * Reloads automatically on Spring Cloud's {@code EnvironmentChangeEvent} (published by
+ * {@code /actuator/refresh} and config-server updates) when it is on the classpath; applications
+ * that refresh their property sources some other way can call {@link #reload()}. A policy that
+ * fails to bind or to build a valid config leaves the previous snapshot in place.
+ */
+public final class NormalizationPolicyReloader implements SmartApplicationListener {
+
+    private static final String ENVIRONMENT_CHANGE_EVENT =
+            "org.springframework.cloud.context.environment.EnvironmentChangeEvent";
+
+    private final HandlerNormalizationRegistry registry;
+
+    private final Environment environment;
+
+    NormalizationPolicyReloader(HandlerNormalizationRegistry registry, Environment environment) {
+        this.registry = registry;
+        this.environment = environment;
+    }
+
+    /**
+     * Binds the policies from the current environment and applies them.
+     */
+    public void reload() {
+        registry.setPolicies(NormalizationPolicies.bind(environment));
+    }
+
+    @Override
+    public boolean supportsEventType(Class<? extends ApplicationEvent> eventType) {
+        return eventType.getName().equals(ENVIRONMENT_CHANGE_EVENT);
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationEvent event) {
+        reload();
+    }
+}
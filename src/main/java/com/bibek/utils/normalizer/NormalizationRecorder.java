@@ -0,0 +1,31 @@
+package com.bibek.utils.normalizer;
+
+/**
+ * Receives the cost of each normalized request or response body, per DTO type.
+ * <p>
+ * {@link #record} runs on the request thread after every normalization, so implementations must
+ * be cheap and thread-safe: look meters up per type once (see {@link #prepare}) rather than per call.
+ */
+public interface NormalizationRecorder {
+
+    /**
+     * Records nothing; callers skip timing entirely when given this instance.
+     */
+    NormalizationRecorder NONE = (type, nanos, fields, changed, unchanged) -> { };
+
+    /**
+     * Called once at startup for each body type known ahead of time, so per-type state can be
+     * created before the first request.
+     */
+    default void prepare(Class<?> type) {
+    }
+
+    /**
+     * @param type      the DTO type (the element type for collection, array and stream bodies)
+     * @param nanos     wall time spent normalizing
+     * @param fields    fields visited
+     * @param changed   String values replaced
+     * @param unchanged String values left as they were, including {@code null}s
+     */
+    void record(Class<?> type, long nanos, int fields, int changed, int unchanged);
+}
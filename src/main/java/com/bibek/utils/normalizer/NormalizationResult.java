@@ -0,0 +1,117 @@
+package com.bibek.utils.normalizer;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * What a {@link StringNormalizer#normalizeTracked} call changed: the number of String values
+ * replaced and, for a bean, which of its own fields changed (anything under the field, for nested
+ * objects and collections) and which were set to {@code null}.
+ * <p>
+ * Fields are identified by their index in the cached per-class plan, kept as bit masks; the
+ * field names array is the plan's own, so a result costs two small {@code long[]}s. Calls that
+ * change nothing return the shared {@link #UNCHANGED} instance and allocate no result at all.
+ * For collection, map and array roots only {@link #changedCount()} is reported.
+ */
+public final class NormalizationResult {
+
+    /**
+     * Request attribute the {@code @RequestBody} advice stores the result under, when
+     * {@code request-normalizer.track-changes=true}.
+     */
+    public static final String ATTRIBUTE = NormalizationResult.class.getName();
+
+    public static final NormalizationResult UNCHANGED = new NormalizationResult(new String[0], null, null, 0);
+
+    private final String[] fields;
+    private final long[] changed;
+    private final long[] nulled;
+    private final int changedCount;
+
+    NormalizationResult(String[] fields, long[] changed, long[] nulled, int changedCount) {
+        this.fields = fields;
+        this.changed = changed;
+        this.nulled = nulled;
+        this.changedCount = changedCount;
+    }
+
+    /**
+     * Result for a walk that tracked no fields, e.g. over a collection root.
+     */
+    static NormalizationResult ofCount(int changedCount) {
+        return changedCount == 0 ? UNCHANGED : new NormalizationResult(new String[0], null, null, changedCount);
+    }
+
+    public boolean isChanged() {
+        return changedCount > 0;
+    }
+
+    /**
+     * The number of String values that were replaced, including those set to {@code null}.
+     */
+    public int changedCount() {
+        return changedCount;
+    }
+
+    public boolean isChanged(String field) {
+        return isSet(changed, indexOf(field));
+    }
+
+    public boolean isNulled(String field) {
+        return isSet(nulled, indexOf(field));
+    }
+
+    public Set<String> changedFields() {
+        return names(changed);
+    }
+
+    public Set<String> nulledFields() {
+        return names(nulled);
+    }
+
+    static void set(long[] mask, int index) {
+        mask[index >>> 6] |= 1L << index;
+    }
+
+    private static boolean isSet(long[] mask, int index) {
+        return mask != null && index >= 0 && (mask[index >>> 6] & (1L << index)) != 0;
+    }
+
+    private int indexOf(String field) {
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i].equals(field)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private Set<String> names(long[] mask) {
+        Set<String> names = new LinkedHashSet<>();
+        for (int i = 0; i < fields.length; i++) {
+            if (isSet(mask, i)) {
+                names.add(fields[i]);
+            }
+        }
+        return names;
+    }
+
+    @Override
+    public String toString() {
+        return "NormalizationResult{changedCount=" + changedCount + ", changed=" + changedFields()
+                + ", nulled=" + nulledFields() + "}";
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof NormalizationResult other && changedCount == other.changedCount
+                && Arrays.equals(fields, other.fields) && Arrays.equals(changed, other.changed)
+                && Arrays.equals(nulled, other.nulled);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(changed) + changedCount;
+    }
+}
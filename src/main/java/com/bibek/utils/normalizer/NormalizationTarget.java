@@ -0,0 +1,84 @@
+package com.bibek.utils.normalizer;
+
+/**
+ * Resolved normalization for one {@code @RequestBody} parameter: the effective config and the
+ * handler for the declared body type, including collection, array and {@code Stream} element
+ * types. {@link #NONE} marks parameters that need no work after parsing.
+ *
+ * @param type           the body type, or its element type for collection, array, map and
+ *                       {@code Stream} bodies; what metrics are reported under
+ * @param parameterLevel whether the config comes from the parameter rather than the body type
+ */
+record NormalizationTarget(NormalizeConfig config, ValueHandler handler, Class<?> type, boolean parameterLevel) {
+
+    static final NormalizationTarget NONE = new NormalizationTarget(null, null, null, false);
+
+    boolean isActive() {
+        return config != null;
+    }
+
+    /**
+     * Normalizes {@code body} and returns it, or its replacement for a String or Stream body.
+     */
+    Object normalize(Object body) {
+        return normalize(body, NormalizationRecorder.NONE);
+    }
+
+    /**
+     * Same as {@link #normalize(Object)}, reporting the cost to {@code recorder}. Stream bodies are
+     * normalized lazily while the handler consumes them and are not recorded.
+     */
+    Object normalize(Object body, NormalizationRecorder recorder) {
+        return normalize(body, recorder, null);
+    }
+
+    /**
+     * Same as {@link #normalize(Object, NormalizationRecorder)}, splitting large collections across
+     * the pool of {@code parallel} unless it is {@code null}.
+     */
+    Object normalize(Object body, NormalizationRecorder recorder, ParallelNormalizer parallel) {
+        NormalizationWalk walk = new NormalizationWalk(config, parallel);
+        if (recorder == NormalizationRecorder.NONE || handler instanceof ValueHandler.StreamHandler) {
+            return handler.normalize(body, walk);
+        }
+        long start = System.nanoTime();
+        Object normalized = handler.normalize(body, walk);
+        walk.report(recorder, type, start);
+        return normalized;
+    }
+
+    /**
+     * Whether {@code body} is a bean, normalized in place, rather than a String, Stream or container.
+     */
+    boolean isBean(Object body) {
+        return body != null && !(body instanceof String) && !(handler instanceof ValueHandler.StreamHandler)
+                && ValueHandler.forContainer(body) == null;
+    }
+
+    /**
+     * Normalizes a bean {@code body} (see {@link #isBean}) in place, returning what changed.
+     */
+    NormalizationResult normalizeTracked(Object body, NormalizationRecorder recorder) {
+        NormalizationWalk walk = new NormalizationWalk(config);
+        long start = recorder != NormalizationRecorder.NONE ? System.nanoTime() : 0L;
+        NormalizationResult result = StringNormalizer.walkTracked(body, walk);
+        if (recorder != NormalizationRecorder.NONE) {
+            walk.report(recorder, type, start);
+        }
+        return result;
+    }
+
+    /**
+     * Normalizes a bean {@code body} (see {@link #isBean}) in place, returning whether its Bean
+     * Validation constraints were all checked and satisfied on the way.
+     */
+    boolean normalizeValidated(Object body, NormalizationRecorder recorder) {
+        NormalizationWalk walk = new NormalizationWalk(config);
+        long start = recorder != NormalizationRecorder.NONE ? System.nanoTime() : 0L;
+        boolean valid = StringNormalizer.walkValidated(body, walk);
+        if (recorder != NormalizationRecorder.NONE) {
+            walk.report(recorder, type, start);
+        }
+        return valid;
+    }
+}
@@ -0,0 +1,105 @@
+package com.bibek.utils.normalizer;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * State of one {@link StringNormalizer#normalize} call.
+ * <p>
+ * The visited set is only allocated once the walk reaches a type whose plan says it may be
+ * revisited (a cyclic or dynamically typed graph); walks over acyclic DTO graphs never allocate it.
+ */
+final class NormalizationWalk {
+
+    /**
+     * The config in effect; swapped by fields that override it with their own {@link NormalizeInput}.
+     */
+    NormalizeConfig config;
+
+    /**
+     * Fields read, and String values replaced or left as they were (including {@code null}s), for
+     * {@link NormalizationRecorder}. Plain counters: a walk is confined to one thread.
+     */
+    int fields;
+    int changed;
+    int unchanged;
+
+    /**
+     * Splits large indexed collections across its pool, or {@code null} for a sequential walk.
+     */
+    final ParallelNormalizer parallel;
+
+    private Set<Object> visited;
+
+    NormalizationWalk(NormalizeConfig config) {
+        this(config, null);
+    }
+
+    NormalizationWalk(NormalizeConfig config, ParallelNormalizer parallel) {
+        this.config = config;
+        this.parallel = parallel;
+    }
+
+    /**
+     * Starts tracking visited objects from this point of the walk on.
+     */
+    void trackCycles() {
+        if (visited == null) {
+            visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        }
+    }
+
+    boolean tracksCycles() {
+        return visited != null;
+    }
+
+    /**
+     * Whether a collection of {@code size} elements is to be split across the parallel pool.
+     */
+    boolean splits(int size) {
+        return parallel != null && parallel.splits(size, this);
+    }
+
+    /**
+     * Adds the counts of a walk over part of this one, run on another thread.
+     */
+    void merge(NormalizationWalk part) {
+        fields += part.fields;
+        changed += part.changed;
+        unchanged += part.unchanged;
+    }
+
+    /**
+     * Counts {@code after} as changed unless it equals {@code before}: a deduplicated instance of
+     * an unchanged value is not a change.
+     */
+    String countString(String before, String after) {
+        if (after != before && (after == null || !after.equals(before))) {
+            changed++;
+        } else {
+            unchanged++;
+        }
+        return after;
+    }
+
+    /**
+     * Counts a generated normalizer's pass over {@code stringFields} fields.
+     */
+    void countGenerated(int stringFields, int replaced) {
+        fields += stringFields;
+        changed += replaced;
+        unchanged += stringFields - replaced;
+    }
+
+    void report(NormalizationRecorder recorder, Class<?> type, long startNanos) {
+        recorder.record(type, System.nanoTime() - startNanos, fields, changed, unchanged);
+    }
+
+    /**
+     * Returns {@code false} if {@code bean} was already walked while tracking cycles.
+     */
+    boolean enter(Object bean) {
+        return visited == null || visited.add(bean);
+    }
+}
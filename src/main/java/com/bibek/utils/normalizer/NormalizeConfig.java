@@ -1,6 +1,59 @@
 package com.bibek.utils.normalizer;
 
+import java.text.Normalizer;
+
 /**
  * Configuration for string normalization.
+ *
+ * @param unicodeForm Unicode normalization form to convert to, or {@code null} to leave the form as is
+ * @param maxLength       maximum length in UTF-16 chars after all other steps, or {@code 0} for no limit
+ * @param maxInputLength  length above which values are not scanned, or {@code 0} for no limit
+ * @param rejectOversized whether values over {@code maxInputLength} throw {@link OversizedInputException}
+ *                        instead of being left unchanged
  */
-public record NormalizeConfig(boolean trim, boolean blankToNull, boolean collapseSpaces) {}
+public record NormalizeConfig(boolean trim, boolean blankToNull, boolean collapseSpaces, boolean deduplicate,
+                              boolean lowercase, boolean uppercase, boolean removeControlChars,
+                              Normalizer.Form unicodeForm, boolean stripAccents, int maxLength,
+                              int maxInputLength, boolean rejectOversized) {
+
+    public NormalizeConfig {
+        if (lowercase && uppercase) {
+            throw new IllegalArgumentException("lowercase and uppercase are mutually exclusive");
+        }
+        if (maxLength < 0) {
+            throw new IllegalArgumentException("maxLength must not be negative: " + maxLength);
+        }
+        if (maxInputLength < 0) {
+            throw new IllegalArgumentException("maxInputLength must not be negative: " + maxInputLength);
+        }
+    }
+
+    public NormalizeConfig(boolean trim, boolean blankToNull, boolean collapseSpaces) {
+        this(trim, blankToNull, collapseSpaces, false);
+    }
+
+    public NormalizeConfig(boolean trim, boolean blankToNull, boolean collapseSpaces, boolean deduplicate) {
+        this(trim, blankToNull, collapseSpaces, deduplicate, false, false, false, null, false, 0, 0, false);
+    }
+
+    /**
+     * Whether any step beyond trim, collapse and blank-to-null is enabled.
+     */
+    boolean extended() {
+        return lowercase || uppercase || removeControlChars || unicodeForm != null || stripAccents || maxLength > 0;
+    }
+
+    /**
+     * Creates the configuration described by a {@link NormalizeInput} annotation,
+     * or returns {@code null} when there is no annotation.
+     */
+    public static NormalizeConfig of(NormalizeInput annotation) {
+        return annotation != null
+                ? new NormalizeConfig(annotation.trim(), annotation.blankToNull(), annotation.collapseSpaces(),
+                        annotation.deduplicate(), annotation.lowercase(), annotation.uppercase(),
+                        annotation.removeControlChars(), annotation.normalizeUnicode().form(),
+                        annotation.stripAccents(), annotation.maxLength(), annotation.maxInputLength(),
+                        annotation.onOversize() == NormalizeInput.OversizePolicy.REJECT)
+                : null;
+    }
+}
@@ -1,6 +1,7 @@
 package com.bibek.utils.normalizer;
 
 import java.lang.annotation.*;
+import java.text.Normalizer;
 
 /**
  * Enables request body string field normalization.
@@ -9,6 +10,10 @@ import java.lang.annotation.*;
  * <ul>
  *   <li><b>On class</b> — normalizes all String fields in the DTO</li>
  *   <li><b>On parameter</b> — normalizes the request body when DTO cannot be annotated</li>
+ *   <li><b>On field</b> — overrides the options for that field (and anything nested in it);
+ *       use {@link SkipNormalization} to exclude a field</li>
+ *   <li><b>On handler method</b> — normalizes the response body while it is serialized, leaving
+ *       the returned object unchanged</li>
  * </ul>
  * <p>
  * Supported normalizations:
@@ -16,17 +21,15 @@ import java.lang.annotation.*;
  *   <li><b>trim</b> — trim leading/trailing whitespace</li>
  *   <li><b>blankToNull</b> — convert blank or empty strings to null</li>
  *   <li><b>collapseSpaces</b> — collapse multiple consecutive spaces to a single space</li>
- * </ul>
- * <p>
- * Future options you could add:
- * <ul>
- *   <li><b>lowercase</b> — convert to lowercase</li>
- *   <li><b>uppercase</b> — convert to uppercase</li>
- *   <li><b>removeControlChars</b> — strip control characters (e.g. ASCII 0-31)</li>
- *   <li><b>normalizeUnicode</b> — NFC/NFD Unicode normalization</li>
+ *   <li><b>deduplicate</b> — share one instance between equal values of repetitive fields</li>
+ *   <li><b>lowercase</b> / <b>uppercase</b> — convert case</li>
+ *   <li><b>removeControlChars</b> — strip control characters (e.g. ASCII 0-31) other than whitespace</li>
+ *   <li><b>normalizeUnicode</b> — NFC/NFD/NFKC/NFKD Unicode normalization</li>
  *   <li><b>stripAccents</b> — remove diacritics (é → e)</li>
  *   <li><b>maxLength</b> — truncate strings to a maximum length</li>
+ *   <li><b>maxInputLength</b> — leave longer values untouched, or reject them, without scanning</li>
  * </ul>
+ * All options are applied in one pass per string; see {@link StringNormalizer#apply(String, NormalizeConfig)}.
  *
  * <p>Examples:</p>
  * <pre>{@code
@@ -48,7 +51,7 @@ import java.lang.annotation.*;
  * }
  * }</pre>
  */
-@Target({ElementType.TYPE, ElementType.PARAMETER})
+@Target({ElementType.TYPE, ElementType.PARAMETER, ElementType.FIELD, ElementType.METHOD})
 @Retention(RetentionPolicy.RUNTIME)
 @Documented
 public @interface NormalizeInput {
@@ -59,7 +62,8 @@ public @interface NormalizeInput {
     boolean trim() default true;
 
     /**
-     * Convert blank or empty strings to null.
+     * Convert blank or empty strings to null. Blank values are those empty after trimming, so
+     * with {@code trim = false} only empty strings are converted.
      */
     boolean blankToNull() default true;
 
@@ -67,4 +71,82 @@ public @interface NormalizeInput {
      * Collapse multiple consecutive spaces to a single space.
      */
     boolean collapseSpaces() default false;
+
+    /**
+     * Return equal normalized values as one shared instance, via a bounded cache (see
+     * {@link StringDeduplicator}). Meant for low-cardinality fields such as country, currency or
+     * status codes repeated across many bodies; values over 64 characters are never cached.
+     */
+    boolean deduplicate() default false;
+
+    /**
+     * Convert to lower case (Locale-independent, per code point).
+     */
+    boolean lowercase() default false;
+
+    /**
+     * Convert to upper case (Locale-independent, per code point).
+     */
+    boolean uppercase() default false;
+
+    /**
+     * Remove control characters (U+0000–U+001F, U+007F–U+009F) other than the whitespace that
+     * {@link #trim()} and {@link #collapseSpaces()} handle.
+     */
+    boolean removeControlChars() default false;
+
+    /**
+     * Unicode normalization form to convert to.
+     */
+    UnicodeForm normalizeUnicode() default UnicodeForm.NONE;
+
+    /**
+     * Remove diacritics, e.g. {@code "Crème Brûlée"} → {@code "Creme Brulee"}.
+     */
+    boolean stripAccents() default false;
+
+    /**
+     * Truncate to at most this many characters after all other steps; {@code 0} means no limit.
+     */
+    int maxLength() default 0;
+
+    /**
+     * Values longer than this are not scanned at all but handled per {@link #onOversize()};
+     * {@code 0} means no limit. Only the length is checked, so huge values cost nothing.
+     */
+    int maxInputLength() default 0;
+
+    /**
+     * What to do with values longer than {@link #maxInputLength()}.
+     */
+    OversizePolicy onOversize() default OversizePolicy.SKIP;
+
+    enum OversizePolicy {
+        /**
+         * Keep the value unchanged.
+         */
+        SKIP,
+        /**
+         * Throw {@link OversizedInputException}.
+         */
+        REJECT
+    }
+
+    enum UnicodeForm {
+        NONE(null), NFC(Normalizer.Form.NFC), NFD(Normalizer.Form.NFD),
+        NFKC(Normalizer.Form.NFKC), NFKD(Normalizer.Form.NFKD);
+
+        private final Normalizer.Form form;
+
+        UnicodeForm(Normalizer.Form form) {
+            this.form = form;
+        }
+
+        /**
+         * The {@link Normalizer} form, or {@code null} for {@link #NONE}.
+         */
+        public Normalizer.Form form() {
+            return form;
+        }
+    }
 }
@@ -0,0 +1,83 @@
+package com.bibek.utils.normalizer;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.ReflectionHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.aot.BeanRegistrationAotContribution;
+import org.springframework.beans.factory.aot.BeanRegistrationAotProcessor;
+import org.springframework.beans.factory.support.RegisteredBean;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Registers native-image reflection hints for the {@link NormalizeInput} types used by a bean's
+ * methods — {@code @RequestBody} parameters of controllers, HTTP interface arguments and return
+ * values — so normalization works under GraalVM without hand-written reflection config.
+ * <p>
+ * For each such type, and every nested type its normalization plan can descend into, the declared
+ * fields are registered; build-time {@link GeneratedNormalizer} classes are registered for
+ * instantiation.
+ */
+class NormalizeInputAotProcessor implements BeanRegistrationAotProcessor {
+
+    @Override
+    public BeanRegistrationAotContribution processAheadOfTime(RegisteredBean registeredBean) {
+        Set<Class<?>> types = new LinkedHashSet<>();
+        ReflectionUtils.doWithMethods(registeredBean.getBeanClass(), method -> collectTypes(method, types));
+        if (types.isEmpty()) {
+            return null;
+        }
+        return (generationContext, beanRegistrationCode) ->
+                registerHints(generationContext.getRuntimeHints().reflection(), types);
+    }
+
+    static void registerHints(ReflectionHints hints, Set<Class<?>> types) {
+        Set<Class<?>> reachable = new LinkedHashSet<>();
+        for (Class<?> type : types) {
+            reachable.addAll(NormalizationPlan.reachableTypes(type));
+        }
+        for (Class<?> type : reachable) {
+            hints.registerType(type, MemberCategory.DECLARED_FIELDS);
+            String generated = GeneratedNormalizer.generatedClassName(type);
+            if (ClassUtils.isPresent(generated, type.getClassLoader())) {
+                hints.registerType(TypeReference.of(generated), MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+            }
+        }
+    }
+
+    private static void collectTypes(Method method, Set<Class<?>> types) {
+        for (int i = 0; i < method.getParameterCount(); i++) {
+            MethodParameter parameter = new MethodParameter(method, i);
+            collectTypes(ResolvableType.forMethodParameter(parameter),
+                    parameter.hasParameterAnnotation(NormalizeInput.class), types);
+        }
+        collectTypes(ResolvableType.forMethodReturnType(method), false, types);
+    }
+
+    /**
+     * Adds {@code type} and its generic arguments ({@code List<Dto>}, {@code ResponseEntity<Dto>})
+     * when they are annotated, or when the declaring parameter is.
+     */
+    private static void collectTypes(ResolvableType type, boolean annotatedParameter, Set<Class<?>> types) {
+        Class<?> raw = type.resolve();
+        if (raw == null) {
+            return;
+        }
+        if (raw.isArray()) {
+            collectTypes(type.getComponentType(), annotatedParameter, types);
+            return;
+        }
+        if (annotatedParameter || raw.isAnnotationPresent(NormalizeInput.class)) {
+            types.add(raw);
+        }
+        for (ResolvableType generic : type.getGenerics()) {
+            collectTypes(generic, annotatedParameter, types);
+        }
+    }
+}
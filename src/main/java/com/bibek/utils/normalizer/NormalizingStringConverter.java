@@ -0,0 +1,85 @@
+package com.bibek.utils.normalizer;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.converter.ConditionalGenericConverter;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Normalizes request parameters while they are bound: {@code @RequestParam}, {@code @PathVariable}
+ * and similar arguments annotated with {@link NormalizeInput}, and the String properties and
+ * constructor arguments of {@code @ModelAttribute} / form / multipart targets that are annotated
+ * themselves or belong to a {@link NormalizeInput} class.
+ * <p>
+ * Registered with the MVC conversion service, it runs as part of the String-to-String
+ * conversion the data binder already performs, so values are normalized in the same pass that
+ * binds them; the bound object is never walked afterwards. Configs are cached per annotation and
+ * per owning class, and {@link StringNormalizer#apply} returns clean values without allocating.
+ */
+final class NormalizingStringConverter implements ConditionalGenericConverter {
+
+    private static final Set<ConvertiblePair> TYPES = Set.of(new ConvertiblePair(String.class, String.class));
+
+    private static final Map<NormalizeInput, NormalizeConfig> ANNOTATION_CONFIGS = new ConcurrentHashMap<>();
+
+    private static final ClassValue<Optional<NormalizeConfig>> TYPE_CONFIGS = new ClassValue<>() {
+        @Override
+        protected Optional<NormalizeConfig> computeValue(Class<?> type) {
+            return Optional.ofNullable(NormalizeConfig.of(type.getAnnotation(NormalizeInput.class)));
+        }
+    };
+
+    @Override
+    public Set<ConvertiblePair> getConvertibleTypes() {
+        return TYPES;
+    }
+
+    @Override
+    public boolean matches(TypeDescriptor sourceType, TypeDescriptor targetType) {
+        return config(targetType) != null;
+    }
+
+    @Override
+    public Object convert(Object source, TypeDescriptor sourceType, TypeDescriptor targetType) {
+        NormalizeConfig config = source != null ? config(targetType) : null;
+        return config != null ? StringNormalizer.apply((String) source, config) : source;
+    }
+
+    /**
+     * The annotation on the parameter or property itself wins, then the one on the class that
+     * declares the property or constructor argument.
+     */
+    static NormalizeConfig config(TypeDescriptor targetType) {
+        NormalizeInput annotation = targetType.getAnnotation(NormalizeInput.class);
+        if (annotation != null) {
+            return ANNOTATION_CONFIGS.computeIfAbsent(annotation, NormalizeConfig::of);
+        }
+        if (targetType.hasAnnotation(SkipNormalization.class)) {
+            return null;
+        }
+        Class<?> owner = owner(targetType.getResolvableType().getSource());
+        return owner != null ? TYPE_CONFIGS.get(owner).orElse(null) : null;
+    }
+
+    /**
+     * The bean class a property or constructor argument belongs to, or {@code null} for handler
+     * method parameters, whose class is a controller and does not opt in.
+     */
+    private static Class<?> owner(Object source) {
+        if (source instanceof MethodParameter parameter) {
+            return parameter.getMethod() == null || isAccessor(parameter) ? parameter.getContainingClass() : null;
+        }
+        return source instanceof Field field ? field.getDeclaringClass() : null;
+    }
+
+    private static boolean isAccessor(MethodParameter parameter) {
+        String name = parameter.getMethod().getName();
+        return (name.startsWith("set") && parameter.getParameterIndex() == 0 && parameter.getMethod().getParameterCount() == 1)
+                || (name.startsWith("get") && parameter.getParameterIndex() == -1);
+    }
+}
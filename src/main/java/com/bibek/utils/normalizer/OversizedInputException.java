@@ -0,0 +1,34 @@
+package com.bibek.utils.normalizer;
+
+/**
+ * Thrown for a String longer than {@link NormalizeInput#maxInputLength()} when the policy is
+ * {@link NormalizeInput.OversizePolicy#REJECT}, and for a {@code JsonNode} or untyped map body
+ * nested too deeply or holding too many values, in which case the length is the depth or value
+ * count reached. Request body normalization reports it as a {@code 400 Bad Request}.
+ */
+public class OversizedInputException extends IllegalArgumentException {
+
+    private final int length;
+
+    private final int maxLength;
+
+    public OversizedInputException(int length, int maxLength) {
+        super("String value of length " + length + " exceeds the maximum input length of " + maxLength);
+        this.length = length;
+        this.maxLength = maxLength;
+    }
+
+    OversizedInputException(String message, int length, int maxLength) {
+        super(message);
+        this.length = length;
+        this.maxLength = maxLength;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    public int getMaxLength() {
+        return maxLength;
+    }
+}
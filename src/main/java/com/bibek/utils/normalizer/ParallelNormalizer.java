@@ -0,0 +1,154 @@
+package com.bibek.utils.normalizer;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Normalizes very large object graphs on a bounded, dedicated fork-join pool: a list or array
+ * with at least {@code threshold} elements is split into tasks of at most {@code threshold}
+ * elements each, which may split their own large collections further. Graphs without such a
+ * collection are walked sequentially on the calling thread, exactly as by
+ * {@link StringNormalizer#normalize(Object, NormalizeConfig)}.
+ * <p>
+ * The pool has {@code parallelism} daemon threads and never grows beyond them, so a burst of
+ * large bodies queues up instead of taking threads or CPUs from the servlet container. The
+ * calling thread waits for the walk to finish.
+ * <p>
+ * Only indexed collections ({@code RandomAccess} lists and arrays) are split, and only while the
+ * walk is not tracking cycles; cyclic and polymorphic graphs, sets, maps and JSON trees are walked
+ * sequentially. Elements of a split collection are assumed not to share mutable objects, as is the
+ * case for deserialized bodies. Close the normalizer to shut the pool down.
+ */
+public final class ParallelNormalizer implements AutoCloseable {
+
+    public static final int DEFAULT_THRESHOLD = 2048;
+
+    private static final AtomicInteger POOLS = new AtomicInteger();
+
+    private final ForkJoinPool pool;
+
+    private final int threshold;
+
+    /**
+     * @param parallelism number of pool threads, also the maximum
+     * @param threshold   element count from which a list or array is split
+     */
+    public ParallelNormalizer(int parallelism, int threshold) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        if (threshold < 2) {
+            throw new IllegalArgumentException("threshold must be at least 2: " + threshold);
+        }
+        String prefix = "request-normalizer-" + POOLS.incrementAndGet() + "-";
+        AtomicInteger threads = new AtomicInteger();
+        this.pool = new ForkJoinPool(parallelism, owner -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(owner);
+            thread.setName(prefix + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false, 0, parallelism, 1, saturated -> true, 60, TimeUnit.SECONDS);
+        this.threshold = threshold;
+    }
+
+    /**
+     * Returns half the available processors, at least one: the default pool size, leaving the
+     * other half to request threads.
+     */
+    public static int defaultParallelism() {
+        return Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Same as {@link StringNormalizer#normalize(Object, NormalizeConfig)}, splitting large
+     * collections across the pool.
+     */
+    public void normalize(Object obj, NormalizeConfig config) {
+        if (obj == null || config == null) return;
+
+        NormalizationWalk walk = new NormalizationWalk(config, this);
+        ValueHandler container = ValueHandler.forContainer(obj);
+        if (container != null) {
+            container.normalize(obj, walk);
+        } else {
+            ValueHandler.BeanHandler.walk(obj, NormalizationPlan.of(obj.getClass()), false, walk);
+        }
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    /**
+     * Whether a collection of {@code size} elements reached by {@code walk} is to be split.
+     */
+    boolean splits(int size, NormalizationWalk walk) {
+        return size >= threshold && !walk.tracksCycles();
+    }
+
+    /**
+     * Runs {@code step} for every index below {@code size} on the pool, each task with its own
+     * walk starting from the config {@code walk} is in, and adds the tasks' counts to {@code walk}.
+     */
+    void forEachIndex(int size, NormalizationWalk walk, IndexedStep step) {
+        SplitTask task = new SplitTask(0, size, walk.config, step);
+        walk.merge(ForkJoinTask.getPool() == pool ? task.invoke() : pool.invoke(task));
+    }
+
+    /**
+     * Normalizes the element at one index of a collection being split.
+     */
+    @FunctionalInterface
+    interface IndexedStep {
+
+        void apply(int index, NormalizationWalk walk);
+    }
+
+    /**
+     * Halves its index range until at most {@code threshold} indexes remain, then walks them and
+     * returns its walk for the counts.
+     */
+    private final class SplitTask extends RecursiveTask<NormalizationWalk> {
+
+        private final int from;
+
+        private final int to;
+
+        private final NormalizeConfig config;
+
+        private final IndexedStep step;
+
+        SplitTask(int from, int to, NormalizeConfig config, IndexedStep step) {
+            this.from = from;
+            this.to = to;
+            this.config = config;
+            this.step = step;
+        }
+
+        @Override
+        protected NormalizationWalk compute() {
+            if (to - from <= threshold) {
+                NormalizationWalk walk = new NormalizationWalk(config, ParallelNormalizer.this);
+                for (int i = from; i < to; i++) {
+                    step.apply(i, walk);
+                }
+                return walk;
+            }
+            int middle = (from + to) >>> 1;
+            SplitTask left = new SplitTask(from, middle, config, step);
+            left.fork();
+            NormalizationWalk walk = new SplitTask(middle, to, config, step).compute();
+            walk.merge(left.join());
+            return walk;
+        }
+    }
+}
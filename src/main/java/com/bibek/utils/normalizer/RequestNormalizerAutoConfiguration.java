@@ -1,14 +1,152 @@
 package com.bibek.utils.normalizer;
 
+import com.bibek.utils.normalizer.jackson.NormalizingJacksonModule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.context.annotation.Import;
+import org.springframework.core.env.Environment;
+import org.springframework.format.FormatterRegistry;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.validation.SmartValidator;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.List;
 
 @Configuration
 @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @ConditionalOnClass(RequestBodyAdviceAdapter.class)
-@Import(RequestNormalizerRequestBodyAdvice.class)
 public class RequestNormalizerAutoConfiguration {
+
+    @Bean
+    HandlerNormalizationRegistry handlerNormalizationRegistry(ObjectProvider<RequestMappingHandlerMapping> handlerMappings,
+                                                              ObjectProvider<ObjectMapper> objectMapper,
+                                                              ObjectProvider<NormalizationRecorder> recorder,
+                                                              ObjectProvider<ParallelNormalizer> parallel,
+                                                              Environment environment) {
+        ObjectMapper mapper = objectMapper.getIfUnique();
+        HandlerNormalizationRegistry registry = new HandlerNormalizationRegistry(handlerMappings, mapper,
+                recorder.getIfUnique(() -> NormalizationRecorder.NONE));
+        registry.setTreeLimits(
+                environment.getProperty("request-normalizer.tree.max-depth", Integer.class, JsonTreeHandler.DEFAULT_MAX_DEPTH),
+                environment.getProperty("request-normalizer.tree.max-nodes", Integer.class, JsonTreeHandler.DEFAULT_MAX_NODES));
+        registry.setPolicies(NormalizationPolicies.bind(environment));
+        registry.setParallel(parallel.getIfUnique());
+        return registry;
+    }
+
+    /**
+     * Dedicated pool that splits large collections in request bodies across its threads; closed
+     * with the context.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "request-normalizer.parallel.enabled", havingValue = "true")
+    @ConditionalOnMissingBean(ParallelNormalizer.class)
+    ParallelNormalizer requestNormalizerParallelNormalizer(Environment environment) {
+        return new ParallelNormalizer(
+                environment.getProperty("request-normalizer.parallel.parallelism", Integer.class,
+                        ParallelNormalizer.defaultParallelism()),
+                environment.getProperty("request-normalizer.parallel.threshold", Integer.class,
+                        ParallelNormalizer.DEFAULT_THRESHOLD));
+    }
+
+    @Bean
+    NormalizationPolicyReloader normalizationPolicyReloader(HandlerNormalizationRegistry registry,
+                                                            Environment environment) {
+        return new NormalizationPolicyReloader(registry, environment);
+    }
+
+    @Bean
+    RequestNormalizerRequestBodyAdvice requestNormalizerRequestBodyAdvice(HandlerNormalizationRegistry registry,
+                                                                          Environment environment) {
+        return new RequestNormalizerRequestBodyAdvice(registry,
+                environment.getProperty("request-normalizer.track-changes", Boolean.class, false),
+                FusedConstraints.PRESENT
+                        && environment.getProperty("request-normalizer.validation.fused", Boolean.class, false));
+    }
+
+    @Bean
+    RequestNormalizerResponseBodyAdvice requestNormalizerResponseBodyAdvice(HandlerNormalizationRegistry registry) {
+        return new RequestNormalizerResponseBodyAdvice(registry);
+    }
+
+    @Bean
+    WebMvcConfigurer bindingNormalizerConfigurer() {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addFormatters(FormatterRegistry registry) {
+                registry.addConverter(new NormalizingStringConverter());
+            }
+        };
+    }
+
+    /**
+     * Registers the normalizing Jackson module beans with the ObjectMappers of the CBOR and Smile
+     * converters too, which Spring MVC builds separately from the application's ObjectMapper, so
+     * bodies in those formats are built from normalized values like JSON ones.
+     */
+    @Bean
+    WebMvcConfigurer binaryFormatNormalizerConfigurer(ObjectProvider<NormalizingJacksonModule> modules) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+                for (HttpMessageConverter<?> converter : converters) {
+                    if (converter instanceof MappingJackson2CborHttpMessageConverter
+                            || converter instanceof MappingJackson2SmileHttpMessageConverter) {
+                        ObjectMapper mapper = ((AbstractJackson2HttpMessageConverter) converter).getObjectMapper();
+                        modules.orderedStream().forEach(mapper::registerModule);
+                    }
+                }
+            }
+        };
+    }
+
+    @Bean
+    WebMvcConfigurer ndjsonRequestBodyConfigurer(ObjectProvider<ObjectMapper> objectMapper) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+                ObjectMapper mapper = objectMapper.getIfUnique(() -> Jackson2ObjectMapperBuilder.json().build());
+                // Elements are normalized by the advice, with policies applied
+                converters.add(new NdjsonHttpMessageConverter(mapper, false));
+            }
+        };
+    }
+
+    /**
+     * Wraps the {@code mvcValidator} bean in a {@link FusedValidator}, so bodies checked while
+     * normalizing are not validated again. The bean is decorated rather than replaced through
+     * {@code WebMvcConfigurer#getValidator}, which would clash with an application configurer that
+     * supplies its own validator; that validator is wrapped instead.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "jakarta.validation.Validator")
+    @ConditionalOnProperty(name = "request-normalizer.validation.fused", havingValue = "true")
+    static class FusedValidationConfiguration {
+
+        @Bean
+        static BeanPostProcessor fusedValidationPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if ("mvcValidator".equals(beanName) && bean instanceof SmartValidator validator
+                            && !(bean instanceof FusedValidator)) {
+                        return new FusedValidator(validator);
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
 }
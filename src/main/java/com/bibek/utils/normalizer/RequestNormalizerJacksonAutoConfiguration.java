@@ -0,0 +1,35 @@
+package com.bibek.utils.normalizer;
+
+import com.bibek.utils.normalizer.jackson.NormalizingJacksonModule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers {@link NormalizingJacksonModule} with the application's {@code ObjectMapper}: the full
+ * module when {@code request-normalizer.jackson.enabled=true}, otherwise the
+ * {@link NormalizingJacksonModule#creatorsOnly() creators-only} variant when
+ * {@code request-normalizer.jackson.creators.enabled=true}, so {@link NormalizeInput} records and
+ * {@code @JsonCreator} types are constructed from normalized values. Both are opt-in: the module
+ * applies to every deserialization by that mapper, not only to request bodies.
+ */
+@Configuration
+@ConditionalOnClass(ObjectMapper.class)
+class RequestNormalizerJacksonAutoConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "request-normalizer.jackson", name = "enabled", havingValue = "true")
+    NormalizingJacksonModule normalizingJacksonModule() {
+        return new NormalizingJacksonModule();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "request-normalizer.jackson", name = "enabled", havingValue = "false",
+            matchIfMissing = true)
+    @ConditionalOnProperty(prefix = "request-normalizer.jackson.creators", name = "enabled", havingValue = "true")
+    NormalizingJacksonModule normalizingCreatorsJacksonModule() {
+        return NormalizingJacksonModule.creatorsOnly();
+    }
+}
@@ -0,0 +1,29 @@
+package com.bibek.utils.normalizer;
+
+import com.bibek.utils.normalizer.metrics.MicrometerNormalizationRecorder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Publishes normalization metrics per DTO type when Micrometer is on the classpath and a
+ * {@link MeterRegistry} bean exists. Disable with {@code request-normalizer.metrics.enabled=false}.
+ */
+@Configuration
+@AutoConfigureAfter(name = "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration")
+@ConditionalOnClass(MeterRegistry.class)
+@ConditionalOnBean(MeterRegistry.class)
+@ConditionalOnProperty(prefix = "request-normalizer.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+class RequestNormalizerMetricsAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean(NormalizationRecorder.class)
+    MicrometerNormalizationRecorder micrometerNormalizationRecorder(MeterRegistry meterRegistry) {
+        return new MicrometerNormalizationRecorder(meterRegistry);
+    }
+}
@@ -1,23 +1,98 @@
 package com.bibek.utils.normalizer;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.core.MethodParameter;
 import org.springframework.http.HttpInputMessage;
 import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.validation.annotation.ValidationAnnotationUtils;
 import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 
 @ControllerAdvice
 public class RequestNormalizerRequestBodyAdvice extends RequestBodyAdviceAdapter {
 
+    private final HandlerNormalizationRegistry registry;
+
+    private final boolean parseTimeNormalization;
+
+    private final boolean creatorNormalization;
+
+    private final ObjectMapper objectMapper;
+
+    private final NormalizationRecorder recorder;
+
+    private final boolean trackChanges;
+
+    private final boolean fusedValidation;
+
+    private final ParallelNormalizer parallel;
+
+    public RequestNormalizerRequestBodyAdvice() {
+        this(false);
+    }
+
+    /**
+     * @param parseTimeNormalization whether the request body {@code ObjectMapper} has the
+     *                               {@link com.bibek.utils.normalizer.jackson.NormalizingJacksonModule}
+     *                               registered, in which case bodies of {@link NormalizeInput}
+     *                               types with only direct String fields arrive already
+     *                               normalized and are not walked again
+     */
+    public RequestNormalizerRequestBodyAdvice(boolean parseTimeNormalization) {
+        this.registry = null;
+        this.parseTimeNormalization = parseTimeNormalization;
+        this.creatorNormalization = parseTimeNormalization;
+        this.objectMapper = null;
+        this.recorder = NormalizationRecorder.NONE;
+        this.trackChanges = false;
+        this.fusedValidation = false;
+        this.parallel = null;
+    }
+
+    /**
+     * Uses targets resolved at startup, falling back to per-call resolution for parameters the
+     * registry did not see, and reports to the registry's {@link NormalizationRecorder}.
+     */
+    RequestNormalizerRequestBodyAdvice(HandlerNormalizationRegistry registry) {
+        this(registry, false);
+    }
+
+    /**
+     * @param trackChanges whether to store the {@link NormalizationResult} of bean bodies as the
+     *                     {@link NormalizationResult#ATTRIBUTE} request attribute
+     */
+    RequestNormalizerRequestBodyAdvice(HandlerNormalizationRegistry registry, boolean trackChanges) {
+        this(registry, trackChanges, false);
+    }
+
+    /**
+     * @param fusedValidation whether to check the simple Bean Validation constraints of
+     *                        {@code @Valid} bean bodies while normalizing them, marking valid ones
+     *                        for {@link FusedValidator}; ignored when tracking changes
+     */
+    RequestNormalizerRequestBodyAdvice(HandlerNormalizationRegistry registry, boolean trackChanges,
+                                       boolean fusedValidation) {
+        this.registry = registry;
+        this.parseTimeNormalization = registry.isParseTimeNormalization();
+        this.creatorNormalization = registry.isCreatorNormalization();
+        this.objectMapper = registry.objectMapper();
+        this.recorder = registry.recorder();
+        this.trackChanges = trackChanges;
+        this.fusedValidation = fusedValidation && !trackChanges;
+        this.parallel = registry.parallel();
+    }
+
     @Override
     public boolean supports(MethodParameter methodParameter,
                             Type targetType,
                             Class<? extends HttpMessageConverter<?>> converterType) {
-        Class<?> type = methodParameter.getParameterType();
-        return methodParameter.hasParameterAnnotation(NormalizeInput.class)
-                || type.isAnnotationPresent(NormalizeInput.class);
+        return target(methodParameter).isActive();
     }
 
     @Override
@@ -26,23 +101,47 @@ public class RequestNormalizerRequestBodyAdvice extends RequestBodyAdviceAdapter
                                 MethodParameter parameter,
                                 Type targetType,
                                 Class<? extends HttpMessageConverter<?>> converterType) {
-        NormalizeConfig config = resolveConfig(parameter);
-        if (config != null) {
-            StringNormalizer.normalize(body, config);
+        NormalizationTarget target = target(parameter);
+        if (!target.isActive()) {
+            return body;
+        }
+        try {
+            if (trackChanges && target.isBean(body)) {
+                NormalizationResult result = target.normalizeTracked(body, recorder);
+                RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+                if (attributes != null) {
+                    attributes.setAttribute(NormalizationResult.ATTRIBUTE, result, RequestAttributes.SCOPE_REQUEST);
+                }
+                return body;
+            }
+            if (fusedValidation && target.isBean(body) && isDefaultGroupValidated(parameter)) {
+                if (target.normalizeValidated(body, recorder)) {
+                    FusedValidator.markValidated(body);
+                }
+                return body;
+            }
+            return target.normalize(body, recorder, parallel);
+        } catch (OversizedInputException e) {
+            throw new HttpMessageNotReadableException(e.getMessage(), e, inputMessage);
         }
-        return body;
     }
 
-    private NormalizeConfig resolveConfig(MethodParameter parameter) {
-        NormalizeInput paramAnnotation = parameter.getParameterAnnotation(NormalizeInput.class);
-        if (paramAnnotation != null) {
-            return new NormalizeConfig(paramAnnotation.trim(), paramAnnotation.blankToNull(), paramAnnotation.collapseSpaces());
-        }
-        Class<?> type = parameter.getParameterType();
-        NormalizeInput typeAnnotation = type.getAnnotation(NormalizeInput.class);
-        if (typeAnnotation != null) {
-            return new NormalizeConfig(typeAnnotation.trim(), typeAnnotation.blankToNull(), typeAnnotation.collapseSpaces());
+    /**
+     * Whether MVC validates the body with {@code @Valid}, or {@code @Validated} without groups.
+     */
+    private static boolean isDefaultGroupValidated(MethodParameter parameter) {
+        for (Annotation annotation : parameter.getParameterAnnotations()) {
+            Object[] hints = ValidationAnnotationUtils.determineValidationHints(annotation);
+            if (hints != null) {
+                return hints.length == 0;
+            }
         }
-        return null;
+        return false;
+    }
+
+    private NormalizationTarget target(MethodParameter parameter) {
+        NormalizationTarget target = registry != null ? registry.lookup(parameter) : null;
+        return target != null ? target : HandlerNormalizationRegistry.resolve(parameter, parseTimeNormalization,
+                creatorNormalization, objectMapper);
     }
 }
@@ -0,0 +1,92 @@
+package com.bibek.utils.normalizer;
+
+import com.bibek.utils.normalizer.jackson.NormalizedValue;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.lang.reflect.Type;
+
+/**
+ * Normalizes the response body of handler methods annotated with {@link NormalizeInput}.
+ * <p>
+ * Nothing is walked or copied up front: Jackson bodies are wrapped in a {@link NormalizedValue},
+ * whose serializer normalizes each String as it is written. The returned object is never
+ * modified, so cached or shared instances can be returned as they are. {@code String} bodies are
+ * normalized directly; bodies written by other converters are left alone.
+ */
+@ControllerAdvice
+public class RequestNormalizerResponseBodyAdvice implements ResponseBodyAdvice<Object> {
+
+    private final HandlerNormalizationRegistry registry;
+
+    public RequestNormalizerResponseBodyAdvice() {
+        this.registry = null;
+    }
+
+    /**
+     * Uses response configs resolved at startup.
+     */
+    RequestNormalizerResponseBodyAdvice(HandlerNormalizationRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return returnType.getMethod() != null && config(returnType) != null;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body,
+                                  MethodParameter returnType,
+                                  MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request,
+                                  ServerHttpResponse response) {
+        NormalizeConfig config = config(returnType);
+        if (body == null || config == null) {
+            return body;
+        }
+        if (body instanceof String text) {
+            return StringNormalizer.apply(text, config);
+        }
+        if (!AbstractJackson2HttpMessageConverter.class.isAssignableFrom(selectedConverterType)) {
+            return body;
+        }
+        JavaType declared = declaredType(returnType);
+        if (body instanceof MappingJacksonValue container) {
+            container.setValue(new NormalizedValue(container.getValue(), config, declared));
+            return container;
+        }
+        return new NormalizedValue(body, config, declared);
+    }
+
+    /**
+     * The declared body type of the handler, as Spring MVC resolves it for its converters: the
+     * body type of an {@code HttpEntity}, otherwise the return type.
+     */
+    private static JavaType declaredType(MethodParameter returnType) {
+        Type type = HttpEntity.class.isAssignableFrom(returnType.getParameterType())
+                ? ResolvableType.forType(returnType.getGenericParameterType()).getGeneric().getType()
+                : returnType.getGenericParameterType();
+        return TypeFactory.defaultInstance()
+                .constructType(GenericTypeResolver.resolveType(type, returnType.getContainingClass()));
+    }
+
+    private NormalizeConfig config(MethodParameter returnType) {
+        return registry != null
+                ? registry.lookupResponse(returnType.getMethod())
+                : HandlerNormalizationRegistry.responseConfig(returnType.getMethod());
+    }
+}
@@ -0,0 +1,16 @@
+package com.bibek.utils.normalizer;
+
+import com.bibek.utils.normalizer.reactive.WebClientNormalizerCustomizer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * Auto-configuration for WebClient normalization support.
+ */
+@Configuration
+@ConditionalOnClass(WebClient.class)
+@Import(WebClientNormalizerCustomizer.class)
+class RequestNormalizerWebClientAutoConfiguration {
+}
@@ -0,0 +1,50 @@
+package com.bibek.utils.normalizer;
+
+import com.bibek.utils.normalizer.reactive.NormalizingJackson2JsonDecoder;
+import com.bibek.utils.normalizer.reactive.NormalizingJackson2JsonEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.format.FormatterRegistry;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+/**
+ * Auto-configuration for WebFlux {@code @RequestBody} normalization: replaces the JSON decoder
+ * (after Boot's own Jackson codec customizer) with one that normalizes values as they are decoded,
+ * and the JSON encoder with one that normalizes the responses of {@link NormalizeInput} handler
+ * methods as they are written. Request parameters and form fields are normalized while they are
+ * bound, as in MVC.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@ConditionalOnClass({Jackson2JsonDecoder.class, ObjectMapper.class})
+class RequestNormalizerWebFluxAutoConfiguration {
+
+    @Bean
+    @Order(1)
+    CodecCustomizer normalizingCodecCustomizer(ObjectProvider<ObjectMapper> objectMapper) {
+        return configurer -> {
+            ObjectMapper mapper = objectMapper.getIfUnique();
+            configurer.defaultCodecs().jackson2JsonDecoder(mapper != null
+                    ? new NormalizingJackson2JsonDecoder(mapper)
+                    : new NormalizingJackson2JsonDecoder());
+            configurer.defaultCodecs().jackson2JsonEncoder(NormalizingJackson2JsonEncoder.forResponses(mapper));
+        };
+    }
+
+    @Bean
+    WebFluxConfigurer bindingNormalizerConfigurer() {
+        return new WebFluxConfigurer() {
+            @Override
+            public void addFormatters(FormatterRegistry registry) {
+                registry.addConverter(new NormalizingStringConverter());
+            }
+        };
+    }
+}
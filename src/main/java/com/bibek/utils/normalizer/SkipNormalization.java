@@ -0,0 +1,23 @@
+package com.bibek.utils.normalizer;
+
+import java.lang.annotation.*;
+
+/**
+ * Excludes a field from normalization, e.g. base64 attachments or raw JSON blobs inside an
+ * {@link NormalizeInput} type. The field is left out of the type's cached normalization plan, so
+ * it is never read, scanned or descended into.
+ *
+ * <pre>{@code
+ * @NormalizeInput
+ * public class UploadRequest {
+ *     private String fileName;      // normalized
+ *     @SkipNormalization
+ *     private String contentBase64; // never touched
+ * }
+ * }</pre>
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface SkipNormalization {
+}
@@ -0,0 +1,126 @@
+package com.bibek.utils.normalizer;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache that lets equal normalized values share one String instance, for low-cardinality
+ * fields (country, currency and status codes) repeated across many bodies.
+ * <p>
+ * The cache is a fixed, direct-mapped table: each value hashes to one slot, and a miss simply
+ * overwrites whatever the slot held. There are no locks and no resizing, so memory is bounded by
+ * {@code capacity} entries of at most {@link #MAX_LENGTH} characters, and hot values survive while
+ * one-off values keep evicting each other. Slots are read and written without synchronization,
+ * which is safe because Strings are immutable: a racing reader sees either the old or the new
+ * value, and only ever returns an instance equal to its input.
+ * <p>
+ * {@link #deduplicate(CharSequence)} compares a parser's character buffer with the cached value
+ * directly, so a hit returns the shared instance without allocating a String at all.
+ */
+public final class StringDeduplicator {
+
+    /**
+     * Values longer than this are returned as-is: long values are rarely repeated and would make
+     * the cache's memory bound meaningless.
+     */
+    public static final int MAX_LENGTH = 64;
+
+    private static final int DEFAULT_CAPACITY = 4096;
+
+    private static final StringDeduplicator SHARED = new StringDeduplicator(DEFAULT_CAPACITY);
+
+    private final String[] slots;
+
+    private final int mask;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param capacity number of slots, rounded up to a power of two
+     */
+    public StringDeduplicator(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.slots = new String[capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1];
+        this.mask = slots.length - 1;
+    }
+
+    /**
+     * The instance used for {@link NormalizeInput#deduplicate()} values, with 4096 slots.
+     */
+    public static StringDeduplicator shared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns the cached String equal to {@code value}, or caches and returns {@code value}.
+     */
+    public String deduplicate(String value) {
+        if (value == null || value.length() > MAX_LENGTH) {
+            return value;
+        }
+        int slot = slot(value.hashCode());
+        String cached = slots[slot];
+        if (cached != null && cached.equals(value)) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        slots[slot] = value;
+        return value;
+    }
+
+    /**
+     * Returns the cached String with the same characters as {@code value}, materializing and
+     * caching {@code value} only on a miss.
+     */
+    public String deduplicate(CharSequence value) {
+        if (value instanceof String string) {
+            return deduplicate(string);
+        }
+        if (value == null) {
+            return null;
+        }
+        int length = value.length();
+        if (length > MAX_LENGTH) {
+            return value.toString();
+        }
+        int hash = 0;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + value.charAt(i);
+        }
+        int slot = slot(hash);
+        String cached = slots[slot];
+        if (cached != null && cached.contentEquals(value)) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        String string = value.toString();
+        slots[slot] = string;
+        return string;
+    }
+
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum());
+    }
+
+    private int slot(int hash) {
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    /**
+     * Lookups since the deduplicator was created. Values over {@link #MAX_LENGTH} are not counted.
+     */
+    public record Stats(long hits, long misses) {
+
+        /**
+         * Fraction of lookups that returned a cached instance, or {@code 0} before any lookup.
+         */
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+    }
+}
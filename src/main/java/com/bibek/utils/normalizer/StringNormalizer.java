@@ -1,52 +1,233 @@
 package com.bibek.utils.normalizer;
 
-import java.lang.reflect.Field;
-import java.util.regex.Pattern;
+import java.nio.CharBuffer;
 
 /**
  * Shared normalization logic for request body string fields.
  */
 public final class StringNormalizer {
 
-    private static final Pattern MULTIPLE_SPACES = Pattern.compile("\\s{2,}");
-
+    /**
+     * Normalizes, in place, every String reachable from {@code obj}: its own and inherited String
+     * fields, String elements of collections and arrays, String map values, and the same inside
+     * nested objects. Traversal follows a cached per-class plan, see {@link #prepare(Class[])};
+     * fields whose declared type cannot lead to a String are never visited. When {@code obj} is
+     * itself a collection, map or array, each element (map value) is normalized with {@code config}.
+     */
     public static void normalize(Object obj, NormalizeConfig config) {
+        normalize(obj, config, NormalizationRecorder.NONE, null);
+    }
+
+    /**
+     * Same as {@link #normalize(Object, NormalizeConfig)}, reporting the time taken and the fields
+     * and Strings visited to {@code recorder} under {@code type} (the runtime class of {@code obj}
+     * if {@code null}).
+     */
+    public static void normalize(Object obj, NormalizeConfig config, NormalizationRecorder recorder, Class<?> type) {
         if (obj == null || config == null) return;
 
-        Class<?> clazz = obj.getClass();
-        while (clazz != null && clazz != Object.class) {
-            for (Field field : clazz.getDeclaredFields()) {
-                if (field.getType() == String.class) {
-                    field.setAccessible(true);
-                    try {
-                        String value = (String) field.get(obj);
-                        if (value != null) {
-                            String normalized = apply(value, config);
-                            field.set(obj, normalized);
-                        }
-                    } catch (IllegalAccessException e) {
-                        throw new RuntimeException(e);
-                    }
-                }
-            }
-            clazz = clazz.getSuperclass();
+        long start = recorder != NormalizationRecorder.NONE ? System.nanoTime() : 0L;
+        NormalizationWalk walk = new NormalizationWalk(config);
+        ValueHandler container = ValueHandler.forContainer(obj);
+        if (container != null) {
+            container.normalize(obj, walk);
+        } else {
+            ValueHandler.BeanHandler.walk(obj, NormalizationPlan.of(obj.getClass()), false, walk);
+        }
+        if (recorder != NormalizationRecorder.NONE) {
+            walk.report(recorder, type != null ? type : obj.getClass(), start);
+        }
+    }
+
+    /**
+     * Same as {@link #normalize(Object, NormalizeConfig)}, returning what changed, so callers such
+     * as audit logging need not compare the object with a copy. Returns
+     * {@link NormalizationResult#UNCHANGED} when nothing changed.
+     */
+    public static NormalizationResult normalizeTracked(Object obj, NormalizeConfig config) {
+        if (obj == null || config == null) return NormalizationResult.UNCHANGED;
+
+        NormalizationWalk walk = new NormalizationWalk(config);
+        ValueHandler container = ValueHandler.forContainer(obj);
+        if (container != null) {
+            container.normalize(obj, walk);
+            return NormalizationResult.ofCount(walk.changed);
+        }
+        return walkTracked(obj, walk);
+    }
+
+    static NormalizationResult walkTracked(Object bean, NormalizationWalk walk) {
+        NormalizationPlan plan = NormalizationPlan.of(bean.getClass());
+        if (plan.mayRevisit()) {
+            walk.trackCycles();
+            walk.enter(bean);
         }
+        return plan.walkTracked(bean, walk);
     }
 
+    /**
+     * Normalizes {@code bean} and checks its simple Bean Validation constraints in the same walk
+     * (see {@link NormalizationPlan#walkValidated}); returns whether it is known to be valid.
+     */
+    static boolean walkValidated(Object bean, NormalizationWalk walk) {
+        NormalizationPlan plan = NormalizationPlan.of(bean.getClass());
+        if (plan.mayRevisit()) {
+            walk.trackCycles();
+            walk.enter(bean);
+        }
+        return plan.walkValidated(bean, walk);
+    }
+
+    /**
+     * Returns whether all Strings {@link #normalize} reaches from an instance of {@code type} are
+     * String fields of that type itself (no nested objects, collections, maps or arrays).
+     */
+    public static boolean isFlat(Class<?> type) {
+        return NormalizationPlan.of(type).isFlat();
+    }
+
+    /**
+     * Builds and caches the normalization plans for the given types up front, so the first
+     * request for each type does not pay for field discovery. Fails fast with an
+     * {@link IllegalStateException} if a type has String fields that cannot be written.
+     */
+    public static void prepare(Class<?>... types) {
+        for (Class<?> type : types) {
+            NormalizationPlan.of(type);
+        }
+    }
+
+    /**
+     * Normalizes a single value in one pass. Trimming, collapsing and blank detection share one
+     * definition of whitespace: space, tab, line feed, vertical tab, form feed and carriage
+     * return (the characters matched by the regex {@code \s}).
+     * <p>
+     * Values longer than {@link NormalizeConfig#maxInputLength()} are returned unchanged (or
+     * rejected) without being scanned.
+     * <p>
+     * Returns {@code value} itself when it is already normalized; otherwise allocates only the
+     * resulting String. With {@link NormalizeConfig#deduplicate()} the result is the instance
+     * shared through {@link StringDeduplicator#shared()}.
+     */
     public static String apply(String value, NormalizeConfig config) {
         if (value == null) return null;
+        if (isOversized(value.length(), config)) return value;
+
+        return toString(config.extended() ? FusedScanner.scan(value, config) : scan(value, config), config);
+    }
+
+    /**
+     * Normalizes {@code chars[offset, offset + length)}, e.g. a parser's text buffer, without
+     * first materializing the raw value as a String.
+     */
+    public static String apply(char[] chars, int offset, int length, NormalizeConfig config) {
+        if (isOversized(length, config)) return new String(chars, offset, length);
+        CharBuffer value = CharBuffer.wrap(chars, offset, length);
+        return toString(config.extended() ? FusedScanner.scan(value, config) : scan(value, config), config);
+    }
+
+    /**
+     * Returns whether a value of {@code length} is to be left unchanged, or throws if it must be rejected.
+     */
+    private static boolean isOversized(int length, NormalizeConfig config) {
+        int max = config.maxInputLength();
+        if (max == 0 || length <= max) {
+            return false;
+        }
+        if (config.rejectOversized()) {
+            throw new OversizedInputException(length, max);
+        }
+        return true;
+    }
+
+    private static String toString(CharSequence normalized, NormalizeConfig config) {
+        if (normalized == null) {
+            return null;
+        }
+        // A buffer hit returns the shared instance without materializing the value
+        return config.deduplicate() ? StringDeduplicator.shared().deduplicate(normalized) : normalized.toString();
+    }
 
+    /**
+     * Returns {@code value} itself when nothing changes, a sub-sequence when only trimming
+     * applies, a new String when runs were collapsed, or {@code null} for blank-to-null.
+     */
+    private static CharSequence scan(CharSequence value, NormalizeConfig config) {
+        int length = value.length();
+        int start = 0;
+        while (start < length && isWhitespace(value.charAt(start))) {
+            start++;
+        }
+        if (start == length) {
+            return applyBlank(value, config);
+        }
+        int end = length;
+        while (isWhitespace(value.charAt(end - 1))) {
+            end--;
+        }
+        if (!config.trim()) {
+            start = 0;
+            end = length;
+        }
         if (config.collapseSpaces()) {
-            value = MULTIPLE_SPACES.matcher(value).replaceAll(" ");
+            for (int i = start + 1; i < end; i++) {
+                if (isWhitespace(value.charAt(i)) && isWhitespace(value.charAt(i - 1))) {
+                    return collapse(value, start, end, i - 1);
+                }
+            }
+        }
+        return start == 0 && end == length ? value : value.subSequence(start, end);
+    }
+
+    /**
+     * Normalizes an all-whitespace value: blank-to-null applies to what is empty after trimming,
+     * so without trimming only an empty value becomes {@code null}.
+     */
+    private static CharSequence applyBlank(CharSequence value, NormalizeConfig config) {
+        if (config.blankToNull() && (config.trim() || value.length() == 0)) {
+            return null;
         }
         if (config.trim()) {
-            value = value.trim();
+            return "";
         }
-        if (config.blankToNull() && value.isEmpty()) {
-            return null;
+        if (config.collapseSpaces() && value.length() > 1) {
+            return " ";
         }
         return value;
     }
 
+    /**
+     * Copies {@code value[start, end)} replacing every whitespace run of two or more characters
+     * with a single space; {@code firstRun} is the index of the first such run.
+     */
+    private static String collapse(CharSequence value, int start, int end, int firstRun) {
+        char[] buffer = new char[end - start];
+        int length = 0;
+        while (length < firstRun - start) {
+            buffer[length] = value.charAt(start + length);
+            length++;
+        }
+        int i = firstRun;
+        while (i < end) {
+            char c = value.charAt(i);
+            if (!isWhitespace(c)) {
+                buffer[length++] = c;
+                i++;
+                continue;
+            }
+            int runEnd = i + 1;
+            while (runEnd < end && isWhitespace(value.charAt(runEnd))) {
+                runEnd++;
+            }
+            buffer[length++] = runEnd - i > 1 ? ' ' : c;
+            i = runEnd;
+        }
+        return new String(buffer, 0, length);
+    }
+
+    static boolean isWhitespace(char c) {
+        return c == ' ' || (c >= '\t' && c <= '\r');
+    }
+
     private StringNormalizer() {}
 }
@@ -0,0 +1,317 @@
+package com.bibek.utils.normalizer;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.stream.Stream;
+
+/**
+ * Normalizes a value of a statically known shape, as resolved by {@link NormalizationPlan}.
+ * <p>
+ * {@link #normalize} returns the replacement for {@code value}: a different instance only for
+ * Strings (and dynamically typed values holding Strings); containers and beans are updated in place
+ * and returned as-is.
+ */
+abstract class ValueHandler {
+
+    static final ValueHandler STRING = new ValueHandler() {
+        @Override
+        Object normalize(Object value, NormalizationWalk walk) {
+            String text = (String) value;
+            return walk.countString(text, text != null ? StringNormalizer.apply(text, walk.config) : null);
+        }
+
+        @Override
+        boolean replaces() {
+            return true;
+        }
+    };
+
+    /**
+     * Handles values whose declared type ({@code Object}, an interface, an abstract class, an
+     * unresolved type variable) says nothing about whether they hold Strings. Only Strings,
+     * collections, maps, arrays and {@link NormalizeInput} types are descended into.
+     */
+    static final ValueHandler DYNAMIC = new DynamicHandler(false);
+
+    /**
+     * Handles the elements of a collection, map or array passed to {@link StringNormalizer#normalize}
+     * directly: the caller's config applies to them, so any bean is walked, annotated or not.
+     */
+    static final ValueHandler ELEMENT = new DynamicHandler(true);
+
+    abstract Object normalize(Object value, NormalizationWalk walk);
+
+    /**
+     * Whether {@link #normalize} may return a different instance, i.e. whether the owner must
+     * write the result back.
+     */
+    boolean replaces() {
+        return false;
+    }
+
+    /**
+     * Returns the handler for a collection, map, array or JSON tree passed as the root of a walk,
+     * or {@code null} if {@code root} is not a container.
+     */
+    static ValueHandler forContainer(Object root) {
+        if (JsonTreeHandler.isTree(root.getClass())) {
+            return JsonTreeHandler.DEFAULT;
+        }
+        if (root instanceof Collection<?>) {
+            return ((DynamicHandler) ELEMENT).collection;
+        }
+        if (root instanceof Map<?, ?>) {
+            return ((DynamicHandler) ELEMENT).map;
+        }
+        if (root instanceof Object[]) {
+            return ((DynamicHandler) ELEMENT).array;
+        }
+        return null;
+    }
+
+    private static final class DynamicHandler extends ValueHandler {
+
+        private final boolean anyBean;
+
+        private final ValueHandler collection = new CollectionHandler(this);
+        private final ValueHandler map = new MapHandler(this);
+        private final ValueHandler array = new ArrayHandler(this);
+
+        DynamicHandler(boolean anyBean) {
+            this.anyBean = anyBean;
+        }
+
+        @Override
+        Object normalize(Object value, NormalizationWalk walk) {
+            if (value instanceof String s) {
+                return walk.countString(s, StringNormalizer.apply(s, walk.config));
+            }
+            if (value == null) {
+                return null;
+            }
+            if (value instanceof Collection<?>) {
+                return walk.enter(value) ? collection.normalize(value, walk) : value;
+            }
+            if (value instanceof Map<?, ?>) {
+                return walk.enter(value) ? map.normalize(value, walk) : value;
+            }
+            if (value instanceof Object[]) {
+                return walk.enter(value) ? array.normalize(value, walk) : value;
+            }
+            if (JsonTreeHandler.isTree(value.getClass())) {
+                return JsonTreeHandler.DEFAULT.normalize(value, walk);
+            }
+            if (anyBean) {
+                // Root container elements have no bean ancestors a cycle could lead back to
+                BeanHandler.walk(value, NormalizationPlan.of(value.getClass()), false, walk);
+            } else if (value.getClass().isAnnotationPresent(NormalizeInput.class)) {
+                BeanHandler.walk(value, NormalizationPlan.of(value.getClass()), true, walk);
+            }
+            return value;
+        }
+
+        @Override
+        boolean replaces() {
+            return true;
+        }
+    }
+
+    /**
+     * Nested bean whose declared type can reach a String field.
+     */
+    static final class BeanHandler extends ValueHandler {
+
+        final Class<?> declaredType;
+
+        BeanHandler(Class<?> declaredType) {
+            this.declaredType = declaredType;
+        }
+
+        @Override
+        Object normalize(Object value, NormalizationWalk walk) {
+            if (value != null) {
+                Class<?> type = value.getClass();
+                // A subtype invalidates the static acyclicity proof of the declared type graph
+                walk(value, NormalizationPlan.of(type), type != declaredType, walk);
+            }
+            return value;
+        }
+
+        static void walk(Object bean, NormalizationPlan plan, boolean polymorphic, NormalizationWalk walk) {
+            if (polymorphic || plan.mayRevisit()) {
+                walk.trackCycles();
+            }
+            if (walk.enter(bean)) {
+                plan.walk(bean, walk);
+            }
+        }
+    }
+
+    static final class CollectionHandler extends ValueHandler {
+
+        final ValueHandler element;
+
+        CollectionHandler(ValueHandler element) {
+            this.element = element;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Object normalize(Object value, NormalizationWalk walk) {
+            if (value instanceof List<?> list) {
+                normalizeList((List<Object>) list, walk);
+            } else if (value instanceof Collection<?> collection) {
+                normalizeCollection((Collection<Object>) collection, walk);
+            }
+            return value;
+        }
+
+        private void normalizeList(List<Object> list, NormalizationWalk walk) {
+            if (list instanceof RandomAccess) {
+                int size = list.size();
+                if (walk.splits(size)) {
+                    walk.parallel.forEachIndex(size, walk, (i, part) -> {
+                        Object item = list.get(i);
+                        Object normalized = element.normalize(item, part);
+                        if (normalized != item) {
+                            list.set(i, normalized);
+                        }
+                    });
+                    return;
+                }
+                for (int i = 0; i < size; i++) {
+                    Object item = list.get(i);
+                    Object normalized = element.normalize(item, walk);
+                    if (normalized != item) {
+                        list.set(i, normalized);
+                    }
+                }
+                return;
+            }
+            for (ListIterator<Object> it = list.listIterator(); it.hasNext(); ) {
+                Object item = it.next();
+                Object normalized = element.normalize(item, walk);
+                if (normalized != item) {
+                    it.set(normalized);
+                }
+            }
+        }
+
+        /**
+         * Sets and other collections cannot replace an element in place; when any String changes
+         * the collection is refilled, dropping values that were normalized to {@code null}.
+         */
+        private void normalizeCollection(Collection<Object> collection, NormalizationWalk walk) {
+            if (!element.replaces()) {
+                for (Object item : collection) {
+                    element.normalize(item, walk);
+                }
+                return;
+            }
+            Object[] items = collection.toArray();
+            boolean changed = false;
+            for (int i = 0; i < items.length; i++) {
+                Object normalized = element.normalize(items[i], walk);
+                if (normalized != items[i]) {
+                    items[i] = normalized;
+                    changed = true;
+                }
+            }
+            if (changed) {
+                collection.clear();
+                for (Object item : items) {
+                    if (item != null) {
+                        collection.add(item);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Normalizes map values; keys are never rewritten.
+     */
+    static final class MapHandler extends ValueHandler {
+
+        final ValueHandler value;
+
+        MapHandler(ValueHandler value) {
+            this.value = value;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Object normalize(Object map, NormalizationWalk walk) {
+            if (map instanceof Map<?, ?>) {
+                for (Map.Entry<Object, Object> entry : ((Map<Object, Object>) map).entrySet()) {
+                    Object item = entry.getValue();
+                    Object normalized = value.normalize(item, walk);
+                    if (normalized != item) {
+                        entry.setValue(normalized);
+                    }
+                }
+            }
+            return map;
+        }
+    }
+
+    /**
+     * Root-only handler for a {@code Stream} request body: elements are normalized lazily as the
+     * handler consumes the stream.
+     */
+    static final class StreamHandler extends ValueHandler {
+
+        final ValueHandler element;
+
+        StreamHandler(ValueHandler element) {
+            this.element = element;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Object normalize(Object value, NormalizationWalk walk) {
+            return value instanceof Stream<?> stream
+                    ? ((Stream<Object>) stream).map(item -> element.normalize(item, walk))
+                    : value;
+        }
+
+        @Override
+        boolean replaces() {
+            return true;
+        }
+    }
+
+    static final class ArrayHandler extends ValueHandler {
+
+        final ValueHandler element;
+
+        ArrayHandler(ValueHandler element) {
+            this.element = element;
+        }
+
+        @Override
+        Object normalize(Object value, NormalizationWalk walk) {
+            if (value instanceof Object[] array) {
+                if (walk.splits(array.length)) {
+                    walk.parallel.forEachIndex(array.length, walk, (i, part) -> {
+                        Object normalized = element.normalize(array[i], part);
+                        if (normalized != array[i]) {
+                            array[i] = normalized;
+                        }
+                    });
+                    return value;
+                }
+                for (int i = 0; i < array.length; i++) {
+                    Object normalized = element.normalize(array[i], walk);
+                    if (normalized != array[i]) {
+                        array[i] = normalized;
+                    }
+                }
+            }
+            return value;
+        }
+    }
+}
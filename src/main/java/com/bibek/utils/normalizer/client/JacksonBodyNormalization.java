@@ -0,0 +1,145 @@
+package com.bibek.utils.normalizer.client;
+
+import com.bibek.utils.normalizer.NormalizationRecorder;
+import com.bibek.utils.normalizer.NormalizeConfig;
+import com.bibek.utils.normalizer.NormalizeInput;
+import com.bibek.utils.normalizer.StringNormalizer;
+import com.bibek.utils.normalizer.jackson.NormalizedValue;
+import com.bibek.utils.normalizer.jackson.NormalizingJacksonModule;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * What the normalizing Jackson converters — JSON, CBOR and Smile — share: the cached per-type
+ * decision of whether and how a body is normalized, normalization of read bodies, and wrapping of
+ * written bodies in a {@link NormalizedValue}.
+ */
+final class JacksonBodyNormalization {
+
+    private static final int MAX_CACHED_TYPES = 1024;
+
+    private static final ClassValue<Decision> CLASS_DECISIONS = new ClassValue<>() {
+        @Override
+        protected Decision computeValue(Class<?> type) {
+            return resolveDecision(type);
+        }
+    };
+
+    private static final Map<Type, Decision> TYPE_DECISIONS = new ConcurrentHashMap<>();
+
+    private JacksonBodyNormalization() {
+    }
+
+    static boolean needsNormalization(Class<?> clazz) {
+        return clazz != null && CLASS_DECISIONS.get(clazz).config() != null;
+    }
+
+    /**
+     * Returns the cached decision for {@code type}. Plain classes are cached in a
+     * {@link ClassValue}; parameterized and other generic types in a bounded map, since they are
+     * not canonicalized and a caller could keep creating new ones.
+     */
+    static Decision decide(Type type) {
+        if (type instanceof Class<?> clazz) {
+            return CLASS_DECISIONS.get(clazz);
+        }
+        if (type == null) {
+            return Decision.NONE;
+        }
+        Decision decision = TYPE_DECISIONS.get(type);
+        if (decision == null) {
+            decision = resolveDecision(type);
+            if (TYPE_DECISIONS.size() < MAX_CACHED_TYPES) {
+                TYPE_DECISIONS.putIfAbsent(type, decision);
+            }
+        }
+        return decision;
+    }
+
+    /**
+     * Normalizes a body read as {@code type}, unless the {@code ObjectMapper} already did while parsing.
+     */
+    static void normalizeRead(Object result, Type type, ObjectMapper objectMapper, NormalizationRecorder recorder) {
+        Decision decision = decide(type);
+        if (result != null && decision.config() != null
+                && !NormalizingJacksonModule.normalizesWhileParsing(objectMapper, decision.type())) {
+            StringNormalizer.normalize(result, decision.config(), recorder, decision.type());
+        }
+    }
+
+    /**
+     * Returns what to serialize for {@code object}: a {@link NormalizedValue} (inside a copy of a
+     * {@link MappingJacksonValue}, keeping its view and filters) for a normalized type, otherwise
+     * {@code null} to write {@code object} as is. The caller's object is left as it was;
+     * {@code javaType}, the declared type resolved by the converter, is kept for serialization.
+     */
+    static Object normalizedForWrite(Object object, Type type, JavaType javaType) {
+        Object value = object instanceof MappingJacksonValue container ? container.getValue() : object;
+        if (value == null) {
+            return null;
+        }
+        NormalizeConfig config = CLASS_DECISIONS.get(value.getClass()).config();
+        if (config == null && type != null) {
+            config = decide(type).config();
+        }
+        if (config == null) {
+            return null;
+        }
+        NormalizedValue normalized = new NormalizedValue(value, config, javaType);
+        if (object instanceof MappingJacksonValue container) {
+            MappingJacksonValue copy = new MappingJacksonValue(normalized);
+            copy.setSerializationView(container.getSerializationView());
+            copy.setFilters(container.getFilters());
+            return copy;
+        }
+        return normalized;
+    }
+
+    private static Decision resolveDecision(Type type) {
+        Class<?> target = resolveClass(ResolvableType.forType(type));
+        NormalizeConfig config = target != null ? NormalizeConfig.of(target.getAnnotation(NormalizeInput.class)) : null;
+        return config != null ? new Decision(target, config) : Decision.NONE;
+    }
+
+    /**
+     * Resolves the class whose annotation decides normalization: the body type of an
+     * {@code HttpEntity}, the element type of a collection or array, the value type of a map,
+     * otherwise the raw type.
+     */
+    private static Class<?> resolveClass(ResolvableType type) {
+        Class<?> raw = type.resolve();
+        if (raw == null) {
+            return null;
+        }
+        if (HttpEntity.class.isAssignableFrom(raw)) {
+            return resolveClass(type.as(HttpEntity.class).getGeneric(0));
+        }
+        if (raw.isArray()) {
+            return type.getComponentType().resolve();
+        }
+        if (Collection.class.isAssignableFrom(raw)) {
+            return type.asCollection().getGeneric(0).resolve();
+        }
+        if (Map.class.isAssignableFrom(raw)) {
+            return type.asMap().getGeneric(1).resolve();
+        }
+        return raw;
+    }
+
+    /**
+     * The annotated class a body type resolves to and its config, or {@link #NONE} for bodies
+     * that are not normalized.
+     */
+    record Decision(Class<?> type, NormalizeConfig config) {
+
+        static final Decision NONE = new Decision(null, null);
+    }
+}
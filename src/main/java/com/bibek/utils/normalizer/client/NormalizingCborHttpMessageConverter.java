@@ -0,0 +1,16 @@
+package com.bibek.utils.normalizer.client;
+
+import com.bibek.utils.normalizer.NormalizationRecorder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+
+/**
+ * {@code application/cbor} counterpart of {@link NormalizingJsonHttpMessageConverter}, for
+ * service-to-service traffic in CBOR; needs {@code jackson-dataformat-cbor} on the classpath.
+ */
+class NormalizingCborHttpMessageConverter extends NormalizingJackson2HttpMessageConverter {
+
+    NormalizingCborHttpMessageConverter(ObjectMapper objectMapper, NormalizationRecorder recorder) {
+        super(objectMapper, "CBOR", recorder, MediaType.APPLICATION_CBOR);
+    }
+}
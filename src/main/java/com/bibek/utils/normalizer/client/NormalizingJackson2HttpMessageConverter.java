@@ -0,0 +1,92 @@
+package com.bibek.utils.normalizer.client;
+
+import com.bibek.utils.normalizer.NormalizationRecorder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Jackson converter that takes only bodies {@link JacksonBodyNormalization} normalizes, whatever
+ * the data format: bodies read are normalized after parsing, bodies written are normalized while
+ * they are serialized. Subclasses only pick the format: its media types and the format name the
+ * {@code ObjectMapper}'s factory must have, or {@code null} for any.
+ */
+abstract class NormalizingJackson2HttpMessageConverter extends AbstractJackson2HttpMessageConverter {
+
+    private final String formatName;
+
+    private final NormalizationRecorder recorder;
+
+    NormalizingJackson2HttpMessageConverter(ObjectMapper objectMapper, String formatName,
+                                            NormalizationRecorder recorder, MediaType... supportedMediaTypes) {
+        super(requireFormat(objectMapper, formatName), supportedMediaTypes);
+        this.formatName = formatName;
+        this.recorder = recorder;
+    }
+
+    @Override
+    public void setObjectMapper(ObjectMapper objectMapper) {
+        super.setObjectMapper(requireFormat(objectMapper, formatName));
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return JacksonBodyNormalization.needsNormalization(clazz) && super.canRead(clazz, mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return JacksonBodyNormalization.needsNormalization(clazz) && super.canWrite(clazz, mediaType);
+    }
+
+    /**
+     * Generic variant used by RestClient: also accepts collections, arrays and maps of annotated
+     * types, and {@code HttpEntity}/{@code ResponseEntity} wrappers of any of these.
+     */
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return JacksonBodyNormalization.decide(type).config() != null && super.canRead(type, contextClass, mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return (JacksonBodyNormalization.needsNormalization(clazz)
+                || type != null && JacksonBodyNormalization.decide(type).config() != null)
+                && super.canWrite(clazz, mediaType);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        Object result = super.read(type, contextClass, inputMessage);
+        JacksonBodyNormalization.normalizeRead(result, type, getObjectMapper(), recorder);
+        return result;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        // Normalized as it is serialized: the caller's object is left as it was
+        Object normalized = JacksonBodyNormalization.normalizedForWrite(object, type,
+                type != null ? getJavaType(type, null) : null);
+        if (normalized != null) {
+            super.writeInternal(normalized, null, outputMessage);
+        } else {
+            super.writeInternal(object, type, outputMessage);
+        }
+    }
+
+    private static ObjectMapper requireFormat(ObjectMapper objectMapper, String formatName) {
+        Assert.isTrue(formatName == null || formatName.equals(objectMapper.getFactory().getFormatName()),
+                () -> formatName + " ObjectMapper required");
+        return objectMapper;
+    }
+}
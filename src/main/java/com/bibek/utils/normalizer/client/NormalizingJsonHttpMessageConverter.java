@@ -1,83 +1,45 @@
 package com.bibek.utils.normalizer.client;
 
-import com.bibek.utils.normalizer.NormalizeConfig;
+import com.bibek.utils.normalizer.NormalizationRecorder;
 import com.bibek.utils.normalizer.NormalizeInput;
-import com.bibek.utils.normalizer.StringNormalizer;
+import com.bibek.utils.normalizer.jackson.NormalizedValue;
+import com.bibek.utils.normalizer.jackson.NormalizingJacksonModule;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.http.MediaType;
-import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
-
-import java.io.IOException;
-import java.lang.reflect.Type;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 
 /**
  * HttpMessageConverter that normalizes request and response bodies for RestClient / HTTP Interface.
  * Wraps Jackson JSON conversion and applies normalization to types annotated with {@link NormalizeInput}.
+ * Request bodies are normalized while they are serialized, through a {@link NormalizedValue}, and
+ * are never modified.
+ * When the {@code ObjectMapper} has the {@link NormalizingJacksonModule} registered, responses with
+ * only direct String fields are normalized while they are parsed and are not walked again.
+ * The cost of each normalized response body is reported to a {@link NormalizationRecorder}, if given.
+ * <p>
+ * The converter sits first in every RestClient, so it is asked about every body type. Whether a
+ * type is normalized is decided once per type and cached; other types are turned down with a
+ * cache lookup before the {@code ObjectMapper} is consulted.
+ *
+ * @see NormalizingJackson2HttpMessageConverter
+ * @see NormalizingCborHttpMessageConverter
+ * @see NormalizingSmileHttpMessageConverter
  */
-class NormalizingJsonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+class NormalizingJsonHttpMessageConverter extends NormalizingJackson2HttpMessageConverter {
 
     NormalizingJsonHttpMessageConverter() {
+        this(NormalizationRecorder.NONE);
     }
 
-    NormalizingJsonHttpMessageConverter(com.fasterxml.jackson.databind.ObjectMapper objectMapper) {
-        super(objectMapper);
-    }
-
-    @Override
-    public boolean canRead(Class<?> clazz, MediaType mediaType) {
-        return super.canRead(clazz, mediaType) && needsNormalization(clazz);
-    }
-
-    @Override
-    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
-        return super.canWrite(clazz, mediaType) && needsNormalization(clazz);
-    }
-
-    @Override
-    public Object read(Type type, Class<?> contextClass, org.springframework.http.HttpInputMessage inputMessage)
-            throws IOException, org.springframework.http.converter.HttpMessageNotReadableException {
-        Object result = super.read(type, contextClass, inputMessage);
-        if (result != null) {
-            Class<?> targetClass = resolveClass(type);
-            if (targetClass != null) {
-                NormalizeConfig config = resolveConfig(targetClass);
-                if (config != null) {
-                    StringNormalizer.normalize(result, config);
-                }
-            }
-        }
-        return result;
-    }
-
-    @Override
-    protected void writeInternal(Object object, Type type, org.springframework.http.HttpOutputMessage outputMessage)
-            throws IOException, org.springframework.http.converter.HttpMessageNotWritableException {
-        if (object != null) {
-            NormalizeConfig config = resolveConfig(object.getClass());
-            if (config != null) {
-                StringNormalizer.normalize(object, config);
-            }
-        }
-        super.writeInternal(object, type, outputMessage);
-    }
-
-    private static boolean needsNormalization(Class<?> clazz) {
-        return clazz != null && clazz.isAnnotationPresent(NormalizeInput.class);
+    NormalizingJsonHttpMessageConverter(NormalizationRecorder recorder) {
+        this(Jackson2ObjectMapperBuilder.json().build(), recorder);
     }
 
-    private static Class<?> resolveClass(Type type) {
-        if (type instanceof Class<?> c) {
-            return c;
-        }
-        if (type instanceof java.lang.reflect.ParameterizedType pt) {
-            return resolveClass(pt.getRawType());
-        }
-        return null;
+    NormalizingJsonHttpMessageConverter(ObjectMapper objectMapper) {
+        this(objectMapper, NormalizationRecorder.NONE);
     }
 
-    private static NormalizeConfig resolveConfig(Class<?> type) {
-        NormalizeInput a = type.getAnnotation(NormalizeInput.class);
-        return a != null
-                ? new NormalizeConfig(a.trim(), a.blankToNull(), a.collapseSpaces())
-                : null;
+    NormalizingJsonHttpMessageConverter(ObjectMapper objectMapper, NormalizationRecorder recorder) {
+        super(objectMapper, null, recorder, MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
     }
 }
@@ -0,0 +1,16 @@
+package com.bibek.utils.normalizer.client;
+
+import com.bibek.utils.normalizer.NormalizationRecorder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+
+/**
+ * {@code application/x-jackson-smile} counterpart of {@link NormalizingJsonHttpMessageConverter}, for
+ * service-to-service traffic in SMILE; needs {@code jackson-dataformat-smile} on the classpath.
+ */
+class NormalizingSmileHttpMessageConverter extends NormalizingJackson2HttpMessageConverter {
+
+    NormalizingSmileHttpMessageConverter(ObjectMapper objectMapper, NormalizationRecorder recorder) {
+        super(objectMapper, "Smile", recorder, new MediaType("application", "x-jackson-smile"));
+    }
+}
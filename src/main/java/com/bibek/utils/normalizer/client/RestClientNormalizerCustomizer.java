@@ -1,14 +1,32 @@
 package com.bibek.utils.normalizer.client;
 
+import com.bibek.utils.normalizer.NormalizationRecorder;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.web.client.RestClientCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.util.ClassUtils;
 import org.springframework.web.client.RestClient;
 
+import java.util.List;
+import java.util.function.Supplier;
+
 /**
- * Registers the normalizing JSON converter with RestClient for HTTP Interface support.
+ * Registers the normalizing JSON converter with RestClient for HTTP Interface support, and the
+ * CBOR and Smile ones when {@code jackson-dataformat-cbor} or {@code jackson-dataformat-smile} is
+ * on the classpath.
+ * <p>
+ * The JSON converter uses the application's {@code ObjectMapper}, or else the one of the JSON
+ * converter the builder already has, so its serializer and deserializer caches are shared rather
+ * than built again for every RestClient. The binary converters likewise reuse the
+ * {@code ObjectMapper} of the builder's own CBOR or Smile converter.
  */
 @Configuration
 @org.springframework.boot.autoconfigure.condition.ConditionalOnClass(RestClient.class)
@@ -17,13 +35,74 @@ public class RestClientNormalizerCustomizer {
     @Autowired(required = false)
     private ObjectMapper objectMapper;
 
+    @Autowired(required = false)
+    private NormalizationRecorder recorder;
+
+    private volatile NormalizingJsonHttpMessageConverter shared;
+
+    private static final boolean CBOR_PRESENT = ClassUtils.isPresent(
+            "com.fasterxml.jackson.dataformat.cbor.CBORFactory", RestClientNormalizerCustomizer.class.getClassLoader());
+
+    private static final boolean SMILE_PRESENT = ClassUtils.isPresent(
+            "com.fasterxml.jackson.dataformat.smile.SmileFactory", RestClientNormalizerCustomizer.class.getClassLoader());
+
     @Bean
     RestClientCustomizer normalizingRestClientCustomizer() {
         return builder -> builder.messageConverters(converters -> {
-            var normalizing = objectMapper != null
-                    ? new NormalizingJsonHttpMessageConverter(objectMapper)
-                    : new NormalizingJsonHttpMessageConverter();
-            converters.add(0, normalizing);
+            NormalizationRecorder normalizationRecorder = recorder != null ? recorder : NormalizationRecorder.NONE;
+            if (CBOR_PRESENT) {
+                converters.add(0, new NormalizingCborHttpMessageConverter(
+                        formatObjectMapper(converters, MappingJackson2CborHttpMessageConverter.class,
+                                Jackson2ObjectMapperBuilder::cbor), normalizationRecorder));
+            }
+            if (SMILE_PRESENT) {
+                converters.add(0, new NormalizingSmileHttpMessageConverter(
+                        formatObjectMapper(converters, MappingJackson2SmileHttpMessageConverter.class,
+                                Jackson2ObjectMapperBuilder::smile), normalizationRecorder));
+            }
+            converters.add(0, converter(converters));
         });
     }
+
+    private NormalizingJsonHttpMessageConverter converter(List<HttpMessageConverter<?>> converters) {
+        NormalizationRecorder normalizationRecorder = recorder != null ? recorder : NormalizationRecorder.NONE;
+        if (objectMapper == null) {
+            ObjectMapper existing = jsonObjectMapper(converters);
+            return existing != null
+                    ? new NormalizingJsonHttpMessageConverter(existing, normalizationRecorder)
+                    : new NormalizingJsonHttpMessageConverter(normalizationRecorder);
+        }
+        NormalizingJsonHttpMessageConverter converter = shared;
+        if (converter == null) {
+            converter = new NormalizingJsonHttpMessageConverter(objectMapper, normalizationRecorder);
+            shared = converter;
+        }
+        return converter;
+    }
+
+    private static ObjectMapper jsonObjectMapper(List<HttpMessageConverter<?>> converters) {
+        for (HttpMessageConverter<?> converter : converters) {
+            if (converter instanceof AbstractJackson2HttpMessageConverter jackson
+                    && !(converter instanceof NormalizingJsonHttpMessageConverter)
+                    && jackson.getSupportedMediaTypes().contains(MediaType.APPLICATION_JSON)) {
+                return jackson.getObjectMapper();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The {@code ObjectMapper} of the builder's existing converter for a binary format, or a new
+     * one for that format.
+     */
+    private static ObjectMapper formatObjectMapper(List<HttpMessageConverter<?>> converters,
+                                                   Class<? extends AbstractJackson2HttpMessageConverter> format,
+                                                   Supplier<Jackson2ObjectMapperBuilder> builder) {
+        for (HttpMessageConverter<?> converter : converters) {
+            if (format.isInstance(converter)) {
+                return ((AbstractJackson2HttpMessageConverter) converter).getObjectMapper();
+            }
+        }
+        return builder.get().build();
+    }
 }
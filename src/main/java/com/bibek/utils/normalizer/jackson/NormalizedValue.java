@@ -0,0 +1,30 @@
+package com.bibek.utils.normalizer.jackson;
+
+import com.bibek.utils.normalizer.NormalizeConfig;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+/**
+ * Marks {@code value} to be serialized with every String normalized per {@code config} as it is
+ * written to the {@code JsonGenerator}. The value itself is never modified or copied, so shared or
+ * cached objects can be returned safely. Works with any {@code ObjectMapper}; no module needs to be
+ * registered.
+ *
+ * <pre>{@code
+ * mapper.writeValueAsString(new NormalizedValue(dto, config));
+ * }</pre>
+ * Field-level {@link com.bibek.utils.normalizer.NormalizeInput} and
+ * {@link com.bibek.utils.normalizer.SkipNormalization} are honored for the properties Jackson
+ * serializes from those fields, whatever their JSON names.
+ * <p>
+ * {@code type}, if given, is the declared type of {@code value}. As with Spring's Jackson
+ * converters, it is used for container and reference types, so a {@code List<Base>} keeps the
+ * {@code @JsonTypeInfo} of {@code Base} that element runtime types would lose.
+ */
+@JsonSerialize(using = NormalizedValueSerializer.class)
+public record NormalizedValue(Object value, NormalizeConfig config, JavaType type) {
+
+    public NormalizedValue(Object value, NormalizeConfig config) {
+        this(value, config, null);
+    }
+}
@@ -0,0 +1,70 @@
+package com.bibek.utils.normalizer.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanSerializerFactory;
+import com.fasterxml.jackson.databind.ser.DefaultSerializerProvider;
+import com.fasterxml.jackson.databind.ser.SerializerFactory;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Serializes the wrapped value through a {@link NormalizingJsonGenerator}, with the serializers of
+ * the generator's {@code ObjectMapper} plus the String and tree serializers of
+ * {@link NormalizingSerializerModifier}. A declared container or reference type picks the root
+ * serializer, as {@code ObjectWriter.forType} does; otherwise the value's runtime class does.
+ * <p>
+ * The normalizing serializer factory and its serializer cache are derived once per
+ * {@code ObjectMapper}, as Jackson keeps its own cache per mapper: serializers built for one
+ * mapper's naming strategy, mix-ins or modules are never used by another, and the mapper's own
+ * serializers and cache are left as they are. Generators without an {@code ObjectMapper} codec
+ * get them per serialization config, from the default bean serializer factory.
+ */
+class NormalizedValueSerializer extends StdSerializer<NormalizedValue> {
+
+    private static final Map<Object, Derived> DERIVED = new WeakHashMap<>();
+
+    NormalizedValueSerializer() {
+        super(NormalizedValue.class);
+    }
+
+    @Override
+    public void serialize(NormalizedValue normalized, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        Derived derived = gen.getCodec() instanceof ObjectMapper mapper
+                ? derived(mapper, mapper.getSerializerFactory())
+                : derived(provider.getConfig(), BeanSerializerFactory.instance);
+        DefaultSerializerProvider instance = derived.blueprint.createInstance(provider.getConfig(), derived.factory);
+        NormalizingJsonGenerator normalizing = new NormalizingJsonGenerator(gen, normalized.config());
+        Object value = normalized.value();
+        JavaType type = normalized.type();
+        if (value != null && type != null && (type.isContainerType() || type.isReferenceType())
+                && type.getRawClass().isInstance(value)) {
+            instance.findTypedValueSerializer(type, true, null).serialize(value, normalizing, instance);
+        } else {
+            instance.defaultSerializeValue(value, normalizing);
+        }
+    }
+
+    /**
+     * The normalizing factory and serializer cache for {@code owner}, the mapper or config whose
+     * serializers they build.
+     */
+    private static Derived derived(Object owner, SerializerFactory factory) {
+        synchronized (DERIVED) {
+            return DERIVED.computeIfAbsent(owner, key -> new Derived(
+                    factory.withSerializerModifier(NormalizingSerializerModifier.INSTANCE),
+                    new DefaultSerializerProvider.Impl()));
+        }
+    }
+
+    /**
+     * A normalizing factory and the provider whose serializer cache its instances share.
+     */
+    private record Derived(SerializerFactory factory, DefaultSerializerProvider blueprint) {
+    }
+}
@@ -0,0 +1,78 @@
+package com.bibek.utils.normalizer.jackson;
+
+import com.bibek.utils.normalizer.NormalizeConfig;
+import com.bibek.utils.normalizer.NormalizeInput;
+import com.bibek.utils.normalizer.SkipNormalization;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBuilder;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.CreatorProperty;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.deser.ValueInstantiator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Swaps in a normalizing String deserializer for the String properties of types annotated with
+ * {@link NormalizeInput}. Runs once per type when Jackson builds its bean deserializer; field-level
+ * {@link NormalizeInput} and {@link SkipNormalization} are resolved here as well.
+ * <p>
+ * With {@code creatorsOnly} only constructor (creator) arguments are normalized; properties set
+ * after construction are left to the walk that follows deserialization.
+ */
+class NormalizingDeserializerModifier extends BeanDeserializerModifier {
+
+    private final boolean creatorsOnly;
+
+    NormalizingDeserializerModifier(boolean creatorsOnly) {
+        this.creatorsOnly = creatorsOnly;
+    }
+
+    @Override
+    public BeanDeserializerBuilder updateBuilder(DeserializationConfig config,
+                                                 BeanDescription beanDesc,
+                                                 BeanDeserializerBuilder builder) {
+        NormalizeConfig normalizeConfig = NormalizeConfig.of(beanDesc.getBeanClass().getAnnotation(NormalizeInput.class));
+        if (normalizeConfig == null) {
+            return builder;
+        }
+        JsonDeserializer<String> deserializer = new NormalizingStringDeserializer(normalizeConfig);
+
+        List<SettableBeanProperty> normalized = new ArrayList<>();
+        builder.getProperties().forEachRemaining(property -> {
+            if (creatorsOnly && !(property instanceof CreatorProperty)) {
+                return;
+            }
+            JsonDeserializer<String> propertyDeserializer = deserializerFor(property, deserializer);
+            if (propertyDeserializer != null) {
+                normalized.add(property.withValueDeserializer(propertyDeserializer));
+            }
+        });
+        for (SettableBeanProperty property : normalized) {
+            builder.addOrReplaceProperty(property, true);
+        }
+
+        ValueInstantiator instantiator = builder.getValueInstantiator();
+        if (instantiator != null && instantiator.canCreateFromObjectWith()) {
+            builder.setValueInstantiator(new NormalizingValueInstantiator(instantiator, deserializer));
+        }
+        return builder;
+    }
+
+    /**
+     * Returns the deserializer for {@code property}: {@code typeDeserializer}, one for the field's
+     * own {@link NormalizeInput}, or {@code null} to leave it alone (not a plain String, or skipped).
+     */
+    static JsonDeserializer<String> deserializerFor(SettableBeanProperty property,
+                                                    JsonDeserializer<String> typeDeserializer) {
+        if (!property.getType().hasRawClass(String.class) || property.hasValueDeserializer()
+                || property.getAnnotation(SkipNormalization.class) != null) {
+            return null;
+        }
+        NormalizeInput override = property.getAnnotation(NormalizeInput.class);
+        return override != null ? new NormalizingStringDeserializer(NormalizeConfig.of(override)) : typeDeserializer;
+    }
+}
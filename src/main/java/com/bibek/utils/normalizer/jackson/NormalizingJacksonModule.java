@@ -0,0 +1,135 @@
+package com.bibek.utils.normalizer.jackson;
+
+import com.bibek.utils.normalizer.NormalizeInput;
+import com.bibek.utils.normalizer.StringNormalizer;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Jackson module that normalizes String properties of {@link NormalizeInput} types while they
+ * are parsed, instead of walking the deserialized object again with reflection.
+ * <p>
+ * Every String property of an annotated class — including constructor/record components and
+ * final fields — is read straight from the parser buffer through the normalizer, so each value
+ * is touched once. Types without the annotation are left to Jackson's default deserializers.
+ *
+ * <pre>{@code
+ * ObjectMapper mapper = JsonMapper.builder()
+ *         .addModule(new NormalizingJacksonModule())
+ *         .build();
+ * }</pre>
+ * In a Spring Boot application set {@code request-normalizer.jackson.enabled=true} to register
+ * the module with the application's {@code ObjectMapper}.
+ * <p>
+ * {@link #creatorsOnly()} limits the module to constructor arguments: records and
+ * {@code @JsonCreator} classes are built once from normalized values, while mutable types are
+ * deserialized as usual and normalized afterwards. Spring Boot applications get this variant by
+ * default.
+ */
+public class NormalizingJacksonModule extends SimpleModule {
+
+    /**
+     * Module name, also used as its registration id.
+     */
+    public static final String MODULE_NAME = "request-normalizer";
+
+    /**
+     * Name and registration id of the {@link #creatorsOnly()} module.
+     */
+    public static final String CREATORS_MODULE_NAME = "request-normalizer-creators";
+
+    private static final ObjectMapper DEFAULT_MAPPER = new ObjectMapper();
+
+    /**
+     * {@link #buildsFromCreators} per type, per mapper whose introspection decided it.
+     */
+    private static final ClassValue<Map<ObjectMapper, Boolean>> CREATOR_BOUND = new ClassValue<>() {
+        @Override
+        protected Map<ObjectMapper, Boolean> computeValue(Class<?> type) {
+            return Collections.synchronizedMap(new WeakHashMap<>());
+        }
+    };
+
+    public NormalizingJacksonModule() {
+        this(MODULE_NAME, false);
+    }
+
+    private NormalizingJacksonModule(String name, boolean creatorsOnly) {
+        super(name);
+        setDeserializerModifier(new NormalizingDeserializerModifier(creatorsOnly));
+    }
+
+    /**
+     * Returns a module that normalizes only the constructor (creator) arguments of
+     * {@link NormalizeInput} types, such as record components.
+     */
+    public static NormalizingJacksonModule creatorsOnly() {
+        return new NormalizingJacksonModule(CREATORS_MODULE_NAME, true);
+    }
+
+    /**
+     * Returns whether the module is registered with {@code objectMapper}, i.e. whether values it
+     * deserializes are already normalized.
+     */
+    public static boolean isRegistered(ObjectMapper objectMapper) {
+        return objectMapper != null && objectMapper.getRegisteredModuleIds().contains(MODULE_NAME);
+    }
+
+    /**
+     * Returns whether either variant of the module is registered with {@code objectMapper}, i.e.
+     * whether it builds {@link NormalizeInput} records and creator-bound types from normalized values.
+     */
+    public static boolean normalizesCreators(ObjectMapper objectMapper) {
+        return isRegistered(objectMapper)
+                || objectMapper != null && objectMapper.getRegisteredModuleIds().contains(CREATORS_MODULE_NAME);
+    }
+
+    /**
+     * Returns whether deserializing {@code type} with {@code objectMapper} already normalizes it,
+     * so it must not be walked again: the module normalizes every property of records and of
+     * types with only direct String fields, and its {@link #creatorsOnly()} variant those built
+     * {@link #buildsFromCreators from creator arguments}.
+     */
+    public static boolean normalizesWhileParsing(ObjectMapper objectMapper, Class<?> type) {
+        if (isRegistered(objectMapper) && (type.isRecord() || StringNormalizer.isFlat(type))) {
+            return true;
+        }
+        return normalizesCreators(objectMapper) && buildsFromCreators(objectMapper, type);
+    }
+
+    /**
+     * Returns whether Jackson builds {@code type} from creator arguments for all its String
+     * properties, as introspected by {@code objectMapper} (or a default mapper if {@code null}):
+     * the type has no POJO builder, at least one creator property, and no String property that
+     * is set after construction through a field or setter. The result is cached per type and mapper.
+     */
+    public static boolean buildsFromCreators(ObjectMapper objectMapper, Class<?> type) {
+        if (type.isInterface() || type.isPrimitive() || type.isArray() || type.getName().startsWith("java.")) {
+            return false;
+        }
+        ObjectMapper mapper = objectMapper != null ? objectMapper : DEFAULT_MAPPER;
+        return CREATOR_BOUND.get(type).computeIfAbsent(mapper, owner -> introspectCreators(owner, type));
+    }
+
+    private static boolean introspectCreators(ObjectMapper mapper, Class<?> type) {
+        BeanDescription description = mapper.getDeserializationConfig().introspect(mapper.constructType(type));
+        if (description.findPOJOBuilder() != null) {
+            return false;
+        }
+        boolean creators = false;
+        for (BeanPropertyDefinition property : description.findProperties()) {
+            boolean creator = property.getConstructorParameter() != null;
+            if (!creator && property.getRawPrimaryType() == String.class) {
+                return false;
+            }
+            creators |= creator;
+        }
+        return creators;
+    }
+}
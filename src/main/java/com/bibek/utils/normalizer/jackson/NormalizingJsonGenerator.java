@@ -0,0 +1,163 @@
+package com.bibek.utils.normalizer.jackson;
+
+import com.bibek.utils.normalizer.NormalizeConfig;
+import com.bibek.utils.normalizer.NormalizeInput;
+import com.bibek.utils.normalizer.SkipNormalization;
+import com.bibek.utils.normalizer.StringNormalizer;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.JsonGeneratorDelegate;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Generator that normalizes String values on their way to the output. Only values written by the
+ * String and tree serializers of {@link NormalizingSerializerModifier} are normalized, through
+ * {@link #writeNormalized(String)}; everything else reaching {@code writeString} is written as is.
+ * <p>
+ * It keeps a stack with the effective config of every open object and array, so a field-level
+ * {@link NormalizeInput} applies to everything nested under that property and a
+ * {@link SkipNormalization} property is written untouched, subtree included. The override of a
+ * property is handed in by its writer, see {@link NormalizingSerializerModifier}, so it follows the
+ * property whatever its JSON name. Field names are never changed.
+ */
+final class NormalizingJsonGenerator extends JsonGeneratorDelegate {
+
+    /**
+     * Marks a skipped property; compared by identity.
+     */
+    static final NormalizeConfig SKIP = new NormalizeConfig(false, false, false);
+
+    private final NormalizeConfig rootConfig;
+
+    private NormalizeConfig[] configs = new NormalizeConfig[8];
+
+    private int depth;
+
+    /**
+     * The override of the property being written, {@link #SKIP}, or {@code null} for none.
+     */
+    private NormalizeConfig property;
+
+    NormalizingJsonGenerator(JsonGenerator delegate, NormalizeConfig config) {
+        // No copy shortcuts: objects and trees written through this generator keep the config stack below
+        super(delegate, false);
+        this.rootConfig = config;
+    }
+
+    /**
+     * Puts a property's field-level override in effect for its value and returns the one it
+     * replaces, to be restored with {@link #exitProperty}.
+     */
+    NormalizeConfig enterProperty(NormalizeConfig override) {
+        NormalizeConfig previous = property;
+        property = override;
+        return previous;
+    }
+
+    void exitProperty(NormalizeConfig previous) {
+        property = previous;
+    }
+
+    /**
+     * Writes a String value normalized per the config of its position; called by the normalizing
+     * String serializers only, so other values written with {@code writeString} pass unchanged.
+     */
+    void writeNormalized(String text) throws IOException {
+        NormalizeConfig config = valueConfig();
+        String normalized = config != null && text != null ? StringNormalizer.apply(text, config) : text;
+        if (normalized != null) {
+            delegate.writeString(normalized);
+        } else {
+            delegate.writeNull();
+        }
+    }
+
+    @Override
+    public void writeStartObject() throws IOException {
+        push();
+        super.writeStartObject();
+    }
+
+    @Override
+    public void writeStartObject(Object forValue) throws IOException {
+        push();
+        super.writeStartObject(forValue);
+    }
+
+    @Override
+    public void writeStartObject(Object forValue, int size) throws IOException {
+        push();
+        super.writeStartObject(forValue, size);
+    }
+
+    @Override
+    public void writeStartArray() throws IOException {
+        push();
+        super.writeStartArray();
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public void writeStartArray(int size) throws IOException {
+        push();
+        super.writeStartArray(size);
+    }
+
+    @Override
+    public void writeStartArray(Object forValue) throws IOException {
+        push();
+        super.writeStartArray(forValue);
+    }
+
+    @Override
+    public void writeStartArray(Object forValue, int size) throws IOException {
+        push();
+        super.writeStartArray(forValue, size);
+    }
+
+    @Override
+    public void writeEndObject() throws IOException {
+        pop();
+        super.writeEndObject();
+    }
+
+    @Override
+    public void writeEndArray() throws IOException {
+        pop();
+        super.writeEndArray();
+    }
+
+    /**
+     * The config for the value about to be written, or {@code null} to write it unchanged.
+     */
+    private NormalizeConfig valueConfig() {
+        if (depth == 0) {
+            return rootConfig;
+        }
+        NormalizeConfig config = configs[depth - 1];
+        if (config == null || property == null) {
+            return config;
+        }
+        return property == SKIP ? null : property;
+    }
+
+    /**
+     * Opens a container whose values inherit the current value's config.
+     */
+    private void push() {
+        NormalizeConfig config = valueConfig();
+        if (depth == configs.length) {
+            configs = Arrays.copyOf(configs, depth * 2);
+        }
+        configs[depth] = config;
+        depth++;
+        property = null;
+    }
+
+    private void pop() {
+        if (depth > 0) {
+            depth--;
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.bibek.utils.normalizer.jackson;
+
+import com.bibek.utils.normalizer.NormalizeConfig;
+import com.bibek.utils.normalizer.NormalizeInput;
+import com.bibek.utils.normalizer.SkipNormalization;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.PropertyName;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.introspect.AnnotatedField;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.ser.std.StringSerializer;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Swaps in normalizing serializers for {@code String} values and JSON trees, so that only
+ * String-typed properties, elements and map values are normalized on the way out. UUIDs, URIs,
+ * dates, enums and the output of custom serializers are written as their serializers produce
+ * them. Collections and arrays of Strings pick the normalizing serializer up for their elements on
+ * their own, as they do for any non-default String serializer.
+ * <p>
+ * Properties backed by a field with {@link NormalizeInput} or {@link SkipNormalization} get a
+ * writer that hands that override to the generator while their value is written. Properties are
+ * matched as Jackson resolved them, so naming strategies, mix-ins and renamed getters are honored.
+ * <p>
+ * Used only by the serializer factory that {@link NormalizedValueSerializer} derives from the
+ * mapper's own, never registered with an {@code ObjectMapper}.
+ */
+class NormalizingSerializerModifier extends BeanSerializerModifier {
+
+    static final NormalizingSerializerModifier INSTANCE = new NormalizingSerializerModifier();
+
+    private static final JsonSerializer<String> STRING = new NormalizingStringSerializer();
+
+    private static final JsonSerializer<JsonNode> TREE = new NormalizingTreeSerializer();
+
+    @Override
+    public List<BeanPropertyWriter> changeProperties(SerializationConfig config,
+                                                     BeanDescription beanDesc,
+                                                     List<BeanPropertyWriter> beanProperties) {
+        Map<String, NormalizeConfig> overrides = new HashMap<>();
+        for (BeanPropertyDefinition property : beanDesc.findProperties()) {
+            NormalizeConfig override = fieldOverride(property.getField());
+            if (override != null) {
+                overrides.put(property.getName(), override);
+            }
+        }
+        if (overrides.isEmpty()) {
+            return beanProperties;
+        }
+        for (int i = 0; i < beanProperties.size(); i++) {
+            BeanPropertyWriter writer = beanProperties.get(i);
+            NormalizeConfig override = overrides.get(writer.getName());
+            if (override != null) {
+                beanProperties.set(i, new OverridingPropertyWriter(writer, override));
+            }
+        }
+        return beanProperties;
+    }
+
+    @Override
+    public JsonSerializer<?> modifySerializer(SerializationConfig config,
+                                              BeanDescription beanDesc,
+                                              JsonSerializer<?> serializer) {
+        Class<?> type = beanDesc.getBeanClass();
+        if (type == String.class && serializer instanceof StringSerializer) {
+            return STRING;
+        }
+        if (JsonNode.class.isAssignableFrom(type)) {
+            return TREE;
+        }
+        return serializer;
+    }
+
+    /**
+     * The config the annotations of {@code field} set for its property, {@link NormalizingJsonGenerator#SKIP}
+     * for a skipped one, or {@code null} for none.
+     */
+    private static NormalizeConfig fieldOverride(AnnotatedField field) {
+        if (field == null) {
+            return null;
+        }
+        return field.hasAnnotation(SkipNormalization.class) ? NormalizingJsonGenerator.SKIP
+                : NormalizeConfig.of(field.getAnnotation(NormalizeInput.class));
+    }
+
+    /**
+     * Writes its property with a field-level override in effect on a {@link NormalizingJsonGenerator}.
+     */
+    private static final class OverridingPropertyWriter extends BeanPropertyWriter {
+
+        private final NormalizeConfig override;
+
+        OverridingPropertyWriter(BeanPropertyWriter base, NormalizeConfig override) {
+            super(base);
+            this.override = override;
+        }
+
+        private OverridingPropertyWriter(OverridingPropertyWriter base, PropertyName name) {
+            super(base, name);
+            this.override = base.override;
+        }
+
+        @Override
+        protected BeanPropertyWriter _new(PropertyName newName) {
+            return new OverridingPropertyWriter(this, newName);
+        }
+
+        @Override
+        public void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception {
+            if (!(gen instanceof NormalizingJsonGenerator normalizing)) {
+                super.serializeAsField(bean, gen, prov);
+                return;
+            }
+            NormalizeConfig previous = normalizing.enterProperty(override);
+            try {
+                super.serializeAsField(bean, gen, prov);
+            } finally {
+                normalizing.exitProperty(previous);
+            }
+        }
+
+        @Override
+        public void serializeAsElement(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception {
+            if (!(gen instanceof NormalizingJsonGenerator normalizing)) {
+                super.serializeAsElement(bean, gen, prov);
+                return;
+            }
+            NormalizeConfig previous = normalizing.enterProperty(override);
+            try {
+                super.serializeAsElement(bean, gen, prov);
+            } finally {
+                normalizing.exitProperty(previous);
+            }
+        }
+    }
+
+    /**
+     * Normalizes String values written through a {@link NormalizingJsonGenerator}. A value whose
+     * declared type cannot hold a String, such as the {@code @JsonValue} of an enum or bean, is
+     * written unchanged.
+     */
+    private static final class NormalizingStringSerializer extends StdScalarSerializer<String>
+            implements ContextualSerializer {
+
+        private static final JsonSerializer<Object> PLAIN = new StringSerializer();
+
+        NormalizingStringSerializer() {
+            super(String.class, false);
+        }
+
+        @Override
+        public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) {
+            return property == null || holdsString(property.getType()) ? this : PLAIN;
+        }
+
+        @Override
+        public boolean isEmpty(SerializerProvider provider, String value) {
+            return value.isEmpty();
+        }
+
+        @Override
+        public void serialize(String value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            if (gen instanceof NormalizingJsonGenerator normalizing) {
+                normalizing.writeNormalized(value);
+            } else {
+                gen.writeString(value);
+            }
+        }
+
+        /**
+         * Whether a value of {@code type}, or its content type for containers, may be a String.
+         */
+        private static boolean holdsString(JavaType type) {
+            while (type.isContainerType() || type.isReferenceType()) {
+                type = type.getContentType();
+            }
+            return type.getRawClass().isAssignableFrom(String.class);
+        }
+    }
+
+    /**
+     * Writes a JSON tree node by node, normalizing its textual values.
+     */
+    private static final class NormalizingTreeSerializer extends StdSerializer<JsonNode> {
+
+        NormalizingTreeSerializer() {
+            super(JsonNode.class);
+        }
+
+        @Override
+        public boolean isEmpty(SerializerProvider provider, JsonNode value) {
+            return value.isEmpty();
+        }
+
+        @Override
+        public void serialize(JsonNode node, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            if (!(gen instanceof NormalizingJsonGenerator normalizing)) {
+                ((JsonSerializable) node).serialize(gen, provider);
+            } else if (node.isTextual()) {
+                normalizing.writeNormalized(node.textValue());
+            } else if (node.isObject()) {
+                gen.writeStartObject(node);
+                for (Map.Entry<String, JsonNode> field : node.properties()) {
+                    gen.writeFieldName(field.getKey());
+                    serialize(field.getValue(), gen, provider);
+                }
+                gen.writeEndObject();
+            } else if (node.isArray()) {
+                gen.writeStartArray(node, node.size());
+                for (JsonNode element : node) {
+                    serialize(element, gen, provider);
+                }
+                gen.writeEndArray();
+            } else {
+                ((JsonSerializable) node).serialize(gen, provider);
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.bibek.utils.normalizer.jackson;
+
+import com.bibek.utils.normalizer.NormalizeConfig;
+import com.bibek.utils.normalizer.StringNormalizer;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import com.fasterxml.jackson.databind.type.LogicalType;
+
+import java.io.IOException;
+
+/**
+ * Reads a String value and normalizes it directly from the parser's text buffer.
+ * Non-string tokens (numbers, booleans, ...) go through Jackson's own coercion first.
+ */
+class NormalizingStringDeserializer extends StdScalarDeserializer<String> {
+
+    private final NormalizeConfig config;
+
+    NormalizingStringDeserializer(NormalizeConfig config) {
+        super(String.class);
+        this.config = config;
+    }
+
+    @Override
+    public String deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_STRING)) {
+            return StringNormalizer.apply(p.getTextCharacters(), p.getTextOffset(), p.getTextLength(), config);
+        }
+        return StringNormalizer.apply(StringDeserializer.instance.deserialize(p, ctxt), config);
+    }
+
+    @Override
+    public LogicalType logicalType() {
+        return LogicalType.Textual;
+    }
+
+    @Override
+    public boolean isCachable() {
+        return true;
+    }
+}
@@ -0,0 +1,47 @@
+package com.bibek.utils.normalizer.jackson;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.deser.ValueInstantiator;
+
+/**
+ * Hands out creator (constructor / record component) properties with the normalizing String
+ * deserializer attached, so values are normalized before the object is constructed.
+ */
+class NormalizingValueInstantiator extends ValueInstantiator.Delegating {
+
+    private final JsonDeserializer<String> deserializer;
+
+    NormalizingValueInstantiator(ValueInstantiator delegate, JsonDeserializer<String> deserializer) {
+        super(delegate);
+        this.deserializer = deserializer;
+    }
+
+    @Override
+    public ValueInstantiator createContextual(DeserializationContext ctxt, BeanDescription beanDesc)
+            throws JsonMappingException {
+        ValueInstantiator contextual = delegate().createContextual(ctxt, beanDesc);
+        return contextual == delegate() ? this : new NormalizingValueInstantiator(contextual, deserializer);
+    }
+
+    @Override
+    public SettableBeanProperty[] getFromObjectArguments(DeserializationConfig config) {
+        SettableBeanProperty[] arguments = delegate().getFromObjectArguments(config);
+        if (arguments == null) {
+            return null;
+        }
+        SettableBeanProperty[] normalizing = arguments.clone();
+        for (int i = 0; i < normalizing.length; i++) {
+            JsonDeserializer<String> propertyDeserializer =
+                    NormalizingDeserializerModifier.deserializerFor(normalizing[i], deserializer);
+            if (propertyDeserializer != null) {
+                normalizing[i] = normalizing[i].withValueDeserializer(propertyDeserializer);
+            }
+        }
+        return normalizing;
+    }
+}
@@ -0,0 +1,151 @@
+package com.bibek.utils.normalizer.messaging;
+
+import com.bibek.utils.normalizer.NormalizeConfig;
+import com.bibek.utils.normalizer.NormalizeInput;
+import com.bibek.utils.normalizer.OversizedInputException;
+import com.bibek.utils.normalizer.StringNormalizer;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.messaging.converter.SmartMessageConverter;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * {@link MessageConverter} decorator that normalizes the {@link NormalizeInput} payloads its
+ * delegate converts for annotated message listeners ({@code @KafkaListener},
+ * {@code @RabbitListener}, {@code @JmsListener}, STOMP {@code @MessageMapping} and the like).
+ * <p>
+ * As for {@code @RequestBody}, {@code @NormalizeInput} on the listener parameter wins over the
+ * annotation on the payload type, and for collection, array and map payloads the element type is
+ * what is annotated. An oversized value is reported as a {@link MessageConversionException}.
+ * Outgoing messages are converted by the delegate unchanged. Records cannot be normalized after
+ * conversion; give the delegate an {@code ObjectMapper} with the
+ * {@link com.bibek.utils.normalizer.jackson.NormalizingJacksonModule} for those.
+ * <p>
+ * Listener payloads are converted by the {@code MessageHandlerMethodFactory} of the listener
+ * registrar, so the converter goes there, through the {@code RabbitListenerConfigurer},
+ * {@code JmsListenerConfigurer} or {@code KafkaListenerConfigurer} of the application:
+ *
+ * <pre>{@code
+ * @Bean
+ * DefaultMessageHandlerMethodFactory normalizingHandlerMethodFactory() {
+ *     DefaultMessageHandlerMethodFactory factory = new DefaultMessageHandlerMethodFactory();
+ *     factory.setMessageConverter(new NormalizingMessageConverter(new MappingJackson2MessageConverter()));
+ *     return factory;
+ * }
+ *
+ * @Override
+ * public void configureRabbitListeners(RabbitListenerEndpointRegistrar registrar) {
+ *     registrar.setMessageHandlerMethodFactory(normalizingHandlerMethodFactory());
+ * }
+ * }</pre>
+ *
+ * The factory converts a payload only if it is not already of the parameter type. Payloads that
+ * the listener container has converted itself, such as those of a Rabbit
+ * {@code Jackson2JsonMessageConverter}, a Kafka {@code RecordMessageConverter} or
+ * {@code JsonDeserializer}, or a text message for a {@code String} parameter, reach the listener
+ * without passing through this converter and are not normalized.
+ */
+public class NormalizingMessageConverter implements SmartMessageConverter {
+
+    private final MessageConverter delegate;
+
+    public NormalizingMessageConverter(MessageConverter delegate) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("delegate must not be null");
+        }
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Object fromMessage(Message<?> message, Class<?> targetClass) {
+        return normalize(message, delegate.fromMessage(message, targetClass), targetClass, null);
+    }
+
+    @Override
+    public Object fromMessage(Message<?> message, Class<?> targetClass, Object conversionHint) {
+        Object payload = delegate instanceof SmartMessageConverter smart
+                ? smart.fromMessage(message, targetClass, conversionHint)
+                : delegate.fromMessage(message, targetClass);
+        return normalize(message, payload, targetClass, conversionHint);
+    }
+
+    @Override
+    public Message<?> toMessage(Object payload, MessageHeaders headers) {
+        return delegate.toMessage(payload, headers);
+    }
+
+    @Override
+    public Message<?> toMessage(Object payload, MessageHeaders headers, Object conversionHint) {
+        return delegate instanceof SmartMessageConverter smart
+                ? smart.toMessage(payload, headers, conversionHint)
+                : delegate.toMessage(payload, headers);
+    }
+
+    private static Object normalize(Message<?> message, Object payload, Class<?> targetClass, Object conversionHint) {
+        if (payload == null) {
+            return null;
+        }
+        NormalizeConfig config = resolveConfig(payload, targetClass, conversionHint);
+        if (config == null) {
+            return payload;
+        }
+        try {
+            if (payload instanceof String text) {
+                return StringNormalizer.apply(text, config);
+            }
+            StringNormalizer.normalize(payload, config);
+            return payload;
+        } catch (OversizedInputException e) {
+            throw new MessageConversionException(message, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * The listener parameter's own {@link NormalizeInput}, else that of the declared payload type
+     * (its element type, for containers), else that of the converted payload's class.
+     */
+    private static NormalizeConfig resolveConfig(Object payload, Class<?> targetClass, Object conversionHint) {
+        ResolvableType declared = ResolvableType.forClass(targetClass);
+        if (conversionHint instanceof MethodParameter parameter) {
+            NormalizeInput annotation = parameter.getParameterAnnotation(NormalizeInput.class);
+            if (annotation != null) {
+                return NormalizeConfig.of(annotation);
+            }
+            declared = ResolvableType.forMethodParameter(parameter);
+        }
+        Class<?> type = elementType(declared);
+        NormalizeConfig config = type != null ? NormalizeConfig.of(type.getAnnotation(NormalizeInput.class)) : null;
+        return config != null ? config : NormalizeConfig.of(payload.getClass().getAnnotation(NormalizeInput.class));
+    }
+
+    /**
+     * Resolves the class whose annotation decides normalization: the payload type of a
+     * {@code Message}, the element type of a collection or array, the value type of a map,
+     * otherwise the raw type.
+     */
+    private static Class<?> elementType(ResolvableType type) {
+        Class<?> raw = type.resolve();
+        if (raw == null) {
+            return null;
+        }
+        if (Message.class.isAssignableFrom(raw)) {
+            return elementType(type.as(Message.class).getGeneric(0));
+        }
+        if (raw.isArray()) {
+            return type.getComponentType().resolve();
+        }
+        if (Collection.class.isAssignableFrom(raw)) {
+            return type.asCollection().getGeneric(0).resolve();
+        }
+        if (Map.class.isAssignableFrom(raw)) {
+            return type.asMap().getGeneric(1).resolve();
+        }
+        return raw;
+    }
+}
@@ -0,0 +1,102 @@
+package com.bibek.utils.normalizer.metrics;
+
+import com.bibek.utils.normalizer.NormalizationRecorder;
+import com.bibek.utils.normalizer.StringDeduplicator;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Publishes normalization cost per DTO type to Micrometer:
+ * <ul>
+ *     <li>{@code request.normalizer.duration} — timer of each normalized body</li>
+ *     <li>{@code request.normalizer.fields} — fields visited</li>
+ *     <li>{@code request.normalizer.strings} — String values, tagged {@code result=changed|unchanged}</li>
+ * </ul>
+ * These are tagged with {@code type}, the DTO class name. {@code request.normalizer.dedup}, tagged
+ * {@code result=hit|miss}, counts lookups in the shared {@link StringDeduplicator}. Meters are registered once per
+ * type and cached in a {@link ClassValue}; counts accumulate in {@link LongAdder}s read by
+ * function counters, so recording a body never builds tags or contends on a shared counter.
+ */
+public final class MicrometerNormalizationRecorder implements NormalizationRecorder {
+
+    static final String DURATION = "request.normalizer.duration";
+    static final String FIELDS = "request.normalizer.fields";
+    static final String STRINGS = "request.normalizer.strings";
+    static final String DEDUP = "request.normalizer.dedup";
+
+    private final ClassValue<TypeMeters> meters;
+
+    public MicrometerNormalizationRecorder(MeterRegistry registry) {
+        StringDeduplicator deduplicator = StringDeduplicator.shared();
+        FunctionCounter.builder(DEDUP, deduplicator, d -> d.stats().hits())
+                .description("Deduplicated String lookups")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder(DEDUP, deduplicator, d -> d.stats().misses())
+                .description("Deduplicated String lookups")
+                .tag("result", "miss")
+                .register(registry);
+        this.meters = new ClassValue<>() {
+            @Override
+            protected TypeMeters computeValue(Class<?> type) {
+                return new TypeMeters(registry, type);
+            }
+        };
+    }
+
+    @Override
+    public void prepare(Class<?> type) {
+        meters.get(type);
+    }
+
+    @Override
+    public void record(Class<?> type, long nanos, int fields, int changed, int unchanged) {
+        meters.get(type).record(nanos, fields, changed, unchanged);
+    }
+
+    private static final class TypeMeters {
+
+        private final Timer duration;
+        private final LongAdder fields = new LongAdder();
+        private final LongAdder changed = new LongAdder();
+        private final LongAdder unchanged = new LongAdder();
+
+        TypeMeters(MeterRegistry registry, Class<?> type) {
+            Tags tags = Tags.of("type", type.getName());
+            this.duration = Timer.builder(DURATION)
+                    .description("Time spent normalizing request and response bodies")
+                    .tags(tags)
+                    .register(registry);
+            FunctionCounter.builder(FIELDS, fields, LongAdder::sum)
+                    .description("Fields visited while normalizing")
+                    .tags(tags)
+                    .register(registry);
+            FunctionCounter.builder(STRINGS, changed, LongAdder::sum)
+                    .description("String values visited while normalizing")
+                    .tags(tags.and("result", "changed"))
+                    .register(registry);
+            FunctionCounter.builder(STRINGS, unchanged, LongAdder::sum)
+                    .description("String values visited while normalizing")
+                    .tags(tags.and("result", "unchanged"))
+                    .register(registry);
+        }
+
+        void record(long nanos, int fields, int changed, int unchanged) {
+            duration.record(nanos, TimeUnit.NANOSECONDS);
+            if (fields != 0) {
+                this.fields.add(fields);
+            }
+            if (changed != 0) {
+                this.changed.add(changed);
+            }
+            if (unchanged != 0) {
+                this.unchanged.add(unchanged);
+            }
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package com.bibek.utils.normalizer.processor;
+
+import com.bibek.utils.normalizer.GeneratedNormalizer;
+import com.bibek.utils.normalizer.NormalizeInput;
+import com.bibek.utils.normalizer.SkipNormalization;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Generates a {@link GeneratedNormalizer} for every class annotated with {@link NormalizeInput}
+ * whose Strings are all its own fields, reachable by direct field access or JavaBean accessors
+ * from the class's package.
+ * <p>
+ * Types with nested objects, collections, maps, arrays, generically typed fields, or String fields
+ * that are private without accessors are skipped, as are types with field-level {@link NormalizeInput}
+ * overrides; the runtime normalizes those reflectively. {@link SkipNormalization} fields are left out.
+ * Pass {@code -ArequestNormalizer.verbose=true} to have the reason reported for each skipped type.
+ */
+public class NormalizeInputProcessor extends AbstractProcessor {
+
+    static final String VERBOSE_OPTION = "requestNormalizer.verbose";
+
+    /**
+     * Fields normalized per generated method: about 40 bytes of bytecode each, so a chunk stays far
+     * below the 8000-byte limit above which HotSpot refuses to compile a method.
+     */
+    static final int FIELDS_PER_METHOD = 64;
+
+    private static final Set<String> DYNAMIC_JDK_TYPES = Set.of(
+            "java.lang.Object", "java.lang.CharSequence", "java.io.Serializable", "java.lang.Comparable");
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Set.of(NormalizeInput.class.getName());
+    }
+
+    @Override
+    public Set<String> getSupportedOptions() {
+        return Set.of(VERBOSE_OPTION);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(NormalizeInput.class)) {
+            if (element.getKind() == ElementKind.CLASS) {
+                process((TypeElement) element);
+            }
+        }
+        return false;
+    }
+
+    private void process(TypeElement type) {
+        List<StringAccess> accesses = new ArrayList<>();
+        String skipReason = analyze(type, accesses);
+        if (skipReason != null) {
+            if (Boolean.parseBoolean(processingEnv.getOptions().get(VERBOSE_OPTION))) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                        "No generated normalizer: " + skipReason + "; falling back to reflection", type);
+            }
+            return;
+        }
+        try {
+            write(type, accesses);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Could not write generated normalizer: " + e.getMessage(), type);
+        }
+    }
+
+    /**
+     * Collects how to read and write each String field, or returns why the type is not supported.
+     */
+    private String analyze(TypeElement type, List<StringAccess> accesses) {
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            return "abstract class";
+        }
+        if (type.getNestingKind() == NestingKind.LOCAL || type.getNestingKind() == NestingKind.ANONYMOUS) {
+            return "local class";
+        }
+        for (Element enclosing = type; enclosing instanceof TypeElement; enclosing = enclosing.getEnclosingElement()) {
+            if (enclosing.getModifiers().contains(Modifier.PRIVATE)) {
+                return "private class";
+            }
+        }
+        PackageElement targetPackage = processingEnv.getElementUtils().getPackageOf(type);
+        for (TypeElement current = type; current != null; current = superclass(current)) {
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                if (field.getModifiers().contains(Modifier.STATIC)
+                        || field.getAnnotation(SkipNormalization.class) != null) {
+                    continue;
+                }
+                if (field.getAnnotation(NormalizeInput.class) != null) {
+                    return "field '" + field.getSimpleName() + "' overrides the type's options";
+                }
+                TypeMirror fieldType = field.asType();
+                if (isString(fieldType)) {
+                    StringAccess access = accessFor(type, current, field, targetPackage);
+                    if (access == null) {
+                        return "String field '" + field.getSimpleName() + "' is not accessible";
+                    }
+                    accesses.add(access);
+                } else if (!isOpaque(fieldType)) {
+                    return "field '" + field.getSimpleName() + "' may contain nested Strings";
+                }
+            }
+        }
+        return null;
+    }
+
+    private StringAccess accessFor(TypeElement type, TypeElement owner, VariableElement field, PackageElement targetPackage) {
+        String name = field.getSimpleName().toString();
+        Set<Modifier> modifiers = field.getModifiers();
+        if (!modifiers.contains(Modifier.PRIVATE) && !modifiers.contains(Modifier.FINAL)
+                && isAccessible(owner, modifiers, targetPackage)) {
+            return new StringAccess(name, "target." + name, "target." + name + " = %s");
+        }
+        String property = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        ExecutableElement getter = null;
+        ExecutableElement setter = null;
+        for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+            if (method.getModifiers().contains(Modifier.STATIC)
+                    || !isAccessible((TypeElement) method.getEnclosingElement(), method.getModifiers(), targetPackage)) {
+                continue;
+            }
+            String methodName = method.getSimpleName().toString();
+            if (methodName.equals("get" + property) && method.getParameters().isEmpty()
+                    && isString(method.getReturnType())) {
+                getter = method;
+            } else if (methodName.equals("set" + property) && method.getParameters().size() == 1
+                    && isString(method.getParameters().get(0).asType())) {
+                setter = method;
+            }
+        }
+        if (getter == null || setter == null) {
+            return null;
+        }
+        return new StringAccess(name, "target." + getter.getSimpleName() + "()",
+                "target." + setter.getSimpleName() + "(%s)");
+    }
+
+    private boolean isAccessible(TypeElement owner, Set<Modifier> modifiers, PackageElement targetPackage) {
+        if (modifiers.contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        if (processingEnv.getElementUtils().getPackageOf(owner).equals(targetPackage)) {
+            return true;
+        }
+        return modifiers.contains(Modifier.PUBLIC) && owner.getModifiers().contains(Modifier.PUBLIC);
+    }
+
+    private TypeElement superclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        TypeElement element = (TypeElement) ((DeclaredType) superclass).asElement();
+        return element.getQualifiedName().contentEquals("java.lang.Object") ? null : element;
+    }
+
+    private boolean isString(TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED
+                && ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().contentEquals("java.lang.String");
+    }
+
+    /**
+     * Mirrors the runtime plan: primitives, enums, records, annotations and JDK value types never
+     * lead to a String.
+     */
+    private boolean isOpaque(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return true;
+        }
+        if (type.getKind() == TypeKind.ARRAY) {
+            return ((ArrayType) type).getComponentType().getKind().isPrimitive();
+        }
+        if (type.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+        if (element.getKind() == ElementKind.ENUM || element.getKind() == ElementKind.RECORD
+                || element.getKind() == ElementKind.ANNOTATION_TYPE) {
+            return true;
+        }
+        String name = element.getQualifiedName().toString();
+        boolean jdk = name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jdk.")
+                || name.startsWith("sun.") || name.startsWith("com.sun.");
+        return jdk && !DYNAMIC_JDK_TYPES.contains(name) && !isContainer(type);
+    }
+
+    private boolean isContainer(TypeMirror type) {
+        var types = processingEnv.getTypeUtils();
+        var elements = processingEnv.getElementUtils();
+        TypeMirror erased = types.erasure(type);
+        return types.isAssignable(erased, types.erasure(elements.getTypeElement("java.util.Collection").asType()))
+                || types.isAssignable(erased, types.erasure(elements.getTypeElement("java.util.Map").asType()));
+    }
+
+    private void write(TypeElement type, List<StringAccess> accesses) throws IOException {
+        var elements = processingEnv.getElementUtils();
+        String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        String binaryName = elements.getBinaryName(type).toString();
+        String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+                .replace('$', '_') + GeneratedNormalizer.CLASS_NAME_SUFFIX;
+        String targetType = type.getQualifiedName() + wildcards(type);
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n")
+                .append("public final class ").append(simpleName)
+                .append(" implements com.bibek.utils.normalizer.GeneratedNormalizer<").append(targetType).append("> {\n\n")
+                .append("    @Override\n")
+                .append("    public int normalize(").append(targetType)
+                .append(" target, com.bibek.utils.normalizer.NormalizeConfig config) {\n");
+        if (accesses.size() <= FIELDS_PER_METHOD) {
+            appendFields(source, accesses, 0, accesses.size());
+            source.append("    }\n");
+        } else {
+            // Keep every method well below HotSpot's huge-method limit so wide DTOs still get JIT-compiled
+            int chunks = (accesses.size() + FIELDS_PER_METHOD - 1) / FIELDS_PER_METHOD;
+            source.append("        return ");
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                source.append(chunk > 0 ? "\n                + " : "").append("normalize").append(chunk).append("(target, config)");
+            }
+            source.append(";\n    }\n");
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                source.append("\n    private static int normalize").append(chunk).append("(").append(targetType)
+                        .append(" target, com.bibek.utils.normalizer.NormalizeConfig config) {\n");
+                int from = chunk * FIELDS_PER_METHOD;
+                appendFields(source, accesses, from, Math.min(from + FIELDS_PER_METHOD, accesses.size()));
+                source.append("    }\n");
+            }
+        }
+        source.append("}\n");
+
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+            writer.write(source.toString());
+        }
+    }
+
+    private static void appendFields(StringBuilder source, List<StringAccess> accesses, int from, int to) {
+        source.append("        int replaced = 0;\n");
+        for (int i = from; i < to; i++) {
+            StringAccess access = accesses.get(i);
+            source.append("        String value").append(i).append(" = ").append(access.read()).append(";\n")
+                    .append("        if (value").append(i).append(" != null) {\n")
+                    .append("            String normalized").append(i)
+                    .append(" = com.bibek.utils.normalizer.StringNormalizer.apply(value").append(i).append(", config);\n")
+                    .append("            if (normalized").append(i).append(" != value").append(i).append(") {\n")
+                    .append("                ").append(access.write().formatted("normalized" + i)).append(";\n")
+                    .append("                replaced++;\n")
+                    .append("            }\n")
+                    .append("        }\n");
+        }
+        source.append("        return replaced;\n");
+    }
+
+    private static String wildcards(TypeElement type) {
+        int count = type.getTypeParameters().size();
+        return count == 0 ? "" : "<" + String.join(", ", Collections.nCopies(count, "?")) + ">";
+    }
+
+    private record StringAccess(String field, String read, String write) {}
+}
@@ -0,0 +1,125 @@
+package com.bibek.utils.normalizer.reactive;
+
+import com.bibek.utils.normalizer.NormalizeConfig;
+import com.bibek.utils.normalizer.NormalizeInput;
+import com.bibek.utils.normalizer.OversizedInputException;
+import com.bibek.utils.normalizer.StringNormalizer;
+import com.bibek.utils.normalizer.jackson.NormalizingJacksonModule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.reactivestreams.Publisher;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.codec.Hints;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link Jackson2JsonDecoder} that normalizes {@link NormalizeInput} values as they are decoded.
+ * <p>
+ * For {@code Flux} bodies (JSON arrays or line-delimited streams) each element is normalized on
+ * its way downstream, so nothing beyond the element being decoded is buffered and demand is passed
+ * through unchanged. Parameter-level {@code @NormalizeInput} on a WebFlux handler wins over the
+ * annotation on the element type.
+ */
+public class NormalizingJackson2JsonDecoder extends Jackson2JsonDecoder {
+
+    static final String CONFIG_HINT = NormalizingJackson2JsonDecoder.class.getName() + ".config";
+
+    private static final int MAX_CACHED_PARAMETERS = 1024;
+
+    /**
+     * The config of each element type's own {@link NormalizeInput}.
+     */
+    private static final ClassValue<Optional<NormalizeConfig>> TYPE_CONFIGS = new ClassValue<>() {
+        @Override
+        protected Optional<NormalizeConfig> computeValue(Class<?> type) {
+            return Optional.ofNullable(NormalizeConfig.of(type.getAnnotation(NormalizeInput.class)));
+        }
+    };
+
+    private static final Map<MethodParameter, Optional<NormalizeConfig>> PARAMETER_CONFIGS = new ConcurrentHashMap<>();
+
+    public NormalizingJackson2JsonDecoder() {
+    }
+
+    public NormalizingJackson2JsonDecoder(ObjectMapper mapper, MimeType... mimeTypes) {
+        super(mapper, mimeTypes);
+    }
+
+    @Override
+    public Map<String, Object> getDecodeHints(ResolvableType actualType, ResolvableType elementType,
+                                              ServerHttpRequest request, ServerHttpResponse response) {
+        Map<String, Object> hints = super.getDecodeHints(actualType, elementType, request, response);
+        MethodParameter parameter = getParameter(actualType);
+        NormalizeConfig config = parameter != null ? parameterConfig(parameter) : null;
+        return config != null ? Hints.merge(hints, CONFIG_HINT, config) : hints;
+    }
+
+    @Override
+    public Flux<Object> decode(Publisher<DataBuffer> input, ResolvableType elementType,
+                               MimeType mimeType, Map<String, Object> hints) {
+        Flux<Object> decoded = super.decode(input, elementType, mimeType, hints);
+        NormalizeConfig config = resolveConfig(elementType, hints);
+        return config != null ? decoded.map(value -> normalize(value, config)) : decoded;
+    }
+
+    @Override
+    public Object decode(DataBuffer dataBuffer, ResolvableType targetType,
+                         MimeType mimeType, Map<String, Object> hints) throws DecodingException {
+        Object value = super.decode(dataBuffer, targetType, mimeType, hints);
+        NormalizeConfig config = resolveConfig(targetType, hints);
+        return config != null && value != null ? normalize(value, config) : value;
+    }
+
+    private NormalizeConfig resolveConfig(ResolvableType elementType, Map<String, Object> hints) {
+        if (hints != null && hints.get(CONFIG_HINT) instanceof NormalizeConfig config) {
+            return config;
+        }
+        Class<?> raw = elementType.toClass();
+        Class<?> type = raw.isArray() ? elementType.getComponentType().toClass()
+                : Collection.class.isAssignableFrom(raw) ? elementType.asCollection().getGeneric(0).toClass()
+                : raw;
+        NormalizeConfig config = TYPE_CONFIGS.get(type).orElse(null);
+        if (config != null && NormalizingJacksonModule.normalizesWhileParsing(getObjectMapper(), type)) {
+            // Already normalized by the Jackson module while parsing
+            return null;
+        }
+        return config;
+    }
+
+    /**
+     * The config of a handler parameter's own {@link NormalizeInput}, cached per parameter.
+     */
+    private NormalizeConfig parameterConfig(MethodParameter parameter) {
+        Optional<NormalizeConfig> config = PARAMETER_CONFIGS.get(parameter);
+        if (config == null) {
+            config = Optional.ofNullable(NormalizeConfig.of(getAnnotation(parameter, NormalizeInput.class)));
+            if (PARAMETER_CONFIGS.size() < MAX_CACHED_PARAMETERS) {
+                PARAMETER_CONFIGS.putIfAbsent(parameter, config);
+            }
+        }
+        return config.orElse(null);
+    }
+
+    static Object normalize(Object value, NormalizeConfig config) {
+        try {
+            if (value instanceof String text) {
+                return StringNormalizer.apply(text, config);
+            }
+            StringNormalizer.normalize(value, config);
+            return value;
+        } catch (OversizedInputException e) {
+            throw new DecodingException(e.getMessage(), e);
+        }
+    }
+}
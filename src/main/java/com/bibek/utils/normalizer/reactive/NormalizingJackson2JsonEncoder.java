@@ -0,0 +1,140 @@
+package com.bibek.utils.normalizer.reactive;
+
+import com.bibek.utils.normalizer.NormalizeConfig;
+import com.bibek.utils.normalizer.NormalizeInput;
+import com.bibek.utils.normalizer.jackson.NormalizedValue;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.reactivestreams.Publisher;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.Hints;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link Jackson2JsonEncoder} that normalizes {@link NormalizeInput} values while they are
+ * written, element by element for {@code Flux} bodies. Values are wrapped in a
+ * {@link NormalizedValue} and never modified. Used for WebClient request bodies and, through
+ * {@link #forResponses(ObjectMapper)}, for WebFlux server responses.
+ */
+public class NormalizingJackson2JsonEncoder extends Jackson2JsonEncoder {
+
+    private static final ResolvableType NORMALIZED_VALUE = ResolvableType.forClass(NormalizedValue.class);
+
+    private static final int MAX_CACHED_METHODS = 1024;
+
+    private static final ClassValue<Optional<NormalizeConfig>> TYPE_CONFIGS = new ClassValue<>() {
+        @Override
+        protected Optional<NormalizeConfig> computeValue(Class<?> type) {
+            return Optional.ofNullable(NormalizeConfig.of(type.getAnnotation(NormalizeInput.class)));
+        }
+    };
+
+    private static final Map<Method, Optional<NormalizeConfig>> METHOD_CONFIGS = new ConcurrentHashMap<>();
+
+    private final boolean typeAnnotations;
+
+    public NormalizingJackson2JsonEncoder() {
+        this.typeAnnotations = true;
+    }
+
+    public NormalizingJackson2JsonEncoder(ObjectMapper mapper, MimeType... mimeTypes) {
+        super(mapper, mimeTypes);
+        this.typeAnnotations = true;
+    }
+
+    private NormalizingJackson2JsonEncoder(ObjectMapper mapper, boolean typeAnnotations) {
+        super(mapper);
+        this.typeAnnotations = typeAnnotations;
+    }
+
+    /**
+     * Returns an encoder for WebFlux server responses. As with Spring MVC's response advice, only
+     * handler methods annotated with {@link NormalizeInput} opt in; the annotation on the returned
+     * type configures request bodies only.
+     */
+    public static NormalizingJackson2JsonEncoder forResponses(ObjectMapper mapper) {
+        return new NormalizingJackson2JsonEncoder(mapper != null ? mapper : Jackson2ObjectMapperBuilder.json().build(), false);
+    }
+
+    @Override
+    public Map<String, Object> getEncodeHints(ResolvableType actualType, ResolvableType elementType, MediaType mediaType,
+                                              ServerHttpRequest request, ServerHttpResponse response) {
+        Map<String, Object> hints = super.getEncodeHints(actualType, elementType, mediaType, request, response);
+        MethodParameter returnType = getParameter(actualType);
+        NormalizeConfig config = returnType != null && returnType.getMethod() != null
+                ? methodConfig(returnType.getMethod()) : null;
+        return config != null ? Hints.merge(hints, NormalizingJackson2JsonDecoder.CONFIG_HINT, config) : hints;
+    }
+
+    @Override
+    public Flux<DataBuffer> encode(Publisher<?> inputStream, DataBufferFactory bufferFactory,
+                                   ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
+        // Mono values go through encodeValue; Flux elements are encoded one by one without it
+        if (inputStream instanceof Mono) {
+            return super.encode(inputStream, bufferFactory, elementType, mimeType, hints);
+        }
+        NormalizeConfig config = resolveConfig(elementType.resolve(), hints);
+        if (config == null) {
+            return super.encode(inputStream, bufferFactory, elementType, mimeType, hints);
+        }
+        JavaType declared = getJavaType(elementType.getType(), null);
+        Flux<NormalizedValue> input = Flux.from(inputStream).map(value -> new NormalizedValue(value, config, declared));
+        return super.encode(input, bufferFactory, NORMALIZED_VALUE, mimeType, hints);
+    }
+
+    @Override
+    public DataBuffer encodeValue(Object value, DataBufferFactory bufferFactory,
+                                  ResolvableType valueType, MimeType mimeType, Map<String, Object> hints) {
+        Object target = value instanceof MappingJacksonValue container ? container.getValue() : value;
+        NormalizeConfig config = target != null ? resolveConfig(target.getClass(), hints) : null;
+        if (config == null) {
+            return super.encodeValue(value, bufferFactory, valueType, mimeType, hints);
+        }
+        Object normalized = new NormalizedValue(target, config, getJavaType(valueType.getType(), null));
+        if (value instanceof MappingJacksonValue container) {
+            MappingJacksonValue copy = new MappingJacksonValue(normalized);
+            copy.setSerializationView(container.getSerializationView());
+            copy.setFilters(container.getFilters());
+            normalized = copy;
+        }
+        return super.encodeValue(normalized, bufferFactory, NORMALIZED_VALUE, mimeType, hints);
+    }
+
+    /**
+     * The handler method's config carried in {@code hints}, else, unless this encoder writes
+     * server responses, the annotation on {@code type}.
+     */
+    private NormalizeConfig resolveConfig(Class<?> type, Map<String, Object> hints) {
+        if (hints != null && hints.get(NormalizingJackson2JsonDecoder.CONFIG_HINT) instanceof NormalizeConfig config) {
+            return config;
+        }
+        return typeAnnotations && type != null ? TYPE_CONFIGS.get(type).orElse(null) : null;
+    }
+
+    private static NormalizeConfig methodConfig(Method method) {
+        Optional<NormalizeConfig> config = METHOD_CONFIGS.get(method);
+        if (config == null) {
+            config = Optional.ofNullable(NormalizeConfig.of(method.getAnnotation(NormalizeInput.class)));
+            if (METHOD_CONFIGS.size() < MAX_CACHED_METHODS) {
+                METHOD_CONFIGS.putIfAbsent(method, config);
+            }
+        }
+        return config.orElse(null);
+    }
+}
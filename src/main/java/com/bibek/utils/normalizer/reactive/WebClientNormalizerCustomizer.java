@@ -0,0 +1,34 @@
+package com.bibek.utils.normalizer.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.web.reactive.function.client.WebClientCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * Registers the normalizing JSON codecs with WebClient (request and response bodies).
+ */
+@Configuration
+@org.springframework.boot.autoconfigure.condition.ConditionalOnClass(WebClient.class)
+public class WebClientNormalizerCustomizer {
+
+    @Autowired(required = false)
+    private ObjectMapper objectMapper;
+
+    @Bean
+    @Order(1)
+    WebClientCustomizer normalizingWebClientCustomizer() {
+        return builder -> builder.codecs(codecs -> {
+            if (objectMapper != null) {
+                codecs.defaultCodecs().jackson2JsonDecoder(new NormalizingJackson2JsonDecoder(objectMapper));
+                codecs.defaultCodecs().jackson2JsonEncoder(new NormalizingJackson2JsonEncoder(objectMapper));
+            } else {
+                codecs.defaultCodecs().jackson2JsonDecoder(new NormalizingJackson2JsonDecoder());
+                codecs.defaultCodecs().jackson2JsonEncoder(new NormalizingJackson2JsonEncoder());
+            }
+        });
+    }
+}
@@ -0,0 +1,113 @@
+package com.bibek.utils.normalizer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkNormalizerTest {
+
+    @Test
+    void sequential_usesEachItemsOwnAnnotation() {
+        Item item = new Item("  a  b  ");
+        Plain plain = new Plain("  kept  ");
+
+        BulkNormalizer.sequential().normalizeAll(List.of(item, plain));
+
+        assertEquals("a b", item.name);
+        assertEquals("  kept  ", plain.name);
+    }
+
+    @Test
+    void explicitConfig_appliesToEveryItem() {
+        Plain plain = new Plain("  x  ");
+
+        BulkNormalizer.sequential().normalizeAll(List.of(plain), new NormalizeConfig(true, true, false));
+
+        assertEquals("x", plain.name);
+        assertThrows(IllegalArgumentException.class,
+                () -> BulkNormalizer.sequential().normalizeAll(List.of(plain), null));
+    }
+
+    @Test
+    void inPlace_rejectsStringItemsItWouldNormalize() {
+        NormalizeConfig config = new NormalizeConfig(true, true, false);
+        assertThrows(IllegalArgumentException.class,
+                () -> BulkNormalizer.sequential().normalizeAll(List.of(" a "), config));
+        assertThrows(IllegalArgumentException.class,
+                () -> BulkNormalizer.sequential().normalizeAll(List.of(" a ").spliterator(), config));
+
+        BulkNormalizer.sequential().normalizeAll(List.of(" unannotated "));
+    }
+
+    @Test
+    void stream_normalizesLazilyAndReplacesStrings() {
+        Item item = new Item("  late  ");
+        Stream<Item> stream = BulkNormalizer.sequential().normalizeAll(Stream.of(item));
+        assertEquals("  late  ", item.name);
+
+        assertEquals("late", stream.findFirst().orElseThrow().name);
+        assertEquals(List.of("a", "b"), BulkNormalizer.sequential()
+                .normalizeAll(Stream.of(" a ", "b  "), new NormalizeConfig(true, true, false)).toList());
+    }
+
+    @Test
+    void parallel_normalizesEveryItemOfALargeSource() {
+        List<Item> items = new ArrayList<>();
+        IntStream.range(0, 10_000).forEach(i -> items.add(new Item("  " + i + "  ")));
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            BulkNormalizer.parallel(pool, 100).normalizeAll(items);
+        } finally {
+            pool.shutdown();
+        }
+
+        for (int i = 0; i < items.size(); i++) {
+            assertEquals(String.valueOf(i), items.get(i).name);
+        }
+    }
+
+    @Test
+    void parallel_handlesSmallSourcesAndPropagatesFailures() {
+        Item item = new Item("  x  ");
+        BulkNormalizer.parallel(ForkJoinPool.commonPool(), 100).normalizeAll(List.of(item));
+        assertEquals("x", item.name);
+
+        List<Limited> items = new ArrayList<>();
+        IntStream.range(0, 1_000).forEach(i -> items.add(new Limited(i == 500 ? "x".repeat(20) : "ok")));
+        assertThrows(OversizedInputException.class,
+                () -> BulkNormalizer.parallel(ForkJoinPool.commonPool(), 10).normalizeAll(items));
+        assertThrows(IllegalArgumentException.class, () -> BulkNormalizer.parallel(ForkJoinPool.commonPool(), 0));
+    }
+
+    @NormalizeInput(collapseSpaces = true)
+    static class Item {
+        String name;
+
+        Item(String name) {
+            this.name = name;
+        }
+    }
+
+    @NormalizeInput(maxInputLength = 10, onOversize = NormalizeInput.OversizePolicy.REJECT)
+    static class Limited {
+        String name;
+
+        Limited(String name) {
+            this.name = name;
+        }
+    }
+
+    static class Plain {
+        String name;
+
+        Plain(String name) {
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.bibek.utils.normalizer;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.validation.Errors;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class FusedValidatorTest {
+
+    private final CountingValidator validator = new CountingValidator();
+
+    private final MockMvc mvc = mockMvc(validator);
+
+    @Test
+    void validCoveredBody_isNotValidatedAgain() throws Exception {
+        mvc.perform(post("/signup").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"  Jane  \",\"code\":\" ab1 \"}"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("Jane|ab1"));
+
+        assertEquals(0, validator.calls.get());
+    }
+
+    @Test
+    void violation_isReportedByTheFullValidator() throws Exception {
+        // Blank after normalization: the validator must see the normalized value
+        mvc.perform(post("/signup").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"   \",\"code\":\"ab1\"}"))
+                .andExpect(status().isBadRequest());
+
+        assertEquals(1, validator.calls.get());
+    }
+
+    @Test
+    void uncoveredBody_isValidatedByTheFullValidator() throws Exception {
+        mvc.perform(post("/contact").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\" a@b.com \"}"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("a@b.com"));
+
+        assertEquals(1, validator.calls.get());
+    }
+
+    @Test
+    void hiddenField_isNormalizedAndValidatedByTheFullValidator() throws Exception {
+        mvc.perform(post("/hidden").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"  Jane  \",\"code\":\" TOO LONG \"}"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("Jane|TOO LONG"));
+
+        assertEquals(1, validator.calls.get());
+    }
+
+    @Test
+    void constraints_coverOnlySimpleStringConstraints() throws Exception {
+        FusedConstraints signup = FusedConstraints.of(SignupRequest.class);
+        Field name = SignupRequest.class.getField("name");
+        Field code = SignupRequest.class.getField("code");
+        assertTrue(signup.covered());
+        assertFalse(signup.check(name).test(null));
+        assertFalse(signup.check(name).test(""));
+        assertFalse(signup.check(code).test("toolong"));
+        assertFalse(signup.check(code).test("AB1"));
+        assertTrue(signup.check(code).test(null));
+        assertTrue(signup.check(code).test("ab1"));
+        assertNull(signup.check(HiddenRequest.class.getDeclaredField("code")));
+        assertFalse(FusedConstraints.of(HiddenRequest.class).covered());
+
+        assertFalse(FusedConstraints.of(ContactRequest.class).covered());
+        assertFalse(FusedConstraints.of(NestedRequest.class).covered());
+    }
+
+    private static MockMvc mockMvc(CountingValidator validator) {
+        validator.afterPropertiesSet();
+        var registry = new HandlerNormalizationRegistry(
+                new StaticListableBeanFactory().getBeanProvider(RequestMappingHandlerMapping.class), false);
+        return MockMvcBuilders.standaloneSetup(new SignupController())
+                .setControllerAdvice(new RequestNormalizerRequestBodyAdvice(registry, false, true))
+                .setValidator(new FusedValidator(validator))
+                .build();
+    }
+
+    static class CountingValidator extends LocalValidatorFactoryBean {
+
+        final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public void validate(Object target, Errors errors) {
+            calls.incrementAndGet();
+            super.validate(target, errors);
+        }
+    }
+
+    @NormalizeInput
+    public static class SignupRequest {
+        @NotBlank
+        public String name;
+        @Size(max = 4)
+        @Pattern(regexp = "[a-z0-9]+")
+        public String code;
+    }
+
+    @NormalizeInput
+    public static class ContactRequest {
+        @Email
+        public String email;
+    }
+
+    /**
+     * Hides the constrained {@code code} of its superclass with an unconstrained field.
+     */
+    @NormalizeInput
+    public static class HiddenRequest extends SignupRequest {
+        public String code;
+    }
+
+    @NormalizeInput
+    public static class NestedRequest {
+        @Valid
+        public SignupRequest signup;
+    }
+
+    @RestController
+    static class SignupController {
+
+        @PostMapping("/signup")
+        String signup(@RequestBody @Valid SignupRequest request) {
+            return request.name + "|" + request.code;
+        }
+
+        @PostMapping("/hidden")
+        String hidden(@RequestBody @Valid HiddenRequest request) {
+            return request.name + "|" + request.code;
+        }
+
+        @PostMapping("/contact")
+        String contact(@RequestBody @Valid ContactRequest request) {
+            return request.email;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.bibek.utils.normalizer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeneratedNormalizerTest {
+
+    private static final NormalizeConfig DEFAULT = new NormalizeConfig(true, true, false);
+
+    @Test
+    void generatedClassName_flattensNestedTypes() {
+        assertEquals("com.bibek.utils.normalizer.GeneratedNormalizerTest_AccessorDto_Normalizer",
+                GeneratedNormalizer.generatedClassName(AccessorDto.class));
+        assertEquals("com.bibek.utils.normalizer.StringNormalizer_Normalizer",
+                GeneratedNormalizer.generatedClassName(StringNormalizer.class));
+    }
+
+    @Test
+    void processor_generatesNormalizerForFlatType() throws Exception {
+        Class<?> generated = Class.forName(GeneratedNormalizer.generatedClassName(AccessorDto.class));
+        assertTrue(GeneratedNormalizer.class.isAssignableFrom(generated));
+    }
+
+    @Test
+    void processor_skipsTypesWithNestedStrings() {
+        assertThrows(ClassNotFoundException.class,
+                () -> Class.forName(GeneratedNormalizer.generatedClassName(NestedDto.class)));
+    }
+
+    @Test
+    void processor_splitsWideTypesIntoCompilableMethods() throws Exception {
+        Class<?> generated = Class.forName(GeneratedNormalizer.generatedClassName(WideDto.class));
+        assertNotNull(generated.getDeclaredMethod("normalize1", WideDto.class, NormalizeConfig.class));
+
+        WideDto dto = new WideDto();
+        dto.f0 = "  first  ";
+        dto.f69 = "  last  ";
+        StringNormalizer.normalize(dto, DEFAULT);
+
+        assertEquals("first", dto.f0);
+        assertEquals("last", dto.f69);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void generatedNormalizer_returnsReplacedCount() throws Exception {
+        GeneratedNormalizer<WideDto> normalizer = (GeneratedNormalizer<WideDto>) Class
+                .forName(GeneratedNormalizer.generatedClassName(WideDto.class))
+                .getDeclaredConstructor().newInstance();
+        WideDto dto = new WideDto();
+        dto.f0 = "  first  ";
+        dto.f1 = "clean";
+        dto.f69 = "  last  ";
+
+        assertEquals(2, normalizer.normalize(dto, DEFAULT));
+        assertEquals(0, normalizer.normalize(dto, DEFAULT));
+    }
+
+    @Test
+    void processor_leavesOutSkippedFieldsAndFallsBackForOverrides() throws Exception {
+        assertNotNull(Class.forName(GeneratedNormalizer.generatedClassName(SkippingDto.class)));
+        assertThrows(ClassNotFoundException.class,
+                () -> Class.forName(GeneratedNormalizer.generatedClassName(OverridingDto.class)));
+
+        SkippingDto dto = new SkippingDto();
+        dto.name = "  kept  ";
+        dto.payload = "  raw  ";
+        StringNormalizer.normalize(dto, DEFAULT);
+
+        assertEquals("kept", dto.name);
+        assertEquals("  raw  ", dto.payload);
+    }
+
+    @Test
+    void normalize_usesGeneratedAccessorCalls() {
+        AccessorDto dto = new AccessorDto();
+        dto.setName("  generated  ");
+        dto.setCode("ok");
+        dto.setterCalls = 0;
+
+        StringNormalizer.normalize(dto, DEFAULT);
+
+        assertEquals("generated", dto.getName());
+        assertEquals("ok", dto.getCode());
+        // Only the changed value is written back, through its setter
+        assertEquals(1, dto.setterCalls);
+    }
+
+    @NormalizeInput
+    static class WideDto {
+        String f0, f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13,
+                f14, f15, f16, f17, f18, f19, f20, f21, f22, f23, f24, f25, f26, f27,
+                f28, f29, f30, f31, f32, f33, f34, f35, f36, f37, f38, f39, f40, f41,
+                f42, f43, f44, f45, f46, f47, f48, f49, f50, f51, f52, f53, f54, f55,
+                f56, f57, f58, f59, f60, f61, f62, f63, f64, f65, f66, f67, f68, f69;
+    }
+
+    @NormalizeInput
+    static class AccessorDto {
+        private String name;
+        private String code;
+        private int count;
+        int setterCalls;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            setterCalls++;
+            this.name = name;
+        }
+
+        public String getCode() {
+            return code;
+        }
+
+        public void setCode(String code) {
+            setterCalls++;
+            this.code = code;
+        }
+    }
+
+    @Test
+    void normalizeTracked_generatedType_reportsFields() {
+        AccessorDto dto = new AccessorDto();
+        dto.name = " a ";
+        dto.code = "b";
+
+        NormalizationResult result = StringNormalizer.normalizeTracked(dto, new NormalizeConfig(true, true, false));
+
+        assertEquals(java.util.Set.of("name"), result.changedFields());
+        assertEquals("a", dto.name);
+    }
+
+    @NormalizeInput
+    static class SkippingDto {
+        String name;
+        @SkipNormalization
+        String payload;
+        @SkipNormalization
+        List<String> blobs;
+    }
+
+    @NormalizeInput
+    static class OverridingDto {
+        String name;
+        @NormalizeInput(lowercase = true)
+        String code;
+    }
+
+    @NormalizeInput
+    static class NestedDto {
+        AccessorDto inner;
+    }
+}
@@ -0,0 +1,114 @@
+package com.bibek.utils.normalizer;
+
+import com.bibek.utils.normalizer.jackson.NormalizingJacksonModule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+
+import java.io.ByteArrayInputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NdjsonHttpMessageConverterTest {
+
+    private final NdjsonHttpMessageConverter converter = new NdjsonHttpMessageConverter(new ObjectMapper());
+
+    @Test
+    void canRead_listAndStreamOfNdjson() {
+        assertTrue(converter.canRead(new ParameterizedTypeReference<List<Row>>() {}.getType(), null,
+                MediaType.APPLICATION_NDJSON));
+        assertTrue(converter.canRead(new ParameterizedTypeReference<Stream<Row>>() {}.getType(), null,
+                MediaType.APPLICATION_NDJSON));
+        assertFalse(converter.canRead(Row.class, MediaType.APPLICATION_NDJSON));
+        assertFalse(converter.canRead(List.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(List.class, MediaType.APPLICATION_NDJSON));
+    }
+
+    @Test
+    void readList_normalizesEachAnnotatedElement() throws Exception {
+        MockHttpInputMessage input = ndjson("{\"name\":\"  a  \"}\n{\"name\":\"   \"}\n");
+
+        @SuppressWarnings("unchecked")
+        List<Row> rows = (List<Row>) converter.read(
+                new ParameterizedTypeReference<List<Row>>() {}.getType(), null, input);
+
+        assertEquals(2, rows.size());
+        assertEquals("a", rows.get(0).name);
+        assertNull(rows.get(1).name);
+    }
+
+    @Test
+    void readStream_parsesLazily() throws Exception {
+        AtomicInteger linesOpened = new AtomicInteger();
+        Iterator<ByteArrayInputStream> lines = IntStream.range(0, 100_000)
+                .mapToObj(i -> {
+                    linesOpened.incrementAndGet();
+                    return new ByteArrayInputStream(("{\"name\":\"  row" + i + "  \"}\n").getBytes(StandardCharsets.UTF_8));
+                })
+                .iterator();
+        MockHttpInputMessage input = new MockHttpInputMessage(new SequenceInputStream(new Enumeration<>() {
+            @Override
+            public boolean hasMoreElements() {
+                return lines.hasNext();
+            }
+
+            @Override
+            public ByteArrayInputStream nextElement() {
+                return lines.next();
+            }
+        }));
+        input.getHeaders().setContentType(MediaType.APPLICATION_NDJSON);
+
+        @SuppressWarnings("unchecked")
+        Stream<Row> rows = (Stream<Row>) converter.read(
+                new ParameterizedTypeReference<Stream<Row>>() {}.getType(), null, input);
+
+        assertEquals(List.of("row0", "row1"), rows.limit(2).map(row -> row.name).toList());
+        assertTrue(linesOpened.get() < 100_000, "body was read eagerly: " + linesOpened.get());
+    }
+
+    @Test
+    void readList_recordsAreLeftToTheCreatorsModule() throws Exception {
+        NdjsonHttpMessageConverter creators = new NdjsonHttpMessageConverter(
+                new ObjectMapper().registerModule(NormalizingJacksonModule.creatorsOnly()));
+
+        @SuppressWarnings("unchecked")
+        List<RecordRow> rows = (List<RecordRow>) creators.read(
+                new ParameterizedTypeReference<List<RecordRow>>() {}.getType(), null, ndjson("{\"name\":\"  a  \"}\n"));
+
+        assertEquals(List.of(new RecordRow("a")), rows);
+    }
+
+    @Test
+    void read_malformedLine_isNotReadable() {
+        MockHttpInputMessage input = ndjson("{\"name\":\"a\"}\n{not json}\n");
+
+        assertThrows(HttpMessageNotReadableException.class, () -> converter.read(
+                new ParameterizedTypeReference<List<Row>>() {}.getType(), null, input));
+    }
+
+    private static MockHttpInputMessage ndjson(String body) {
+        MockHttpInputMessage input = new MockHttpInputMessage(body.getBytes(StandardCharsets.UTF_8));
+        input.getHeaders().setContentType(MediaType.APPLICATION_NDJSON);
+        return input;
+    }
+
+    @NormalizeInput
+    static class Row {
+        public String name;
+    }
+
+    @NormalizeInput
+    record RecordRow(String name) {}
+}
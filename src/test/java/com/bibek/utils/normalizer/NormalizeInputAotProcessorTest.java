@@ -0,0 +1,98 @@
+package com.bibek.utils.normalizer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.generate.ClassNameGenerator;
+import org.springframework.aot.generate.DefaultGenerationContext;
+import org.springframework.aot.generate.InMemoryGeneratedFiles;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.beans.factory.aot.BeanRegistrationAotContribution;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RegisteredBean;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.javapoet.ClassName;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NormalizeInputAotProcessorTest {
+
+    private final NormalizeInputAotProcessor processor = new NormalizeInputAotProcessor();
+
+    @Test
+    void registersFieldsOfBodyTypesAndNestedTypes() {
+        RuntimeHints hints = process(Controller.class);
+
+        assertTrue(RuntimeHintsPredicates.reflection().onType(AnnotatedBody.class)
+                .withMemberCategory(MemberCategory.DECLARED_FIELDS).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(Nested.class)
+                .withMemberCategory(MemberCategory.DECLARED_FIELDS).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(PlainBody.class)
+                .withMemberCategory(MemberCategory.DECLARED_FIELDS).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(ListElement.class)
+                .withMemberCategory(MemberCategory.DECLARED_FIELDS).test(hints));
+    }
+
+    @Test
+    void registersGeneratedNormalizerConstructor() {
+        RuntimeHints hints = process(Controller.class);
+
+        TypeReference generated = TypeReference.of(GeneratedNormalizer.generatedClassName(ListElement.class));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(generated)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS).test(hints));
+    }
+
+    @Test
+    void beanWithoutNormalizedTypes_contributesNothing() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("plain", new RootBeanDefinition(PlainBody.class));
+
+        assertNull(processor.processAheadOfTime(RegisteredBean.of(beanFactory, "plain")));
+    }
+
+    private RuntimeHints process(Class<?> beanClass) {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("bean", new RootBeanDefinition(beanClass));
+        BeanRegistrationAotContribution contribution =
+                processor.processAheadOfTime(RegisteredBean.of(beanFactory, "bean"));
+        assertNotNull(contribution);
+
+        DefaultGenerationContext generationContext = new DefaultGenerationContext(
+                new ClassNameGenerator(ClassName.get("com.example", "Test")), new InMemoryGeneratedFiles());
+        contribution.applyTo(generationContext, null);
+        return generationContext.getRuntimeHints();
+    }
+
+    static class Controller {
+        public void create(@RequestBody AnnotatedBody body) {
+        }
+
+        public void createPlain(@RequestBody @NormalizeInput PlainBody body) {
+        }
+
+        public void createAll(@RequestBody List<ListElement> body) {
+        }
+    }
+
+    @NormalizeInput
+    static class AnnotatedBody {
+        Nested nested;
+    }
+
+    static class Nested {
+        String value;
+    }
+
+    static class PlainBody {
+        String value;
+    }
+
+    @NormalizeInput
+    static class ListElement {
+        public String value;
+    }
+}
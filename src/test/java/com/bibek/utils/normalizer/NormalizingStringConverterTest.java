@@ -0,0 +1,112 @@
+package com.bibek.utils.normalizer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+
+class NormalizingStringConverterTest {
+
+    private final MockMvc mvc = mockMvc();
+
+    @Test
+    void requestParam_annotatedParameterIsNormalized() throws Exception {
+        mvc.perform(get("/search").param("q", "  hello    world ").param("raw", "  raw "))
+                .andExpect(content().string("[hello world][  raw ]"));
+    }
+
+    @Test
+    void requestParam_listElementsAreNormalized() throws Exception {
+        mvc.perform(get("/tags").param("tag", " a ", "b  "))
+                .andExpect(content().string("[a, b]"));
+    }
+
+    @Test
+    void modelAttribute_classAnnotationAppliesWhileBinding() throws Exception {
+        mvc.perform(post("/form")
+                        .param("name", "  Jane   Doe ")
+                        .param("email", "   ")
+                        .param("code", " eur ")
+                        .param("token", "  keep  "))
+                .andExpect(content().string("Jane Doe|null|EUR|  keep  "));
+    }
+
+    @Test
+    void modelAttribute_recordConstructorArgumentsAreNormalized() throws Exception {
+        mvc.perform(post("/record").param("query", "  x  "))
+                .andExpect(content().string("[x]"));
+    }
+
+    private static MockMvc mockMvc() {
+        DefaultFormattingConversionService conversionService = new DefaultFormattingConversionService();
+        conversionService.addConverter(new NormalizingStringConverter());
+        return MockMvcBuilders.standaloneSetup(new FormController())
+                .setConversionService(conversionService)
+                .build();
+    }
+
+    @NormalizeInput(collapseSpaces = true)
+    public static class SearchForm {
+        private String name;
+        private String email;
+        @NormalizeInput(uppercase = true)
+        private String code;
+        @SkipNormalization
+        private String token;
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public void setEmail(String email) {
+            this.email = email;
+        }
+
+        public void setCode(String code) {
+            this.code = code;
+        }
+
+        public void setToken(String token) {
+            this.token = token;
+        }
+    }
+
+    @NormalizeInput
+    public record QueryForm(String query) {
+    }
+
+    @RestController
+    static class FormController {
+
+        @GetMapping("/search")
+        String search(@RequestParam @NormalizeInput(collapseSpaces = true) String q, @RequestParam String raw) {
+            return "[" + q + "][" + raw + "]";
+        }
+
+        @GetMapping("/tags")
+        String tags(@RequestParam("tag") @NormalizeInput List<String> tags) {
+            return tags.toString();
+        }
+
+        @PostMapping("/form")
+        String form(@ModelAttribute SearchForm form) {
+            return form.name + "|" + form.email + "|" + form.code + "|" + form.token;
+        }
+
+        @PostMapping("/record")
+        String record(@ModelAttribute QueryForm form) {
+            return "[" + form.query() + "]";
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.bibek.utils.normalizer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelNormalizerTest {
+
+    private static final NormalizeConfig DEFAULT = new NormalizeConfig(true, true, false);
+
+    @Test
+    void normalize_largeNestedListIsSplitAcrossThePool() {
+        Document document = new Document(10_000);
+        try (ParallelNormalizer parallel = new ParallelNormalizer(2, 100)) {
+            parallel.normalize(document, DEFAULT);
+        }
+
+        assertFalse(document.lines.threads.isEmpty());
+        assertTrue(document.lines.threads.stream().allMatch(name -> name.startsWith("request-normalizer-")));
+        assertEquals("title", document.title);
+        for (int i = 0; i < document.lines.size(); i++) {
+            assertEquals("line " + i, document.lines.get(i).text);
+        }
+    }
+
+    @Test
+    void normalize_smallGraphStaysOnTheCallingThread() {
+        Document document = new Document(50);
+        try (ParallelNormalizer parallel = new ParallelNormalizer(2, 100)) {
+            parallel.normalize(document, DEFAULT);
+        }
+
+        assertEquals("line 49", document.lines.get(49).text);
+        assertEquals(Set.of(Thread.currentThread().getName()), document.lines.threads);
+    }
+
+    @Test
+    void walk_mergesCountsOfSplitArraysAndReplacesStringElements() {
+        String[] values = new String[1_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i % 2 == 0 ? " " + i + " " : String.valueOf(i);
+        }
+        try (ParallelNormalizer parallel = new ParallelNormalizer(2, 10)) {
+            NormalizationWalk walk = new NormalizationWalk(DEFAULT, parallel);
+            ValueHandler.forContainer(values).normalize(values, walk);
+
+            assertEquals(500, walk.changed);
+            assertEquals(500, walk.unchanged);
+            assertEquals("998", values[998]);
+
+            walk.trackCycles();
+            assertFalse(walk.splits(1_000));
+        }
+    }
+
+    @Test
+    void normalize_failuresInTasksPropagateToTheCaller() {
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            values.add(i == 700 ? "x".repeat(20) : "ok");
+        }
+        NormalizeConfig limited = new NormalizeConfig(true, true, false, false, false, false, false, null, false, 0, 10, true);
+        try (ParallelNormalizer parallel = new ParallelNormalizer(2, 10)) {
+            assertThrows(OversizedInputException.class, () -> parallel.normalize(values, limited));
+        }
+        assertThrows(IllegalArgumentException.class, () -> new ParallelNormalizer(0, 100));
+        assertThrows(IllegalArgumentException.class, () -> new ParallelNormalizer(1, 1));
+    }
+
+    static class Document {
+        String title = "  title ";
+        RecordingList<Line> lines = new RecordingList<>();
+
+        Document(int lines) {
+            for (int i = 0; i < lines; i++) {
+                this.lines.add(new Line("  line " + i + "  "));
+            }
+        }
+    }
+
+    static class Line {
+        String text;
+
+        Line(String text) {
+            this.text = text;
+        }
+    }
+
+    /**
+     * Remembers the threads that read its elements.
+     */
+    static class RecordingList<E> extends ArrayList<E> {
+
+        final Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public E get(int index) {
+            threads.add(Thread.currentThread().getName());
+            return super.get(index);
+        }
+    }
+}
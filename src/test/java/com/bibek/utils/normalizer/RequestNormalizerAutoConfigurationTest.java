@@ -0,0 +1,519 @@
+package com.bibek.utils.normalizer;
+
+import com.bibek.utils.normalizer.jackson.NormalizingJacksonModule;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.boot.test.util.TestPropertyValues;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.Validator;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class RequestNormalizerAutoConfigurationTest {
+
+    private final WebApplicationContextRunner runner = new WebApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(
+                    JacksonAutoConfiguration.class,
+                    RequestNormalizerJacksonAutoConfiguration.class,
+                    RequestNormalizerAutoConfiguration.class));
+
+    @Test
+    void registersRequestBodyAdvice() {
+        runner.run(context -> {
+            assertEquals(1, context.getBeansOfType(RequestNormalizerRequestBodyAdvice.class).size());
+            assertEquals(1, context.getBeansOfType(RequestNormalizerResponseBodyAdvice.class).size());
+            assertTrue(context.containsBean("bindingNormalizerConfigurer"));
+            // The application's ObjectMapper is left alone unless a module is enabled
+            ObjectMapper mapper = context.getBean(ObjectMapper.class);
+            assertFalse(NormalizingJacksonModule.isRegistered(mapper));
+            assertFalse(NormalizingJacksonModule.normalizesCreators(mapper));
+        });
+    }
+
+    @Test
+    void creatorsModule_isOptIn() {
+        runner.run(context -> assertTrue(context.getBeansOfType(NormalizingJacksonModule.class).isEmpty()));
+        runner.withPropertyValues("request-normalizer.jackson.creators.enabled=false").run(context ->
+                assertTrue(context.getBeansOfType(NormalizingJacksonModule.class).isEmpty()));
+        runner.withPropertyValues("request-normalizer.jackson.creators.enabled=true").run(context -> {
+            ObjectMapper mapper = context.getBean(ObjectMapper.class);
+            assertFalse(NormalizingJacksonModule.isRegistered(mapper));
+            assertTrue(NormalizingJacksonModule.normalizesCreators(mapper));
+        });
+    }
+
+    @Test
+    void jacksonModuleEnabled_registersModuleWithObjectMapper() {
+        runner.withPropertyValues("request-normalizer.jackson.enabled=true").run(context -> {
+            assertEquals(1, context.getBeansOfType(NormalizingJacksonModule.class).size());
+            assertTrue(NormalizingJacksonModule.isRegistered(context.getBean(ObjectMapper.class)));
+        });
+    }
+
+    @Test
+    void fusedValidation_wrapsMvcValidator() {
+        runner.withConfiguration(AutoConfigurations.of(ValidationAutoConfiguration.class,
+                        HttpMessageConvertersAutoConfiguration.class, WebMvcAutoConfiguration.class))
+                .withPropertyValues("request-normalizer.validation.fused=true")
+                .run(context -> {
+                    Validator mvcValidator = context.getBean("mvcValidator", Validator.class);
+                    assertInstanceOf(FusedValidator.class, mvcValidator);
+                    // Method validation still finds the Bean Validation provider
+                    assertNotNull(((FusedValidator) mvcValidator).unwrap(jakarta.validation.Validator.class));
+                });
+    }
+
+    @Test
+    void fusedValidation_wrapsTheValidatorOfAnApplicationConfigurer() {
+        runner.withConfiguration(AutoConfigurations.of(ValidationAutoConfiguration.class,
+                        HttpMessageConvertersAutoConfiguration.class, WebMvcAutoConfiguration.class))
+                .withUserConfiguration(CustomValidatorConfigurer.class)
+                .withPropertyValues("request-normalizer.validation.fused=true")
+                .run(context -> {
+                    assertNull(context.getStartupFailure());
+                    Validator mvcValidator = context.getBean("mvcValidator", Validator.class);
+                    assertInstanceOf(FusedValidator.class, mvcValidator);
+
+                    mvcValidator.validate("x", new BeanPropertyBindingResult("x", "x"));
+                    assertEquals(1, CustomValidatorConfigurer.VALIDATOR.calls);
+                });
+    }
+
+    @Test
+    void parallel_enabledByPropertyAndUsedByTheRegistry() {
+        runner.withPropertyValues("request-normalizer.parallel.enabled=true",
+                        "request-normalizer.parallel.parallelism=2", "request-normalizer.parallel.threshold=500")
+                .run(context -> {
+                    ParallelNormalizer parallel = context.getBean(ParallelNormalizer.class);
+                    assertEquals(500, parallel.getThreshold());
+                    assertSame(parallel, context.getBean(HandlerNormalizationRegistry.class).parallel());
+                });
+        runner.run(context -> {
+            assertTrue(context.getBeansOfType(ParallelNormalizer.class).isEmpty());
+            assertNull(context.getBean(HandlerNormalizationRegistry.class).parallel());
+        });
+    }
+
+    @Test
+    void registryResolvesHandlerParametersAtStartup() {
+        runner.withConfiguration(AutoConfigurations.of(
+                        HttpMessageConvertersAutoConfiguration.class, WebMvcAutoConfiguration.class))
+                .withUserConfiguration(MutableController.class)
+                .run(context -> {
+                    assertNull(context.getStartupFailure());
+                    HandlerNormalizationRegistry registry = context.getBean(HandlerNormalizationRegistry.class);
+                    MethodParameter body = new MethodParameter(
+                            MutableController.class.getMethod("create", MutableRequest.class), 0);
+                    MethodParameter plain = new MethodParameter(
+                            MutableController.class.getMethod("plain", String.class), 0);
+
+                    assertTrue(registry.lookup(body).isActive());
+                    assertSame(NormalizationTarget.NONE, registry.lookup(plain));
+                });
+    }
+
+    @Test
+    void policies_overrideAnnotationConfigAndReloadFromEnvironment() {
+        runner.withConfiguration(AutoConfigurations.of(
+                        HttpMessageConvertersAutoConfiguration.class, WebMvcAutoConfiguration.class))
+                .withUserConfiguration(MutableController.class)
+                .withPropertyValues("request-normalizer.policies[0].paths=/mut*",
+                        "request-normalizer.policies[0].collapse-spaces=true")
+                .run(context -> {
+                    HandlerNormalizationRegistry registry = context.getBean(HandlerNormalizationRegistry.class);
+                    MethodParameter body = new MethodParameter(
+                            MutableController.class.getMethod("create", MutableRequest.class), 0);
+                    NormalizationTarget before = registry.lookup(body);
+                    assertTrue(before.config().collapseSpaces());
+
+                    TestPropertyValues.of("request-normalizer.policies[0].paths=/other/**",
+                            "request-normalizer.policies[1].packages=com.bibek.utils",
+                            "request-normalizer.policies[1].uppercase=true").applyTo(context);
+                    context.getBean(NormalizationPolicyReloader.class).reload();
+
+                    NormalizationTarget after = registry.lookup(body);
+                    assertTrue(after.config().uppercase());
+                    assertFalse(after.config().collapseSpaces());
+                    // The snapshot read before the reload is left as it was
+                    assertTrue(before.config().collapseSpaces());
+                });
+    }
+
+    @Test
+    void policies_applyToNdjsonElements() {
+        runner.withConfiguration(AutoConfigurations.of(
+                        HttpMessageConvertersAutoConfiguration.class, WebMvcAutoConfiguration.class))
+                .withUserConfiguration(NdjsonController.class)
+                .withPropertyValues("request-normalizer.policies[0].paths=/import",
+                        "request-normalizer.policies[0].uppercase=true")
+                .run(context -> {
+                    assertNull(context.getStartupFailure());
+                    MockMvc mvc = MockMvcBuilders.webAppContextSetup(context).build();
+
+                    mvc.perform(post("/import").contentType(MediaType.APPLICATION_NDJSON)
+                                    .content("{\"name\":\"  ann  \"}\n{\"name\":\"bob\"}\n"))
+                            .andExpect(status().isOk())
+                            .andExpect(content().string("ANN,BOB"));
+                });
+    }
+
+    @Test
+    void policies_changingBodiesTheModuleNormalizes_failStartupAndReload() {
+        runner.withPropertyValues("request-normalizer.jackson.creators.enabled=true")
+                .withConfiguration(AutoConfigurations.of(
+                        HttpMessageConvertersAutoConfiguration.class, WebMvcAutoConfiguration.class))
+                .withUserConfiguration(RecordController.class)
+                .withPropertyValues("request-normalizer.policies[0].paths=/record",
+                        "request-normalizer.policies[0].uppercase=true")
+                .run(context -> {
+                    Throwable failure = context.getStartupFailure();
+                    assertNotNull(failure);
+                    assertTrue(failure.getMessage().contains(RecordRequest.class.getName()), failure.getMessage());
+                });
+
+        runner.withPropertyValues("request-normalizer.jackson.creators.enabled=true")
+                .withConfiguration(AutoConfigurations.of(
+                        HttpMessageConvertersAutoConfiguration.class, WebMvcAutoConfiguration.class))
+                .withUserConfiguration(RecordController.class, MutableController.class)
+                .withPropertyValues("request-normalizer.policies[0].paths=/mutable",
+                        "request-normalizer.policies[0].collapse-spaces=true")
+                .run(context -> {
+                    assertNull(context.getStartupFailure());
+                    HandlerNormalizationRegistry registry = context.getBean(HandlerNormalizationRegistry.class);
+                    MethodParameter body = new MethodParameter(
+                            MutableController.class.getMethod("create", MutableRequest.class), 0);
+
+                    TestPropertyValues.of("request-normalizer.policies[0].paths=/**",
+                            "request-normalizer.policies[0].uppercase=true").applyTo(context);
+                    NormalizationPolicyReloader reloader = context.getBean(NormalizationPolicyReloader.class);
+                    assertThrows(IllegalStateException.class, reloader::reload);
+
+                    assertTrue(registry.lookup(body).config().collapseSpaces());
+                    assertFalse(registry.lookup(body).config().uppercase());
+                });
+    }
+
+    @Test
+    void binaryFormatConverters_useTheNormalizingModule() {
+        runner.withPropertyValues("request-normalizer.jackson.creators.enabled=true")
+                .withConfiguration(AutoConfigurations.of(
+                        HttpMessageConvertersAutoConfiguration.class, WebMvcAutoConfiguration.class))
+                .run(context -> {
+                    List<HttpMessageConverter<?>> converters =
+                            context.getBean(RequestMappingHandlerAdapter.class).getMessageConverters();
+                    for (Class<?> format : List.of(MappingJackson2CborHttpMessageConverter.class,
+                            MappingJackson2SmileHttpMessageConverter.class)) {
+                        AbstractJackson2HttpMessageConverter converter = (AbstractJackson2HttpMessageConverter)
+                                converters.stream().filter(format::isInstance).findFirst().orElseThrow();
+                        assertTrue(NormalizingJacksonModule.normalizesCreators(converter.getObjectMapper()));
+                    }
+                });
+    }
+
+    @Test
+    void recordBody_isConstructedFromNormalizedValues() {
+        runner.withPropertyValues("request-normalizer.jackson.creators.enabled=true")
+                .withConfiguration(AutoConfigurations.of(
+                        HttpMessageConvertersAutoConfiguration.class, WebMvcAutoConfiguration.class))
+                .withUserConfiguration(RecordController.class)
+                .run(context -> {
+                    assertNull(context.getStartupFailure());
+                    MethodParameter body = new MethodParameter(
+                            RecordController.class.getMethod("create", RecordRequest.class), 0);
+                    assertSame(NormalizationTarget.NONE, context.getBean(HandlerNormalizationRegistry.class).lookup(body));
+
+                    RecordRequest request = context.getBean(ObjectMapper.class)
+                            .readValue("{\"name\":\"  Ann  \"}", RecordRequest.class);
+                    assertEquals("Ann", request.name());
+                });
+    }
+
+    @Test
+    void finalFieldBodies_areWalkedUnlessJacksonBuildsThemFromCreatorArguments() {
+        runner.withPropertyValues("request-normalizer.jackson.creators.enabled=true")
+                .withConfiguration(AutoConfigurations.of(
+                        HttpMessageConvertersAutoConfiguration.class, WebMvcAutoConfiguration.class))
+                .withUserConfiguration(FinalFieldController.class)
+                .run(context -> {
+                    assertNull(context.getStartupFailure());
+                    ObjectMapper mapper = context.getBean(ObjectMapper.class);
+                    HandlerNormalizationRegistry registry = context.getBean(HandlerNormalizationRegistry.class);
+                    RequestNormalizerRequestBodyAdvice advice = context.getBean(RequestNormalizerRequestBodyAdvice.class);
+
+                    MethodParameter creator = new MethodParameter(
+                            FinalFieldController.class.getMethod("creator", CreatorRequest.class), 0);
+                    assertSame(NormalizationTarget.NONE, registry.lookup(creator));
+                    assertEquals("Ann", mapper.readValue("{\"name\":\"  Ann  \"}", CreatorRequest.class).name);
+
+                    MethodParameter field = new MethodParameter(
+                            FinalFieldController.class.getMethod("field", FieldRequest.class), 0);
+                    assertTrue(registry.lookup(field).isActive());
+                    FieldRequest fieldRequest = mapper.readValue("{\"name\":\"  Bob  \"}", FieldRequest.class);
+                    advice.afterBodyRead(fieldRequest, null, field, FieldRequest.class, null);
+                    assertEquals("Bob", fieldRequest.name);
+
+                    MethodParameter built = new MethodParameter(
+                            FinalFieldController.class.getMethod("built", BuiltRequest.class), 0);
+                    assertTrue(registry.lookup(built).isActive());
+                    BuiltRequest builtRequest = mapper.readValue("{\"name\":\"  Cy  \"}", BuiltRequest.class);
+                    advice.afterBodyRead(builtRequest, null, built, BuiltRequest.class, null);
+                    assertEquals("Cy", builtRequest.getName());
+                });
+    }
+
+    @Test
+    void registryFailsStartupForRecordBody_withoutCreatorNormalization() {
+        runner.withPropertyValues("request-normalizer.jackson.creators.enabled=false")
+                .withConfiguration(AutoConfigurations.of(
+                        HttpMessageConvertersAutoConfiguration.class, WebMvcAutoConfiguration.class))
+                .withUserConfiguration(RecordController.class)
+                .run(context -> {
+                    Throwable failure = context.getStartupFailure();
+                    assertNotNull(failure);
+                    String message = failure.getMessage();
+                    assertTrue(message.contains("request-normalizer.jackson.creators.enabled=true"), message);
+                    assertFalse(message.contains("instead of the parameter"), message);
+                });
+    }
+
+    @Test
+    void registryFailsStartupForParameterAnnotatedRecord_pointingAtTheRecord() {
+        runner.withConfiguration(AutoConfigurations.of(
+                        HttpMessageConvertersAutoConfiguration.class, WebMvcAutoConfiguration.class))
+                .withUserConfiguration(ParameterRecordController.class)
+                .run(context -> {
+                    String message = context.getStartupFailure().getMessage();
+                    assertTrue(message.contains("annotate the record itself instead of the parameter"
+                            + " and set request-normalizer.jackson.creators.enabled=true"), message);
+                });
+
+        runner.withPropertyValues("request-normalizer.jackson.creators.enabled=true")
+                .withConfiguration(AutoConfigurations.of(
+                        HttpMessageConvertersAutoConfiguration.class, WebMvcAutoConfiguration.class))
+                .withUserConfiguration(ParameterRecordController.class)
+                .run(context -> {
+                    String message = context.getStartupFailure().getMessage();
+                    assertTrue(message.endsWith("annotate the record itself instead of the parameter"), message);
+                });
+    }
+
+    @Test
+    void metrics_recordAdviceNormalizationPerType() {
+        runner.withConfiguration(AutoConfigurations.of(
+                        HttpMessageConvertersAutoConfiguration.class, WebMvcAutoConfiguration.class,
+                        RequestNormalizerMetricsAutoConfiguration.class))
+                .withBean(SimpleMeterRegistry.class)
+                .withUserConfiguration(MutableController.class)
+                .run(context -> {
+                    assertNull(context.getStartupFailure());
+                    MeterRegistry meters = context.getBean(MeterRegistry.class);
+                    // Prepared at startup for every normalized body type
+                    Timer timer = meters.get("request.normalizer.duration")
+                            .tag("type", MutableRequest.class.getName()).timer();
+                    assertEquals(0, timer.count());
+
+                    MethodParameter body = new MethodParameter(
+                            MutableController.class.getMethod("create", MutableRequest.class), 0);
+                    MutableRequest request = new MutableRequest();
+                    request.name = "  Jane  ";
+                    context.getBean(RequestNormalizerRequestBodyAdvice.class)
+                            .afterBodyRead(request, null, body, MutableRequest.class, null);
+
+                    assertEquals(1, timer.count());
+                    assertEquals(1, meters.get("request.normalizer.strings")
+                            .tag("type", MutableRequest.class.getName()).tag("result", "changed")
+                            .functionCounter().count());
+                });
+    }
+
+    @Test
+    void metrics_disabledByProperty() {
+        runner.withConfiguration(AutoConfigurations.of(RequestNormalizerMetricsAutoConfiguration.class))
+                .withBean(SimpleMeterRegistry.class)
+                .withPropertyValues("request-normalizer.metrics.enabled=false")
+                .run(context -> {
+                    assertTrue(context.getBeansOfType(NormalizationRecorder.class).isEmpty());
+                    assertSame(NormalizationRecorder.NONE, context.getBean(HandlerNormalizationRegistry.class).recorder());
+                });
+    }
+
+    @NormalizeInput
+    static class MutableRequest {
+        public String name;
+    }
+
+    @NormalizeInput
+    record RecordRequest(String name) {}
+
+    @NormalizeInput
+    static class CreatorRequest {
+        public final String name;
+
+        @JsonCreator
+        CreatorRequest(@JsonProperty("name") String name) {
+            this.name = name;
+        }
+    }
+
+    /**
+     * All fields final, but set by Jackson through the field after the no-arg constructor.
+     */
+    @NormalizeInput
+    static class FieldRequest {
+        public final String name;
+
+        FieldRequest() {
+            this.name = null;
+        }
+    }
+
+    @NormalizeInput
+    @JsonDeserialize(builder = BuiltRequest.Builder.class)
+    static class BuiltRequest {
+        private final String name;
+
+        private BuiltRequest(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        @JsonPOJOBuilder(withPrefix = "")
+        static class Builder {
+            private String name;
+
+            public Builder name(String name) {
+                this.name = name;
+                return this;
+            }
+
+            public BuiltRequest build() {
+                return new BuiltRequest(name);
+            }
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class CustomValidatorConfigurer implements WebMvcConfigurer {
+
+        static final CountingValidator VALIDATOR = new CountingValidator();
+
+        @Override
+        public Validator getValidator() {
+            return VALIDATOR;
+        }
+    }
+
+    static class CountingValidator implements SmartValidator {
+
+        int calls;
+
+        @Override
+        public boolean supports(Class<?> clazz) {
+            return true;
+        }
+
+        @Override
+        public void validate(Object target, Errors errors) {
+            calls++;
+        }
+
+        @Override
+        public void validate(Object target, Errors errors, Object... validationHints) {
+            calls++;
+        }
+    }
+
+    @RestController
+    static class MutableController {
+        @PostMapping("/mutable")
+        public MutableRequest create(@RequestBody MutableRequest request) {
+            return request;
+        }
+
+        @PostMapping("/plain")
+        public String plain(@RequestBody String body) {
+            return body;
+        }
+    }
+
+    @RestController
+    static class FinalFieldController {
+        @PostMapping("/creator")
+        public String creator(@RequestBody CreatorRequest request) {
+            return request.name;
+        }
+
+        @PostMapping("/field")
+        public String field(@RequestBody FieldRequest request) {
+            return request.name;
+        }
+
+        @PostMapping("/built")
+        public String built(@RequestBody BuiltRequest request) {
+            return request.getName();
+        }
+    }
+
+    @RestController
+    static class NdjsonController {
+        @PostMapping(path = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+        public String importAll(@RequestBody List<MutableRequest> requests) {
+            return String.join(",", requests.stream().map(request -> request.name).toList());
+        }
+    }
+
+    @RestController
+    static class RecordController {
+        @PostMapping("/record")
+        public RecordRequest create(@RequestBody RecordRequest request) {
+            return request;
+        }
+    }
+
+    record PlainRecord(String name) {}
+
+    @RestController
+    static class ParameterRecordController {
+        @PostMapping("/plain-record")
+        public PlainRecord create(@RequestBody @NormalizeInput PlainRecord request) {
+            return request;
+        }
+    }
+}
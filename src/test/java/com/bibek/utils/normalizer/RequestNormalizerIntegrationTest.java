@@ -1,13 +1,28 @@
 package com.bibek.utils.normalizer;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
 import org.springframework.core.MethodParameter;
 import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -47,6 +62,189 @@ class RequestNormalizerIntegrationTest {
         assertEquals("a@b.com", body.email);
     }
 
+    @Test
+    void adviceWithParseTimeNormalization_skipsTypeAnnotatedBody() throws Exception {
+        var parseTimeAdvice = new RequestNormalizerRequestBodyAdvice(true);
+        Method method = TestController.class.getMethod("handle", TestRequest.class);
+        MethodParameter param = new MethodParameter(method, 0);
+
+        assertFalse(parseTimeAdvice.supports(param, null, StringHttpMessageConverter.class));
+
+        TestRequest body = new TestRequest("  already parsed  ", null);
+        parseTimeAdvice.afterBodyRead(body, null, param, null, StringHttpMessageConverter.class);
+
+        assertEquals("  already parsed  ", body.name);
+    }
+
+    @Test
+    void adviceWithParseTimeNormalization_stillAppliesParameterAnnotation() throws Exception {
+        var parseTimeAdvice = new RequestNormalizerRequestBodyAdvice(true);
+        Method method = TestController.class.getMethod("handlePlain", PlainRequest.class);
+        MethodParameter param = new MethodParameter(method, 0);
+
+        PlainRequest body = new PlainRequest();
+        body.value = "  x  ";
+        parseTimeAdvice.afterBodyRead(body, null, param, null, StringHttpMessageConverter.class);
+
+        assertEquals("x", body.value);
+    }
+
+    @Test
+    void adviceReplacesStringBody() throws Exception {
+        Method method = TestController.class.getMethod("handleText", String.class);
+        MethodParameter param = new MethodParameter(method, 0);
+
+        assertTrue(advice.supports(param, null, StringHttpMessageConverter.class));
+        assertEquals("text", advice.afterBodyRead("  text  ", null, param, null, StringHttpMessageConverter.class));
+    }
+
+    @Test
+    void adviceRejectsImmutableBodyType() throws Exception {
+        Method method = TestController.class.getMethod("handleNumber", Integer.class);
+        MethodParameter param = new MethodParameter(method, 0);
+
+        assertThrows(IllegalStateException.class,
+                () -> advice.supports(param, null, StringHttpMessageConverter.class));
+    }
+
+    @Test
+    void adviceNormalizesElementsOfCollectionBody() throws Exception {
+        Method method = TestController.class.getMethod("handleBulk", List.class);
+        MethodParameter param = new MethodParameter(method, 0);
+
+        assertTrue(advice.supports(param, null, StringHttpMessageConverter.class));
+
+        List<TestRequest> body = List.of(new TestRequest("  a  ", " "), new TestRequest("b   c", null));
+        advice.afterBodyRead(body, null, param, null, StringHttpMessageConverter.class);
+
+        assertEquals("a", body.get(0).name);
+        assertNull(body.get(0).email);
+        assertEquals("b c", body.get(1).name);
+    }
+
+    @Test
+    void adviceNormalizesStreamBodyLazily() throws Exception {
+        Method method = TestController.class.getMethod("handleStream", Stream.class);
+        MethodParameter param = new MethodParameter(method, 0);
+        PlainRequest first = new PlainRequest();
+        first.value = "  one  ";
+
+        @SuppressWarnings("unchecked")
+        Stream<PlainRequest> normalized = (Stream<PlainRequest>) advice.afterBodyRead(
+                Stream.of(first), null, param, null, StringHttpMessageConverter.class);
+
+        assertEquals("  one  ", first.value);
+        assertEquals("one", normalized.findFirst().orElseThrow().value);
+    }
+
+    @Test
+    void adviceNormalizesTypeAnnotatedElementsReadByNdjsonConverter() throws Exception {
+        Method method = TestController.class.getMethod("handleBulk", List.class);
+        MethodParameter param = new MethodParameter(method, 0);
+
+        // The auto-configured converter leaves elements to the advice, so policies apply to them
+        assertTrue(advice.supports(param, null, NdjsonHttpMessageConverter.class));
+    }
+
+    @Test
+    void adviceRejectsOversizedValueAsUnreadableBody() throws Exception {
+        Method method = TestController.class.getMethod("handleLimited", LimitedRequest.class);
+        MethodParameter param = new MethodParameter(method, 0);
+        LimitedRequest body = new LimitedRequest();
+        body.value = "x".repeat(20);
+
+        assertThrows(HttpMessageNotReadableException.class,
+                () -> advice.afterBodyRead(body, null, param, null, StringHttpMessageConverter.class));
+    }
+
+    @Test
+    void adviceNormalizesJsonNodeBodyInPlace() throws Exception {
+        Method method = TestController.class.getMethod("handleTree", JsonNode.class);
+        MethodParameter param = new MethodParameter(method, 0);
+        JsonNode body = new ObjectMapper().readTree(
+                "{\"name\":\"  a   b  \",\"clean\":\"ok\",\"tags\":[\" x \",1,{\"note\":\"  \"}]}");
+        JsonNode clean = body.get("clean");
+
+        Object normalized = advice.afterBodyRead(body, null, param, null, StringHttpMessageConverter.class);
+
+        assertSame(body, normalized);
+        assertEquals("a b", body.get("name").textValue());
+        assertSame(clean, body.get("clean"));
+        assertEquals("x", body.get("tags").get(0).textValue());
+        assertEquals(1, body.get("tags").get(1).intValue());
+        assertTrue(body.get("tags").get(2).get("note").isNull());
+    }
+
+    @Test
+    void adviceNormalizesUntypedMapBody() throws Exception {
+        Method method = TestController.class.getMethod("handleMap", Map.class);
+        MethodParameter param = new MethodParameter(method, 0);
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("name", "  a  ");
+        body.put("nested", new LinkedHashMap<>(Map.of("list", new ArrayList<>(List.of(" b ")))));
+
+        advice.afterBodyRead(body, null, param, null, StringHttpMessageConverter.class);
+
+        assertEquals("a", body.get("name"));
+        assertEquals(Map.of("list", List.of("b")), body.get("nested"));
+    }
+
+    @Test
+    void adviceRejectsTooDeepJsonTreeAsUnreadableBody() throws Exception {
+        Method method = TestController.class.getMethod("handleTree", JsonNode.class);
+        MethodParameter param = new MethodParameter(method, 0);
+        JsonNode body = new ObjectMapper().readTree("[".repeat(101) + "]".repeat(101));
+
+        HttpMessageNotReadableException e = assertThrows(HttpMessageNotReadableException.class,
+                () -> advice.afterBodyRead(body, null, param, null, StringHttpMessageConverter.class));
+        assertInstanceOf(OversizedInputException.class, e.getCause());
+    }
+
+    @Test
+    void registryAppliesConfiguredTreeLimits() throws Exception {
+        Method method = TestController.class.getMethod("handleTree", JsonNode.class);
+        RequestMappingHandlerMapping mapping = new RequestMappingHandlerMapping();
+        mapping.registerMapping(RequestMappingInfo.paths("/tree").options(mapping.getBuilderConfiguration()).build(),
+                new TestController(), method);
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("mapping", mapping);
+        var registry = new HandlerNormalizationRegistry(beans.getBeanProvider(RequestMappingHandlerMapping.class), false);
+        registry.setTreeLimits(10, 3);
+        registry.afterSingletonsInstantiated();
+        var limitedAdvice = new RequestNormalizerRequestBodyAdvice(registry, false);
+        MethodParameter param = new MethodParameter(method, 0);
+        JsonNode body = new ObjectMapper().readTree("[\"a\",\"b\",\"c\"]");
+
+        assertThrows(HttpMessageNotReadableException.class,
+                () -> limitedAdvice.afterBodyRead(body, null, param, null, StringHttpMessageConverter.class));
+    }
+
+    @Test
+    void adviceWithTrackChanges_exposesResultAsRequestAttribute() throws Exception {
+        var registry = new HandlerNormalizationRegistry(
+                new StaticListableBeanFactory().getBeanProvider(RequestMappingHandlerMapping.class), false);
+        var trackingAdvice = new RequestNormalizerRequestBodyAdvice(registry, true);
+        Method method = TestController.class.getMethod("handle", TestRequest.class);
+        MethodParameter param = new MethodParameter(method, 0);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        try {
+            TestRequest body = new TestRequest("  John  ", "a@b.com");
+            trackingAdvice.afterBodyRead(body, null, param, null, StringHttpMessageConverter.class);
+
+            NormalizationResult result = (NormalizationResult) request.getAttribute(NormalizationResult.ATTRIBUTE);
+            assertEquals(Set.of("name"), result.changedFields());
+            assertEquals("John", body.name);
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    @NormalizeInput(maxInputLength = 10, onOversize = NormalizeInput.OversizePolicy.REJECT)
+    static class LimitedRequest {
+        public String value;
+    }
+
     @NormalizeInput(trim = true, blankToNull = true, collapseSpaces = true)
     static class TestRequest {
         public String name;
@@ -58,10 +256,46 @@ class RequestNormalizerIntegrationTest {
         }
     }
 
+    static class PlainRequest {
+        public String value;
+    }
+
     @RestController
     static class TestController {
         public TestRequest handle(@RequestBody TestRequest request) {
             return request;
         }
+
+        public PlainRequest handlePlain(@RequestBody @NormalizeInput PlainRequest request) {
+            return request;
+        }
+
+        public LimitedRequest handleLimited(@RequestBody LimitedRequest request) {
+            return request;
+        }
+
+        public String handleText(@RequestBody @NormalizeInput String text) {
+            return text;
+        }
+
+        public Integer handleNumber(@RequestBody @NormalizeInput Integer number) {
+            return number;
+        }
+
+        public List<TestRequest> handleBulk(@RequestBody List<TestRequest> requests) {
+            return requests;
+        }
+
+        public JsonNode handleTree(@RequestBody @NormalizeInput(collapseSpaces = true) JsonNode tree) {
+            return tree;
+        }
+
+        public Map<String, Object> handleMap(@RequestBody @NormalizeInput Map<String, Object> values) {
+            return values;
+        }
+
+        public long handleStream(@RequestBody @NormalizeInput Stream<PlainRequest> requests) {
+            return requests.count();
+        }
     }
 }
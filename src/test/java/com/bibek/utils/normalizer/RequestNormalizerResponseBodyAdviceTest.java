@@ -0,0 +1,116 @@
+package com.bibek.utils.normalizer;
+
+import com.bibek.utils.normalizer.jackson.NormalizedValue;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestNormalizerResponseBodyAdviceTest {
+
+    private final RequestNormalizerResponseBodyAdvice advice = new RequestNormalizerResponseBodyAdvice();
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void supports_onlyAnnotatedHandlerMethods() throws Exception {
+        assertTrue(advice.supports(returnType("normalized"), MappingJackson2HttpMessageConverter.class));
+        // The type's own annotation configures request bodies, not responses
+        assertFalse(advice.supports(returnType("plain"), MappingJackson2HttpMessageConverter.class));
+    }
+
+    @Test
+    void beforeBodyWrite_serializesNormalizedAndLeavesBodyUnchanged() throws Exception {
+        Dto body = new Dto(" a    b ");
+
+        Object written = advice.beforeBodyWrite(body, returnType("normalized"), null,
+                MappingJackson2HttpMessageConverter.class, null, null);
+
+        assertInstanceOf(NormalizedValue.class, written);
+        assertEquals("{\"name\":\"a b\"}", mapper.writeValueAsString(written));
+        assertEquals(" a    b ", body.name);
+    }
+
+    @Test
+    void beforeBodyWrite_mappingJacksonValueIsWrappedInside() throws Exception {
+        MappingJacksonValue container = new MappingJacksonValue(new Dto("  x "));
+
+        Object written = advice.beforeBodyWrite(container, returnType("normalized"), null,
+                MappingJackson2HttpMessageConverter.class, null, null);
+
+        assertSame(container, written);
+        assertEquals("{\"name\":\"x\"}", mapper.writeValueAsString(container.getValue()));
+    }
+
+    @Test
+    void beforeBodyWrite_keepsTheDeclaredBodyTypeForPolymorphicElements() throws Exception {
+        Object written = advice.beforeBodyWrite(List.of(new Circle(" round ")), returnType("shapes"), null,
+                MappingJackson2HttpMessageConverter.class, null, null);
+
+        assertEquals("[{\"kind\":\"circle\",\"label\":\"round\"}]", mapper.writeValueAsString(written));
+    }
+
+    @Test
+    void beforeBodyWrite_stringBodyNormalizedDirectly() throws Exception {
+        assertEquals("x", advice.beforeBodyWrite("  x ", returnType("text"), null,
+                StringHttpMessageConverter.class, null, null));
+    }
+
+    private static MethodParameter returnType(String method) throws Exception {
+        return new MethodParameter(TestController.class.getMethod(method), -1);
+    }
+
+    @NormalizeInput(collapseSpaces = true)
+    static class Dto {
+        public String name;
+
+        Dto(String name) {
+            this.name = name;
+        }
+    }
+
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "kind")
+    @JsonSubTypes(@JsonSubTypes.Type(value = Circle.class, name = "circle"))
+    abstract static class Shape {
+        public String label;
+    }
+
+    static class Circle extends Shape {
+        Circle(String label) {
+            this.label = label;
+        }
+    }
+
+    @RestController
+    static class TestController {
+
+        @NormalizeInput
+        public ResponseEntity<List<Shape>> shapes() {
+            return null;
+        }
+
+        @NormalizeInput(collapseSpaces = true)
+        public Dto normalized() {
+            return null;
+        }
+
+        public Dto plain() {
+            return null;
+        }
+
+        @NormalizeInput
+        public String text() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.bibek.utils.normalizer;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StringDeduplicatorTest {
+
+    @Test
+    void deduplicate_returnsFirstInstanceAndCountsHits() {
+        StringDeduplicator deduplicator = new StringDeduplicator(16);
+        String first = new String("DE");
+
+        assertSame(first, deduplicator.deduplicate(first));
+        assertSame(first, deduplicator.deduplicate(new String("DE")));
+        assertSame(first, deduplicator.deduplicate(CharBuffer.wrap("xDEx".toCharArray(), 1, 2)));
+
+        StringDeduplicator.Stats stats = deduplicator.stats();
+        assertEquals(2, stats.hits());
+        assertEquals(1, stats.misses());
+        assertEquals(2 / 3.0, stats.hitRate(), 1e-9);
+    }
+
+    @Test
+    void deduplicate_isBoundedAndSkipsLongValues() {
+        StringDeduplicator deduplicator = new StringDeduplicator(2);
+        String longValue = "x".repeat(StringDeduplicator.MAX_LENGTH + 1);
+
+        assertNotSame(deduplicator.deduplicate(new String(longValue)), deduplicator.deduplicate(new String(longValue)));
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("v" + i, deduplicator.deduplicate("v" + i));
+        }
+        assertEquals(0, deduplicator.stats().hits());
+        assertEquals(1000, deduplicator.stats().misses());
+    }
+
+    @Test
+    void deduplicate_concurrentCallersOnlySeeEqualValues() throws Exception {
+        StringDeduplicator deduplicator = new StringDeduplicator(8);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        String value = "code" + (i % 32);
+                        assertEquals(value, deduplicator.deduplicate(value));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(80_000, deduplicator.stats().hits() + deduplicator.stats().misses());
+    }
+
+    @Test
+    void constructor_rejectsNonPositiveCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new StringDeduplicator(0));
+    }
+}
@@ -1,7 +1,20 @@
 package com.bibek.utils.normalizer;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class StringNormalizerTest {
@@ -37,6 +50,152 @@ class StringNormalizerTest {
         assertEquals("", StringNormalizer.apply("  ", NO_BLANK_TO_NULL));
     }
 
+    @Test
+    void apply_alreadyNormalized_returnsSameInstance() {
+        String value = "hello world";
+        assertSame(value, StringNormalizer.apply(value, DEFAULT));
+        assertSame(value, StringNormalizer.apply(value, WITH_COLLAPSE));
+        assertSame(value, StringNormalizer.apply(value, NO_TRIM));
+    }
+
+    @Test
+    void apply_collapseSpaces_treatsAllWhitespaceAlike() {
+        assertEquals("a b", StringNormalizer.apply("a\t\n b", WITH_COLLAPSE));
+        assertEquals("a b", StringNormalizer.apply("\r\na \f\u000Bb\t", WITH_COLLAPSE));
+        assertEquals("a\tb", StringNormalizer.apply("a\tb", WITH_COLLAPSE));
+    }
+
+    @Test
+    void apply_collapseSpaces_withoutTrim_keepsSingleEdgeSpace() {
+        NormalizeConfig collapseOnly = new NormalizeConfig(false, false, true);
+        assertEquals(" a b ", StringNormalizer.apply("   a   b   ", collapseOnly));
+        assertEquals(" ", StringNormalizer.apply("    ", collapseOnly));
+    }
+
+    @Test
+    void apply_blankToNull_withoutTrim_convertsOnlyEmptyToNull() {
+        // As before the single-pass scanner: blank-to-null applies to the trimmed value
+        assertEquals(" \t ", StringNormalizer.apply(" \t ", NO_TRIM));
+        assertEquals(" ", StringNormalizer.apply("   ", new NormalizeConfig(false, true, true)));
+        assertNull(StringNormalizer.apply("", NO_TRIM));
+
+        NormalizeConfig extended = new NormalizeConfig(false, true, false, false, false, false, true, null, false, 0, 0, false);
+        assertEquals(" \t ", StringNormalizer.apply(" \t ", extended));
+        assertNull(StringNormalizer.apply("\u0000", extended));
+    }
+
+    @Test
+    void apply_trim_keepsNonWhitespaceControlCharacters() {
+        assertEquals("\u0000a", StringNormalizer.apply(" \u0000a ", DEFAULT));
+    }
+
+    @Test
+    void apply_charRange_normalizesWithoutSourceString() {
+        char[] buffer = "xx  a   b  yy".toCharArray();
+        assertEquals("a b", StringNormalizer.apply(buffer, 2, 9, WITH_COLLAPSE));
+        assertEquals("a   b", StringNormalizer.apply(buffer, 2, 9, DEFAULT));
+        assertNull(StringNormalizer.apply(buffer, 2, 2, DEFAULT));
+    }
+
+    @Test
+    void apply_deduplicate_returnsSharedInstance() {
+        NormalizeConfig dedup = new NormalizeConfig(true, true, false, true);
+        String first = StringNormalizer.apply(" EUR ", dedup);
+        String second = StringNormalizer.apply(new String("EUR"), dedup);
+        char[] buffer = "  EUR".toCharArray();
+
+        assertEquals("EUR", first);
+        assertSame(first, second);
+        assertSame(first, StringNormalizer.apply(buffer, 0, buffer.length, dedup));
+    }
+
+    @Test
+    void apply_caseConversion() {
+        assertEquals("hello world", StringNormalizer.apply("  HeLLo World ", config(c -> c.lowercase = true)));
+        assertEquals("STRASSE ÉTÉ ß", StringNormalizer.apply("strasse été ß", config(c -> c.uppercase = true)));
+        assertThrows(IllegalArgumentException.class, () -> config(c -> {
+            c.lowercase = true;
+            c.uppercase = true;
+        }));
+    }
+
+    @Test
+    void apply_removeControlChars_keepsWhitespaceRules() {
+        NormalizeConfig config = config(c -> {
+            c.removeControlChars = true;
+            c.collapseSpaces = true;
+        });
+        assertEquals("a b", StringNormalizer.apply("\u0000 a \u0007 b\u007f\u0085", config));
+        assertNull(StringNormalizer.apply("\u0001\u0002", config));
+    }
+
+    @Test
+    void apply_unicodeForm_convertsOnlyWhenNotNormalized() {
+        NormalizeConfig nfc = config(c -> c.unicodeForm = Normalizer.Form.NFC);
+        String composed = "Caf\u00e9";
+        String decomposed = "Cafe\u0301";
+
+        assertSame(composed, StringNormalizer.apply(composed, nfc));
+        assertEquals(composed, StringNormalizer.apply(decomposed, nfc));
+        assertEquals("ﬁ", StringNormalizer.apply("ﬁ", nfc));
+        assertEquals("fi", StringNormalizer.apply("ﬁ", config(c -> c.unicodeForm = Normalizer.Form.NFKC)));
+    }
+
+    @Test
+    void apply_stripAccents_removesDiacriticsAndRecomposes() {
+        NormalizeConfig strip = config(c -> c.stripAccents = true);
+        assertEquals("Creme Brulee", StringNormalizer.apply(" Crème Brûlée ", strip));
+        assertEquals("Creme", StringNormalizer.apply("Cre\u0300me", strip));
+        // Hangul decomposes under NFD and must come back composed
+        assertEquals("한국", StringNormalizer.apply("한국", strip));
+    }
+
+    @Test
+    void apply_maxLength_truncatesAfterOtherSteps() {
+        NormalizeConfig max = config(c -> {
+            c.maxLength = 5;
+            c.collapseSpaces = true;
+        });
+        assertEquals("ab cd", StringNormalizer.apply("  ab    cd  ef", max));
+        assertEquals("ab", StringNormalizer.apply("ab   c", config(c -> c.maxLength = 4)));
+        assertEquals("abcd", StringNormalizer.apply("abcd\uD83D\uDE00", config(c -> c.maxLength = 5)));
+    }
+
+    @Test
+    void apply_extendedOptions_returnSameInstanceWhenClean() {
+        NormalizeConfig all = config(c -> {
+            c.lowercase = true;
+            c.removeControlChars = true;
+            c.unicodeForm = Normalizer.Form.NFC;
+            c.stripAccents = true;
+            c.maxLength = 50;
+            c.collapseSpaces = true;
+        });
+        String ascii = "already clean";
+        String unicode = "naïve";
+
+        assertSame(ascii, StringNormalizer.apply(ascii, all));
+        assertEquals("naive", StringNormalizer.apply(unicode, all));
+        assertEquals("a b", StringNormalizer.apply(" A\t\tB ".toCharArray(), 0, 6, all));
+    }
+
+    private static NormalizeConfig config(Consumer<Options> options) {
+        Options o = new Options();
+        options.accept(o);
+        return new NormalizeConfig(true, true, o.collapseSpaces, false, o.lowercase, o.uppercase,
+                o.removeControlChars, o.unicodeForm, o.stripAccents, o.maxLength, 0, false);
+    }
+
+    private static final class Options {
+        boolean collapseSpaces;
+        boolean lowercase;
+        boolean uppercase;
+        boolean removeControlChars;
+        Normalizer.Form unicodeForm;
+        boolean stripAccents;
+        int maxLength;
+    }
+
     @Test
     void apply_nullInput_returnsNull() {
         assertNull(StringNormalizer.apply(null, DEFAULT));
@@ -63,6 +222,236 @@ class StringNormalizerTest {
         assertEquals("  x  ", dto.a);
     }
 
+    @Test
+    void normalize_includesInheritedFields() {
+        ChildDto dto = new ChildDto();
+        dto.a = "  parent  ";
+        dto.c = "  child  ";
+        StringNormalizer.normalize(dto, DEFAULT);
+
+        assertEquals("parent", dto.a);
+        assertEquals("child", dto.c);
+    }
+
+    @Test
+    void normalize_ignoresStaticFields() {
+        StringNormalizer.normalize(new StaticFieldDto(), DEFAULT);
+        assertEquals("  shared  ", StaticFieldDto.SHARED);
+    }
+
+    @Test
+    void normalize_nestedObjectsAndContainers() {
+        Order order = new Order();
+        order.customer = new Customer();
+        order.customer.name = "  Ann  ";
+        order.tags = new ArrayList<>(List.of("  a  ", "   ", "b"));
+        order.attributes = new HashMap<>(Map.of("k", "  v  "));
+        order.codes = new String[]{"  x  "};
+        order.lines = new ArrayList<>(List.of(new Line("  first  "), new Line("second  ")));
+        order.quantities = new ArrayList<>(List.of(1, 2));
+
+        StringNormalizer.normalize(order, DEFAULT);
+
+        assertEquals("Ann", order.customer.name);
+        assertEquals(Arrays.asList("a", null, "b"), order.tags);
+        assertEquals("v", order.attributes.get("k"));
+        assertEquals("x", order.codes[0]);
+        assertEquals("first", order.lines.get(0).sku);
+        assertEquals("second", order.lines.get(1).sku);
+    }
+
+    @Test
+    void normalize_setOfStrings_isRefilled() {
+        SetDto dto = new SetDto();
+        dto.values = new LinkedHashSet<>(List.of(" a ", "a", "  "));
+
+        StringNormalizer.normalize(dto, DEFAULT);
+
+        assertEquals(Set.of("a"), dto.values);
+    }
+
+    @Test
+    void normalize_dynamicField_walksMapsListsAndStrings() {
+        DynamicDto dto = new DynamicDto();
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("name", "  n  ");
+        payload.put("items", new ArrayList<>(List.of("  i  ", 5)));
+        dto.payload = payload;
+
+        StringNormalizer.normalize(dto, DEFAULT);
+
+        assertEquals("n", payload.get("name"));
+        assertEquals(List.of("i", 5), payload.get("items"));
+    }
+
+    @Test
+    void normalize_cyclicGraph_terminates() {
+        Node first = new Node();
+        Node second = new Node();
+        first.value = "  1  ";
+        first.next = second;
+        second.value = "  2  ";
+        second.next = first;
+
+        StringNormalizer.normalize(first, DEFAULT);
+
+        assertEquals("1", first.value);
+        assertEquals("2", second.value);
+    }
+
+    @Test
+    void normalize_subtypeWithBackReference_terminates() {
+        Holder holder = new Holder();
+        BackReference child = new BackReference();
+        child.owner = holder;
+        child.label = "  c  ";
+        holder.child = child;
+
+        StringNormalizer.normalize(holder, DEFAULT);
+
+        assertEquals("c", child.label);
+    }
+
+    @Test
+    void normalize_jdkRoot_doesNothing() {
+        StringBuilder builder = new StringBuilder("  x  ");
+        assertDoesNotThrow(() -> StringNormalizer.normalize(builder, DEFAULT));
+        assertEquals("  x  ", builder.toString());
+    }
+
+    @Test
+    void normalize_rootCollection_normalizesEachElement() {
+        List<Object> list = new ArrayList<>(List.of("  x  ", new Customer(), "   "));
+        ((Customer) list.get(1)).name = "  c  ";
+        Customer[] array = {new Customer()};
+        array[0].name = "  a  ";
+        Map<String, Object> map = new HashMap<>(Map.of("k", "  v  "));
+
+        StringNormalizer.normalize(list, DEFAULT);
+        StringNormalizer.normalize(array, DEFAULT);
+        StringNormalizer.normalize(map, DEFAULT);
+
+        assertEquals("x", list.get(0));
+        assertEquals("c", ((Customer) list.get(1)).name);
+        assertNull(list.get(2));
+        assertEquals("a", array[0].name);
+        assertEquals("v", map.get("k"));
+    }
+
+    @Test
+    void isFlat_reportsNestedStrings() {
+        assertTrue(StringNormalizer.isFlat(TestDto.class));
+        assertFalse(StringNormalizer.isFlat(Order.class));
+        assertFalse(StringNormalizer.isFlat(Node.class));
+    }
+
+    @Test
+    void prepare_recordType_failsFast() {
+        assertThrows(IllegalStateException.class, () -> StringNormalizer.prepare(TestRecord.class));
+    }
+
+    @Test
+    void apply_maxInputLength_skipsOrRejectsWithoutScanning() {
+        NormalizeConfig skip = new NormalizeConfig(true, true, false, false, false, false, false, null, false, 0,
+                8, false);
+        NormalizeConfig reject = new NormalizeConfig(true, true, false, false, false, false, false, null, false, 0,
+                8, true);
+        String huge = "  " + "x".repeat(100) + "  ";
+
+        assertSame(huge, StringNormalizer.apply(huge, skip));
+        assertEquals("short", StringNormalizer.apply("  short ", skip));
+        OversizedInputException e = assertThrows(OversizedInputException.class, () -> StringNormalizer.apply(huge, reject));
+        assertEquals(104, e.getLength());
+        assertThrows(OversizedInputException.class,
+                () -> StringNormalizer.apply(huge.toCharArray(), 0, huge.length(), reject));
+    }
+
+    @Test
+    void normalize_fieldAnnotations_skipAndOverride() {
+        FieldOptionsDto dto = new FieldOptionsDto();
+        dto.name = "  Jane   Doe  ";
+        dto.code = "  eur ";
+        dto.attachment = "  base64==  ";
+        dto.notes = new ArrayList<>(List.of("  A   B  "));
+        dto.blob = "  " + "y".repeat(40);
+
+        StringNormalizer.normalize(dto, DEFAULT);
+
+        assertEquals("Jane   Doe", dto.name);
+        assertEquals("EUR", dto.code);
+        assertEquals("  base64==  ", dto.attachment);
+        assertEquals(List.of("a b"), dto.notes);
+        assertEquals("  " + "y".repeat(40), dto.blob);
+    }
+
+    @Test
+    void normalizeTracked_reportsChangedAndNulledFields() {
+        Order order = new Order();
+        order.customer = new Customer();
+        order.customer.name = " Ann ";
+        order.tags = new ArrayList<>(List.of("ok"));
+        order.codes = new String[]{"   "};
+        TestDto dto = new TestDto("  x  ", "   ");
+
+        NormalizationResult result = StringNormalizer.normalizeTracked(dto, new NormalizeConfig(true, true, false));
+        NormalizationResult nested = StringNormalizer.normalizeTracked(order, new NormalizeConfig(true, true, false));
+
+        assertEquals(Set.of("a", "b"), result.changedFields());
+        assertEquals(Set.of("b"), result.nulledFields());
+        assertTrue(result.isNulled("b"));
+        assertFalse(result.isNulled("a"));
+        assertEquals(2, result.changedCount());
+        assertEquals(Set.of("customer", "codes"), nested.changedFields());
+        assertTrue(nested.nulledFields().isEmpty());
+        assertFalse(nested.isChanged("tags"));
+    }
+
+    @Test
+    void normalizeTracked_unchanged_returnsSharedConstant() {
+        NormalizeConfig dedup = new NormalizeConfig(true, true, false, true);
+
+        assertSame(NormalizationResult.UNCHANGED, StringNormalizer.normalizeTracked(new TestDto("a", null), dedup));
+        // A shared deduplicated instance of an equal value is not a change
+        assertSame(NormalizationResult.UNCHANGED,
+                StringNormalizer.normalizeTracked(new TestDto(new String("dup")), dedup));
+        assertSame(NormalizationResult.UNCHANGED, StringNormalizer.normalizeTracked(List.of("a"), dedup));
+        assertEquals(1, StringNormalizer.normalizeTracked(new ArrayList<>(List.of(" a ")), dedup).changedCount());
+    }
+
+    @Test
+    void normalize_jsonTree_replacesOnlyChangedTextNodes() throws Exception {
+        NormalizeConfig config = new NormalizeConfig(true, true, false);
+        JsonNode tree = new ObjectMapper().readTree("{\"a\":\" x \",\"b\":\"y\",\"c\":[\" \",true]}");
+        JsonNode b = tree.get("b");
+
+        StringNormalizer.normalize(tree, config);
+
+        assertEquals("{\"a\":\"x\",\"b\":\"y\",\"c\":[null,true]}", tree.toString());
+        assertSame(b, tree.get("b"));
+    }
+
+    @Test
+    void normalize_jsonNodeField_walkedAsTree() throws Exception {
+        PayloadDto dto = new PayloadDto();
+        dto.id = " 1 ";
+        dto.payload = new ObjectMapper().readTree("{\"note\":\"  hi  \"}");
+
+        StringNormalizer.normalize(dto, new NormalizeConfig(true, true, false));
+
+        assertEquals("1", dto.id);
+        assertEquals("hi", dto.payload.get("note").textValue());
+    }
+
+    @Test
+    void prepare_mutableType_succeeds() {
+        assertDoesNotThrow(() -> StringNormalizer.prepare(TestDto.class, ChildDto.class));
+    }
+
+    static class PayloadDto {
+        String id;
+        JsonNode payload;
+    }
+
     /** Mutable DTO - records have final fields and can't be modified via reflection */
     static class TestDto {
         String a;
@@ -78,4 +467,76 @@ class StringNormalizerTest {
             this.b = b;
         }
     }
+
+    static class ChildDto extends TestDto {
+        String c;
+
+        ChildDto() {
+            super(null);
+        }
+    }
+
+    static class FieldOptionsDto {
+        String name;
+        @NormalizeInput(uppercase = true)
+        String code;
+        @SkipNormalization
+        String attachment;
+        @NormalizeInput(collapseSpaces = true, lowercase = true)
+        List<String> notes;
+        @NormalizeInput(maxInputLength = 32)
+        String blob;
+    }
+
+    static class StaticFieldDto {
+        static String SHARED = "  shared  ";
+    }
+
+    record TestRecord(String value) {}
+
+    static class Order {
+        Customer customer;
+        List<String> tags;
+        Map<String, String> attributes;
+        String[] codes;
+        List<Line> lines;
+        List<Integer> quantities;
+    }
+
+    static class Customer {
+        String name;
+    }
+
+    static class Line {
+        String sku;
+
+        Line(String sku) {
+            this.sku = sku;
+        }
+    }
+
+    static class SetDto {
+        Set<String> values;
+    }
+
+    static class DynamicDto {
+        Object payload;
+    }
+
+    static class Node {
+        String value;
+        Node next;
+    }
+
+    static class Holder {
+        Child child;
+    }
+
+    static class Child {
+        String label;
+    }
+
+    static class BackReference extends Child {
+        Holder owner;
+    }
 }
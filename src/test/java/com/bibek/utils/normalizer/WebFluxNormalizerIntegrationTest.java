@@ -0,0 +1,231 @@
+package com.bibek.utils.normalizer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.http.codec.CodecsAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.HttpHandlerAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.WebFluxAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.function.client.WebClientAutoConfiguration;
+import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the auto-configured WebFlux stack on a Reactor Netty server and talks to it over Netty.
+ */
+class WebFluxNormalizerIntegrationTest {
+
+    private static final int REQUEST_ITEMS = 100_000;
+
+    private final ReactiveWebApplicationContextRunner runner = new ReactiveWebApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(
+                    JacksonAutoConfiguration.class,
+                    RequestNormalizerJacksonAutoConfiguration.class,
+                    CodecsAutoConfiguration.class,
+                    WebFluxAutoConfiguration.class,
+                    HttpHandlerAutoConfiguration.class,
+                    WebClientAutoConfiguration.class,
+                    RequestNormalizerWebFluxAutoConfiguration.class,
+                    RequestNormalizerWebClientAutoConfiguration.class))
+            .withUserConfiguration(EchoController.class);
+
+    @Test
+    void fluxRequestBody_isNormalizedPerElementWithClientDemand() {
+        withServer((context, baseUrl) -> {
+            WebTestClient client = WebTestClient.bindToServer(new ReactorClientHttpConnector())
+                    .baseUrl(baseUrl).build();
+            AtomicInteger sent = new AtomicInteger();
+            String padding = "x".repeat(1024);
+            Flux<Map<String, String>> request = Flux.range(0, REQUEST_ITEMS)
+                    .map(i -> Map.of("name", "  item   " + i + "  ", "note", padding))
+                    .doOnNext(item -> sent.incrementAndGet());
+            Flux<Map<String, Object>> response = client.post().uri("/items")
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .accept(MediaType.APPLICATION_NDJSON)
+                    .body(request, new ParameterizedTypeReference<Map<String, String>>() { })
+                    .exchange()
+                    .expectStatus().isOk()
+                    .returnResult(new ParameterizedTypeReference<Map<String, Object>>() { })
+                    .getResponseBody();
+
+            StepVerifier.create(response, 1)
+                    .assertNext(item -> assertEquals("item 0", item.get("name")))
+                    .thenRequest(2)
+                    .assertNext(item -> assertEquals("item 1", item.get("name")))
+                    .assertNext(item -> assertEquals("item 2", item.get("name")))
+                    // With three elements requested, the server must stop pulling the request body
+                    .thenAwait(Duration.ofMillis(500))
+                    .then(() -> assertTrue(sent.get() < REQUEST_ITEMS / 2, "request body was drained: " + sent.get()))
+                    .thenCancel()
+                    .verify(Duration.ofSeconds(30));
+        });
+    }
+
+    @Test
+    void responses_areNormalizedForAnnotatedHandlerMethodsOnly() {
+        withServer((context, baseUrl) -> {
+            WebTestClient client = WebTestClient.bindToServer(new ReactorClientHttpConnector())
+                    .baseUrl(baseUrl).build();
+            client.get().uri("/view")
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody().jsonPath("$[0].name").isEqualTo("a b");
+            client.get().uri("/unannotated")
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody().jsonPath("$.name").isEqualTo("  kept  ");
+        });
+    }
+
+    @Test
+    void monoRequestBody_parameterAnnotationIsApplied() {
+        withServer((context, baseUrl) -> {
+            WebTestClient client = WebTestClient.bindToServer(new ReactorClientHttpConnector())
+                    .baseUrl(baseUrl).build();
+            client.post().uri("/plain")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(Map.of("name", "   "))
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody().jsonPath("$.name").doesNotExist();
+        });
+    }
+
+    @Test
+    void recordRequestBodies_areBuiltFromNormalizedValues() {
+        withServer(runner.withPropertyValues("request-normalizer.jackson.creators.enabled=true"), (context, baseUrl) -> {
+            WebTestClient client = WebTestClient.bindToServer(new ReactorClientHttpConnector())
+                    .baseUrl(baseUrl).build();
+            client.post().uri("/record")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(Map.of("name", "  a   b  "))
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody().jsonPath("$.name").isEqualTo("a b");
+            client.post().uri("/records")
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .bodyValue("{\"name\":\" c \"}\n{\"name\":\"d  e\"}\n")
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody().jsonPath("$[0].name").isEqualTo("c").jsonPath("$[1].name").isEqualTo("d e");
+        });
+    }
+
+    @Test
+    void webClient_normalizesOutgoingBody() {
+        withServer((context, baseUrl) -> {
+            WebClient client = context.getBean(WebClient.Builder.class).baseUrl(baseUrl).build();
+            Item item = new Item();
+            item.name = "  sent  ";
+
+            Map<?, ?> echoed = client.post().uri("/raw")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(item)
+                    .retrieve()
+                    .bodyToMono(Map.class)
+                    .block();
+
+            assertNotNull(echoed);
+            assertEquals("sent", echoed.get("name"));
+            assertEquals("  sent  ", item.name);
+        });
+    }
+
+    private void withServer(BiConsumer<org.springframework.context.ApplicationContext, String> test) {
+        withServer(runner, test);
+    }
+
+    private static void withServer(ReactiveWebApplicationContextRunner runner,
+                                   BiConsumer<org.springframework.context.ApplicationContext, String> test) {
+        runner.run(context -> {
+            assertNull(context.getStartupFailure());
+            DisposableServer server = HttpServer.create().port(0)
+                    .handle(new ReactorHttpHandlerAdapter(context.getBean(HttpHandler.class)))
+                    .bindNow();
+            try {
+                test.accept(context, "http://localhost:" + server.port());
+            } finally {
+                server.disposeNow();
+            }
+        });
+    }
+
+    @NormalizeInput(collapseSpaces = true)
+    static class Item {
+        public String name;
+        public String note;
+    }
+
+    static class Plain {
+        public String name;
+    }
+
+    @NormalizeInput(collapseSpaces = true)
+    record Named(String name) {}
+
+    @RestController
+    static class EchoController {
+
+        @PostMapping(path = "/items", produces = MediaType.APPLICATION_NDJSON_VALUE)
+        public Flux<Item> items(@RequestBody Flux<Item> items) {
+            return items;
+        }
+
+        @GetMapping("/view")
+        @NormalizeInput(collapseSpaces = true)
+        public Flux<Plain> view() {
+            Plain plain = new Plain();
+            plain.name = "  a   b  ";
+            return Flux.just(plain);
+        }
+
+        @GetMapping("/unannotated")
+        public Mono<Item> unannotated() {
+            Item item = new Item();
+            item.name = "  kept  ";
+            return Mono.just(item);
+        }
+
+        @PostMapping("/record")
+        public Mono<Named> record(@RequestBody Mono<Named> body) {
+            return body;
+        }
+
+        @PostMapping("/records")
+        public Flux<Named> records(@RequestBody Flux<Named> body) {
+            return body;
+        }
+
+        @PostMapping("/plain")
+        public Mono<Plain> plain(@RequestBody @NormalizeInput Mono<Plain> body) {
+            return body;
+        }
+
+        @PostMapping("/raw")
+        public Mono<Map<String, Object>> raw(@RequestBody Mono<Map<String, Object>> body) {
+            return body;
+        }
+    }
+}
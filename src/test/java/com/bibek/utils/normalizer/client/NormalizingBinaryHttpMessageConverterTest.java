@@ -0,0 +1,102 @@
+package com.bibek.utils.normalizer.client;
+
+import com.bibek.utils.normalizer.NormalizationRecorder;
+import com.bibek.utils.normalizer.NormalizeInput;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.web.client.RestClient;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NormalizingBinaryHttpMessageConverterTest {
+
+    private static final MediaType CBOR = MediaType.APPLICATION_CBOR;
+
+    private static final MediaType SMILE = new MediaType("application", "x-jackson-smile");
+
+    @Test
+    void cbor_readsNormalizedAndWritesWithoutModifyingTheSource() throws Exception {
+        ObjectMapper mapper = new CBORMapper();
+        var converter = new NormalizingCborHttpMessageConverter(mapper, NormalizationRecorder.NONE);
+
+        assertTrue(converter.canRead(Message.class, CBOR));
+        assertFalse(converter.canRead(Plain.class, CBOR));
+
+        Message read = (Message) converter.read(Message.class, null,
+                new MockHttpInputMessage(mapper.writeValueAsBytes(new Message("  hi  ", "   "))));
+        assertEquals("hi", read.text);
+        assertNull(read.note);
+
+        Message source = new Message("  out  ", "x");
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(source, CBOR, output);
+        assertEquals("out", mapper.readValue(output.getBodyAsBytes(), Message.class).text);
+        assertEquals("  out  ", source.text);
+        assertThrows(IllegalArgumentException.class,
+                () -> new NormalizingCborHttpMessageConverter(new SmileMapper(), NormalizationRecorder.NONE));
+    }
+
+    @Test
+    void smile_readsNormalizedAndWritesWithoutModifyingTheSource() throws Exception {
+        ObjectMapper mapper = new SmileMapper();
+        var converter = new NormalizingSmileHttpMessageConverter(mapper, NormalizationRecorder.NONE);
+
+        assertTrue(converter.canWrite(Message.class, SMILE));
+        assertFalse(converter.canWrite(Plain.class, SMILE));
+
+        Message read = (Message) converter.read(Message.class, null,
+                new MockHttpInputMessage(mapper.writeValueAsBytes(new Message(" a  ", null))));
+        assertEquals("a", read.text);
+
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(new Message(" b ", null), SMILE, output);
+        assertEquals("b", mapper.readValue(output.getBodyAsBytes(), Message.class).text);
+    }
+
+    @Test
+    void customizer_registersBinaryConvertersSharingTheBuildersObjectMappers() {
+        List<HttpMessageConverter<?>> converters = new ArrayList<>();
+        RestClient.builder()
+                .apply(new RestClientNormalizerCustomizer().normalizingRestClientCustomizer()::customize)
+                .messageConverters(converters::addAll)
+                .build();
+
+        var cbor = (NormalizingCborHttpMessageConverter) converters.stream()
+                .filter(NormalizingCborHttpMessageConverter.class::isInstance).findFirst().orElseThrow();
+        assertTrue(converters.stream().anyMatch(NormalizingSmileHttpMessageConverter.class::isInstance));
+        ObjectMapper builderCborMapper = converters.stream()
+                .filter(converter -> converter.getClass()
+                        == org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter.class)
+                .map(converter -> ((org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter) converter)
+                        .getObjectMapper())
+                .findFirst().orElseThrow();
+        assertSame(builderCborMapper, cbor.getObjectMapper());
+    }
+
+    @NormalizeInput
+    static class Message {
+        public String text;
+        public String note;
+
+        public Message() {
+        }
+
+        Message(String text, String note) {
+            this.text = text;
+            this.note = note;
+        }
+    }
+
+    static class Plain {
+        public String text;
+    }
+}
@@ -1,14 +1,26 @@
 package com.bibek.utils.normalizer.client;
 
 import com.bibek.utils.normalizer.NormalizeInput;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.mock.http.MockHttpInputMessage;
 import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.web.client.RestClient;
 
+import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -69,6 +81,66 @@ class NormalizingJsonHttpMessageConverterTest {
         assertEquals("ok", result.status);
     }
 
+    @Test
+    void read_normalizesElementsOfCollectionResponse() throws Exception {
+        String json = "[{\"name\":\"  a  \"},{\"name\":\"b    c\"}]";
+        MockHttpInputMessage input = new MockHttpInputMessage(json.getBytes(StandardCharsets.UTF_8));
+        input.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        Type listType = new ParameterizedTypeReference<List<NormalizedResponse>>() {}.getType();
+
+        assertTrue(converter.canRead(listType, null, MediaType.APPLICATION_JSON));
+        @SuppressWarnings("unchecked")
+        List<NormalizedResponse> result = (List<NormalizedResponse>) converter.read(listType, null, input);
+
+        assertEquals("a", result.get(0).name);
+        assertEquals("b c", result.get(1).name);
+    }
+
+    @Test
+    void canRead_genericTypeOfPlainElements_returnsFalse() {
+        Type listType = new ParameterizedTypeReference<List<PlainRequest>>() {}.getType();
+        assertFalse(converter.canRead(listType, null, MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void canRead_unwrapsResponseEntityAndMapValues() {
+        Type entityType = new ParameterizedTypeReference<ResponseEntity<List<NormalizedResponse>>>() {}.getType();
+        Type mapType = new ParameterizedTypeReference<Map<String, NormalizedResponse>>() {}.getType();
+
+        assertEquals(NormalizedResponse.class, JacksonBodyNormalization.decide(entityType).type());
+        assertTrue(converter.canRead(mapType, null, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canRead(new ParameterizedTypeReference<Map<String, PlainRequest>>() {}.getType(),
+                null, MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void decide_isCachedPerType() {
+        Type listType = new ParameterizedTypeReference<List<NormalizedResponse>>() {}.getType();
+        Type sameListType = new ParameterizedTypeReference<List<NormalizedResponse>>() {}.getType();
+
+        assertSame(JacksonBodyNormalization.decide(listType),
+                JacksonBodyNormalization.decide(sameListType));
+        assertSame(JacksonBodyNormalization.Decision.NONE,
+                JacksonBodyNormalization.decide(PlainRequest.class));
+    }
+
+    @Test
+    void customizer_sharesObjectMapperOfExistingJsonConverter() {
+        ObjectMapper mapper = new ObjectMapper();
+        List<HttpMessageConverter<?>> converters = new ArrayList<>();
+        converters.add(new MappingJackson2HttpMessageConverter(mapper));
+        RestClient.builder()
+                .messageConverters(list -> {
+                    list.clear();
+                    list.addAll(converters);
+                })
+                .apply(new RestClientNormalizerCustomizer().normalizingRestClientCustomizer()::customize)
+                .messageConverters(list -> {
+                    NormalizingJsonHttpMessageConverter normalizing = (NormalizingJsonHttpMessageConverter) list.get(0);
+                    assertSame(mapper, normalizing.getObjectMapper());
+                });
+    }
+
     @Test
     void write_normalizesRequestBodyBeforeSerialization() throws Exception {
         NormalizedRequest request = new NormalizedRequest("  foo  ", "  ");
@@ -76,9 +148,9 @@ class NormalizingJsonHttpMessageConverterTest {
 
         converter.write(request, MediaType.APPLICATION_JSON, output);
 
-        // Object should be normalized in place before write
-        assertEquals("foo", request.name);
-        assertNull(request.email);
+        // Normalized while serialized; the caller's object is left as it was
+        assertEquals("  foo  ", request.name);
+        assertEquals("  ", request.email);
 
         String body = output.getBodyAsString(StandardCharsets.UTF_8);
         assertTrue(body.contains("\"name\":\"foo\""));
@@ -92,8 +164,45 @@ class NormalizingJsonHttpMessageConverterTest {
 
         converter.write(request, MediaType.APPLICATION_JSON, output);
 
-        assertEquals("a b c", request.name);
-        assertEquals("x@y.com", request.email);
+        assertEquals("{\"name\":\"a b c\",\"email\":\"x@y.com\"}", output.getBodyAsString(StandardCharsets.UTF_8));
+        assertEquals("a    b    c", request.name);
+    }
+
+    @Test
+    void write_mappingJacksonValue_keepsViewAndNormalizes() throws Exception {
+        NormalizedRequest request = new NormalizedRequest(" foo ", "x@y.com");
+        MappingJacksonValue container = new MappingJacksonValue(request);
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        converter.write(container, MediaType.APPLICATION_JSON, output);
+
+        assertEquals("{\"name\":\"foo\",\"email\":\"x@y.com\"}", output.getBodyAsString(StandardCharsets.UTF_8));
+        assertSame(request, container.getValue());
+        assertEquals(" foo ", request.name);
+    }
+
+    @Test
+    void write_keepsTheDeclaredTypeOfGenericBodies() throws Exception {
+        Type type = new ParameterizedTypeReference<List<Shape>>() {
+        }.getType();
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        converter.write(List.of(new Circle(" round ")), type, MediaType.APPLICATION_JSON, output);
+
+        assertEquals("[{\"kind\":\"circle\",\"label\":\"round\"}]", output.getBodyAsString(StandardCharsets.UTF_8));
+    }
+
+    @NormalizeInput
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "kind")
+    @JsonSubTypes(@JsonSubTypes.Type(value = Circle.class, name = "circle"))
+    abstract static class Shape {
+        public String label;
+    }
+
+    static class Circle extends Shape {
+        Circle(String label) {
+            this.label = label;
+        }
     }
 
     @NormalizeInput(trim = true, blankToNull = true, collapseSpaces = true)
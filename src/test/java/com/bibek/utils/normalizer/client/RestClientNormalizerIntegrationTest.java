@@ -55,7 +55,7 @@ class RestClientNormalizerIntegrationTest {
         var request = new EchoRequest("  trimmed  ");
         client.echo(request);
 
-        assertEquals("trimmed", request.value);
+        assertEquals("  trimmed  ", request.value);
         server.verify();
     }
 
@@ -81,7 +81,7 @@ class RestClientNormalizerIntegrationTest {
         var request = new EchoRequest("   ");
         client.echo(request);
 
-        assertNull(request.value);
+        assertEquals("   ", request.value);
         server.verify();
     }
 
@@ -0,0 +1,199 @@
+package com.bibek.utils.normalizer.jackson;
+
+import com.bibek.utils.normalizer.NormalizeConfig;
+import com.bibek.utils.normalizer.NormalizeInput;
+import com.bibek.utils.normalizer.SkipNormalization;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NormalizedValueTest {
+
+    private static final NormalizeConfig CONFIG = new NormalizeConfig(true, true, true);
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void serialize_normalizesWithoutModifyingSource() throws Exception {
+        Response response = new Response();
+        response.name = "  hello    world  ";
+        response.email = "   ";
+        response.tags = new ArrayList<>(List.of(" a ", "  b"));
+
+        String json = mapper.writeValueAsString(new NormalizedValue(response, CONFIG));
+
+        assertEquals("{\"name\":\"hello world\",\"email\":null,\"tags\":[\"a\",\"b\"],\"raw\":null,"
+                + "\"kind\":null,\"child\":null,\"currency\":null}", json);
+        assertEquals("  hello    world  ", response.name);
+        assertEquals("   ", response.email);
+        assertEquals(List.of(" a ", "  b"), response.tags);
+    }
+
+    @Test
+    void serialize_honorsFieldAnnotationsByJsonName() throws Exception {
+        Response child = new Response();
+        child.name = " child ";
+        child.raw = " kept ";
+        Response response = new Response();
+        response.raw = "  raw  ";
+        response.code = " eur ";
+        response.kind = Kind.A;
+        response.child = child;
+
+        JsonNode json = mapper.readTree(mapper.writeValueAsString(new NormalizedValue(response, CONFIG)));
+
+        assertEquals("  raw  ", json.get("raw").asText());
+        assertEquals("EUR", json.get("currency").asText());
+        assertEquals("A", json.get("kind").asText());
+        assertEquals("child", json.get("child").get("name").asText());
+        assertEquals(" kept ", json.get("child").get("raw").asText());
+    }
+
+    @Test
+    void serialize_skippedPropertyLeavesWholeSubtreeUntouched() throws Exception {
+        Holder holder = new Holder();
+        Map<String, Object> meta = new LinkedHashMap<>();
+        meta.put("k", " v ");
+        meta.put("list", List.of(" x "));
+        holder.meta = meta;
+        holder.after = " after ";
+
+        String json = mapper.writeValueAsString(new NormalizedValue(holder, CONFIG));
+
+        assertEquals("{\"meta\":{\"k\":\" v \",\"list\":[\" x \"]},\"after\":\"after\"}", json);
+    }
+
+    @Test
+    void serialize_containersAndPlainStrings() throws Exception {
+        assertEquals("[\"a b\",null]", mapper.writeValueAsString(new NormalizedValue(List.of(" a  b ", " "), CONFIG)));
+        assertEquals("\"x\"", mapper.writeValueAsString(new NormalizedValue("  x ", CONFIG)));
+        assertEquals("{\"k\":\"v\"}", mapper.writeValueAsString(new NormalizedValue(Map.of("k", " v "), CONFIG)));
+    }
+
+    @Test
+    void serialize_leavesNonStringValuesAsTheirSerializersWriteThem() throws Exception {
+        Typed typed = new Typed();
+        typed.id = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        typed.link = URI.create("http://x/a");
+        typed.at = new Date(0);
+        typed.code = Code.LOWER;
+        typed.name = " a very long name ";
+        typed.names = new String[]{" abcdefghijkl "};
+        typed.tree = mapper.readTree("{\"t\":\" lower \",\"n\":1}");
+        NormalizeConfig config = new NormalizeConfig(true, true, false, false, false, true, false, null, false, 10, 0, false);
+
+        String json = mapper.writeValueAsString(new NormalizedValue(typed, config));
+
+        assertEquals("{\"id\":\"123e4567-e89b-12d3-a456-426614174000\",\"link\":\"http://x/a\","
+                + "\"at\":\"1970-01-01T00:00:00\",\"code\":\"lower-code\",\"name\":\"A VERY LON\","
+                + "\"names\":[\"ABCDEFGHIJ\"],\"tree\":{\"t\":\"LOWER\",\"n\":1}}", json);
+    }
+
+    @Test
+    void serialize_usesEachMappersOwnConfig() throws Exception {
+        Named named = new Named();
+        named.firstName = " a ";
+        ObjectMapper snake = new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+        ObjectMapper kebab = new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategies.KEBAB_CASE);
+
+        assertEquals("{\"firstName\":\"a\"}", mapper.writeValueAsString(new NormalizedValue(named, CONFIG)));
+        assertEquals("{\"first_name\":\"a\"}", snake.writeValueAsString(new NormalizedValue(named, CONFIG)));
+        assertEquals("{\"first-name\":\"a\"}", kebab.writeValueAsString(new NormalizedValue(named, CONFIG)));
+        assertEquals("{\"firstName\":\"a\"}", mapper.writeValueAsString(new NormalizedValue(named, CONFIG)));
+    }
+
+    @Test
+    void serialize_matchesFieldAnnotationsToPropertiesWhateverTheirJsonName() throws Exception {
+        Account account = new Account();
+        account.passwordHash = " hash= ";
+        account.currencyCode = " eur ";
+        account.display = " shown ";
+        ObjectMapper snake = new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+                .addMixIn(Account.class, AccountMixIn.class);
+
+        JsonNode json = snake.readTree(snake.writeValueAsString(new NormalizedValue(account, CONFIG)));
+
+        assertEquals(" hash= ", json.get("password_hash").asText());
+        assertEquals("EUR", json.get("currency_code").asText());
+        assertEquals("SHOWN", json.get("label").asText());
+    }
+
+    enum Kind { A }
+
+    enum Code {
+        LOWER;
+
+        @JsonValue
+        String value() {
+            return "lower-code";
+        }
+    }
+
+    @JsonPropertyOrder({"id", "link", "at", "code", "name", "names", "tree"})
+    static class Typed {
+        public UUID id;
+        public URI link;
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss", timezone = "UTC")
+        public Date at;
+        public Code code;
+        public String name;
+        public String[] names;
+        public JsonNode tree;
+    }
+
+    static class Response {
+        public String name;
+        public String email;
+        public List<String> tags;
+        @SkipNormalization
+        public String raw;
+        @NormalizeInput(uppercase = true)
+        @JsonProperty("currency")
+        public String code;
+        public Kind kind;
+        public Response child;
+    }
+
+    static class Named {
+        public String firstName;
+    }
+
+    static class Account {
+        @SkipNormalization
+        public String passwordHash;
+        @NormalizeInput(uppercase = true)
+        public String currencyCode;
+        @NormalizeInput(uppercase = true)
+        private String display;
+
+        public String getDisplay() {
+            return display;
+        }
+    }
+
+    abstract static class AccountMixIn {
+        @JsonProperty("label")
+        abstract String getDisplay();
+    }
+
+    static class Holder {
+        @SkipNormalization
+        public Map<String, Object> meta;
+        public String after;
+    }
+}
@@ -0,0 +1,156 @@
+package com.bibek.utils.normalizer.jackson;
+
+import com.bibek.utils.normalizer.NormalizeInput;
+import com.bibek.utils.normalizer.SkipNormalization;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NormalizingJacksonModuleTest {
+
+    private final ObjectMapper mapper = JsonMapper.builder()
+            .addModule(new NormalizingJacksonModule())
+            .build();
+
+    @Test
+    void isRegistered_detectsModule() {
+        assertTrue(NormalizingJacksonModule.isRegistered(mapper));
+        assertFalse(NormalizingJacksonModule.isRegistered(new ObjectMapper()));
+        assertFalse(NormalizingJacksonModule.isRegistered(null));
+    }
+
+    @Test
+    void deserialize_annotatedBean_normalizesWhileParsing() throws Exception {
+        MutableDto dto = mapper.readValue(
+                "{\"name\":\"  hello    world  \",\"email\":\"   \",\"age\":3}", MutableDto.class);
+
+        assertEquals("hello world", dto.name);
+        assertNull(dto.email);
+        assertEquals(3, dto.age);
+    }
+
+    @Test
+    void deserialize_nonStringToken_isCoercedThenNormalized() throws Exception {
+        MutableDto dto = mapper.readValue("{\"name\":42}", MutableDto.class);
+        assertEquals("42", dto.name);
+    }
+
+    @Test
+    void deserialize_plainBean_isLeftUntouched() throws Exception {
+        PlainDto dto = mapper.readValue("{\"name\":\"  x  \"}", PlainDto.class);
+        assertEquals("  x  ", dto.name);
+    }
+
+    @Test
+    void deserialize_record_normalizesCreatorArguments() throws Exception {
+        RecordDto dto = mapper.readValue("{\"name\":\"  John  \",\"email\":\"  \"}", RecordDto.class);
+
+        assertEquals("John", dto.name());
+        assertNull(dto.email());
+    }
+
+    @Test
+    void deserialize_jsonCreator_normalizesConstructorArguments() throws Exception {
+        ImmutableDto dto = mapper.readValue("{\"code\":\"  AB  \"}", ImmutableDto.class);
+        assertEquals("AB", dto.code);
+    }
+
+    @Test
+    void creatorsOnly_normalizesConstructorArgumentsButNotSetters() throws Exception {
+        ObjectMapper creators = JsonMapper.builder().addModule(NormalizingJacksonModule.creatorsOnly()).build();
+
+        RecordDto record = creators.readValue("{\"name\":\"  John  \",\"email\":\"  \"}", RecordDto.class);
+        ImmutableDto immutable = creators.readValue("{\"code\":\"  AB  \"}", ImmutableDto.class);
+        MutableDto mutable = creators.readValue("{\"name\":\"  left  \"}", MutableDto.class);
+
+        assertEquals("John", record.name());
+        assertNull(record.email());
+        assertEquals("AB", immutable.code);
+        assertEquals("  left  ", mutable.name);
+        assertTrue(NormalizingJacksonModule.normalizesCreators(creators));
+        assertFalse(NormalizingJacksonModule.isRegistered(creators));
+    }
+
+    @Test
+    void deserialize_inheritedField_usesConcreteTypeAnnotation() throws Exception {
+        ChildDto dto = mapper.readValue("{\"name\":\"  parent  \",\"extra\":\"  child  \"}", ChildDto.class);
+
+        assertEquals("parent", dto.name);
+        assertEquals("child", dto.extra);
+    }
+
+    @Test
+    void deserialize_fieldAnnotations_skipAndOverride() throws Exception {
+        FieldOptionsDto dto = mapper.readValue("{\"name\":\"  a  \",\"code\":\" eur \",\"raw\":\"  raw  \"}",
+                FieldOptionsDto.class);
+        FieldOptionsRecord record = mapper.readValue("{\"code\":\" usd \",\"raw\":\"  raw  \"}",
+                FieldOptionsRecord.class);
+
+        assertEquals("a", dto.name);
+        assertEquals("EUR", dto.code);
+        assertEquals("  raw  ", dto.raw);
+        assertEquals("USD", record.code());
+        assertEquals("  raw  ", record.raw());
+    }
+
+    @Test
+    void deserialize_oversizedRejected_failsParsing() {
+        assertThrows(JsonMappingException.class,
+                () -> mapper.readValue("{\"value\":\"" + "x".repeat(20) + "\"}", LimitedDto.class));
+    }
+
+    @NormalizeInput
+    static class FieldOptionsDto {
+        public String name;
+        @NormalizeInput(uppercase = true)
+        public String code;
+        @SkipNormalization
+        public String raw;
+    }
+
+    @NormalizeInput
+    record FieldOptionsRecord(@NormalizeInput(uppercase = true) String code, @SkipNormalization String raw) {}
+
+    @NormalizeInput(maxInputLength = 10, onOversize = NormalizeInput.OversizePolicy.REJECT)
+    static class LimitedDto {
+        public String value;
+    }
+
+    @NormalizeInput(collapseSpaces = true)
+    static class MutableDto {
+        public String name;
+        public String email;
+        public int age;
+    }
+
+    static class PlainDto {
+        public String name;
+    }
+
+    @NormalizeInput
+    record RecordDto(String name, String email) {}
+
+    @NormalizeInput
+    static class ImmutableDto {
+        final String code;
+
+        @JsonCreator
+        ImmutableDto(@JsonProperty("code") String code) {
+            this.code = code;
+        }
+    }
+
+    static class BaseDto {
+        public String name;
+    }
+
+    @NormalizeInput
+    static class ChildDto extends BaseDto {
+        public String extra;
+    }
+}
@@ -0,0 +1,114 @@
+package com.bibek.utils.normalizer.messaging;
+
+import com.bibek.utils.normalizer.NormalizeInput;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.handler.annotation.support.DefaultMessageHandlerMethodFactory;
+import org.springframework.messaging.handler.invocation.InvocableHandlerMethod;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NormalizingMessageConverterTest {
+
+    private final NormalizingMessageConverter converter =
+            new NormalizingMessageConverter(new MappingJackson2MessageConverter());
+
+    @Test
+    void fromMessage_normalizesAnnotatedPayloadType() {
+        Order order = (Order) converter.fromMessage(json("{\"code\":\"  a1  \",\"note\":\"  \"}"), Order.class);
+
+        assertEquals("a1", order.code);
+        assertNull(order.note);
+    }
+
+    @Test
+    void fromMessage_parameterAnnotationWinsAndElementTypesAreResolved() throws Exception {
+        MethodParameter lowered = new MethodParameter(Listener.class.getDeclaredMethod("lowered", Order.class), 0);
+        Order order = (Order) converter.fromMessage(json("{\"code\":\"  AB  \"}"), Order.class, lowered);
+        assertEquals("ab", order.code);
+
+        MethodParameter batch = new MethodParameter(Listener.class.getDeclaredMethod("batch", List.class), 0);
+        @SuppressWarnings("unchecked")
+        List<Order> orders = (List<Order>) converter.fromMessage(json("[{\"code\":\" x \"}]"), List.class, batch);
+        assertEquals("x", orders.get(0).code);
+    }
+
+    @Test
+    void fromMessage_leavesUnannotatedPayloadsAndNormalizesAnnotatedStringParameters() throws Exception {
+        Plain plain = (Plain) converter.fromMessage(json("{\"code\":\"  kept  \"}"), Plain.class);
+        assertEquals("  kept  ", plain.code);
+
+        var strings = new NormalizingMessageConverter(new StringMessageConverter());
+        MethodParameter text = new MethodParameter(Listener.class.getDeclaredMethod("text", String.class), 0);
+        assertEquals("hi", strings.fromMessage(MessageBuilder.withPayload("  hi  ").build(), String.class, text));
+    }
+
+    @Test
+    void fromMessage_reportsOversizedValuesAsConversionFailures() {
+        assertThrows(MessageConversionException.class,
+                () -> converter.fromMessage(json("{\"code\":\"" + "x".repeat(20) + "\"}"), Limited.class));
+    }
+
+    @Test
+    void handlerMethodFactory_normalizesConvertedPayloadsAndPassesTargetTypedPayloadsThrough() throws Exception {
+        DefaultMessageHandlerMethodFactory factory = new DefaultMessageHandlerMethodFactory();
+        factory.setMessageConverter(converter);
+        factory.afterPropertiesSet();
+        Listener listener = new Listener();
+        InvocableHandlerMethod handler = factory.createInvocableHandlerMethod(
+                listener, Listener.class.getDeclaredMethod("received", Order.class));
+
+        handler.invoke(json("{\"code\":\"  c1  \"}"));
+        assertEquals("c1", listener.received.code);
+
+        Order converted = new Order();
+        converted.code = "  c2  ";
+        handler.invoke(MessageBuilder.withPayload(converted).build());
+        assertSame(converted, listener.received);
+        assertEquals("  c2  ", converted.code);
+    }
+
+    private static Message<byte[]> json(String payload) {
+        return MessageBuilder.withPayload(payload.getBytes()).setHeader("contentType", "application/json").build();
+    }
+
+    @NormalizeInput
+    static class Order {
+        public String code;
+        public String note;
+    }
+
+    static class Plain {
+        public String code;
+    }
+
+    @NormalizeInput(maxInputLength = 10, onOversize = NormalizeInput.OversizePolicy.REJECT)
+    static class Limited {
+        public String code;
+    }
+
+    static class Listener {
+
+        Order received;
+
+        public void received(Order order) {
+            received = order;
+        }
+
+        void lowered(@NormalizeInput(lowercase = true) Order order) {
+        }
+
+        void batch(List<Order> orders) {
+        }
+
+        void text(@NormalizeInput String text) {
+        }
+    }
+}
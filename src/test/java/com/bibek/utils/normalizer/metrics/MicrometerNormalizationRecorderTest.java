@@ -0,0 +1,72 @@
+package com.bibek.utils.normalizer.metrics;
+
+import com.bibek.utils.normalizer.NormalizeConfig;
+import com.bibek.utils.normalizer.NormalizeInput;
+import com.bibek.utils.normalizer.StringNormalizer;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MicrometerNormalizationRecorderTest {
+
+    private static final NormalizeConfig DEFAULT = new NormalizeConfig(true, true, false);
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MicrometerNormalizationRecorder recorder = new MicrometerNormalizationRecorder(registry);
+
+    @Test
+    void prepare_registersMetersBeforeFirstCall() {
+        recorder.prepare(Request.class);
+
+        Timer timer = registry.get(MicrometerNormalizationRecorder.DURATION)
+                .tag("type", Request.class.getName()).timer();
+        assertEquals(0, timer.count());
+        assertEquals(0, strings("changed"));
+    }
+
+    @Test
+    void normalize_recordsFieldsAndStringsPerType() {
+        Request request = new Request();
+        request.name = "  Jane  ";
+        request.code = "ok";
+        request.tags = new ArrayList<>(List.of("  a  ", "b"));
+
+        StringNormalizer.normalize(request, DEFAULT, recorder, null);
+
+        assertEquals(1, registry.get(MicrometerNormalizationRecorder.DURATION)
+                .tag("type", Request.class.getName()).timer().count());
+        assertEquals(4, registry.get(MicrometerNormalizationRecorder.FIELDS)
+                .tag("type", Request.class.getName()).functionCounter().count());
+        // name and "  a  " changed; code, "b" and the null note did not
+        assertEquals(2, strings("changed"));
+        assertEquals(3, strings("unchanged"));
+    }
+
+    @Test
+    void normalize_rootCollectionIsRecordedUnderElementType() {
+        Request request = new Request();
+        request.name = " x ";
+
+        StringNormalizer.normalize(new ArrayList<>(List.of(request)), DEFAULT, recorder, Request.class);
+
+        assertEquals(1, strings("changed"));
+    }
+
+    private double strings(String result) {
+        return registry.get(MicrometerNormalizationRecorder.STRINGS)
+                .tags("type", Request.class.getName(), "result", result).functionCounter().count();
+    }
+
+    @NormalizeInput
+    static class Request {
+        String name;
+        String code;
+        String note;
+        List<String> tags;
+    }
+}
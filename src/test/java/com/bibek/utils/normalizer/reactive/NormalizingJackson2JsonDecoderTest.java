@@ -0,0 +1,98 @@
+package com.bibek.utils.normalizer.reactive;
+
+import com.bibek.utils.normalizer.NormalizeInput;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NormalizingJackson2JsonDecoderTest {
+
+    private final NormalizingJackson2JsonDecoder decoder = new NormalizingJackson2JsonDecoder();
+
+    @Test
+    void decodeFlux_normalizesEachElement() {
+        Flux<Object> decoded = decoder.decode(lines("{\"name\":\"  a  \"}", "{\"name\":\"   \"}"),
+                ResolvableType.forClass(Item.class), MediaType.APPLICATION_NDJSON, Map.of());
+
+        StepVerifier.create(decoded)
+                .assertNext(item -> assertEquals("a", ((Item) item).name))
+                .assertNext(item -> assertNull(((Item) item).name))
+                .verifyComplete();
+    }
+
+    @Test
+    void decodeFlux_honoursDemandWithoutReadingWholeBody() {
+        AtomicInteger emitted = new AtomicInteger();
+        Flux<DataBuffer> input = Flux.range(0, 10_000)
+                .map(i -> buffer("{\"name\":\"  item" + i + "  \"}\n"))
+                .doOnNext(buffer -> emitted.incrementAndGet());
+
+        Flux<Object> decoded = decoder.decode(input, ResolvableType.forClass(Item.class),
+                MediaType.APPLICATION_NDJSON, Map.of());
+
+        StepVerifier.create(decoded, 0)
+                .expectSubscription()
+                .thenRequest(1)
+                .assertNext(item -> assertEquals("item0", ((Item) item).name))
+                .thenRequest(1)
+                .assertNext(item -> {
+                    assertEquals("item1", ((Item) item).name);
+                    assertTrue(emitted.get() < 10_000, "upstream was drained: " + emitted.get());
+                })
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void decodeMono_normalizesValue() {
+        StepVerifier.create(decoder.decodeToMono(lines("{\"name\":\"  a   b  \"}"),
+                        ResolvableType.forClass(Item.class), MediaType.APPLICATION_JSON, Map.of()))
+                .assertNext(item -> assertEquals("a b", ((Item) item).name))
+                .verifyComplete();
+    }
+
+    @Test
+    void decodeMono_normalizesListElements() {
+        StepVerifier.create(decoder.decodeToMono(lines("[{\"name\":\"  a  \"},{\"name\":\" b \"}]"),
+                        ResolvableType.forClassWithGenerics(List.class, Item.class), MediaType.APPLICATION_JSON, Map.of()))
+                .assertNext(items -> assertEquals(List.of("a", "b"),
+                        ((List<?>) items).stream().map(item -> ((Item) item).name).toList()))
+                .verifyComplete();
+    }
+
+    @Test
+    void decode_leavesUnannotatedTypesAlone() {
+        StepVerifier.create(decoder.decode(lines("{\"name\":\"  a  \"}"),
+                        ResolvableType.forClass(Plain.class), MediaType.APPLICATION_NDJSON, Map.of()))
+                .assertNext(item -> assertEquals("  a  ", ((Plain) item).name))
+                .verifyComplete();
+    }
+
+    private static Flux<DataBuffer> lines(String... json) {
+        return Flux.fromArray(json).map(line -> buffer(line + "\n"));
+    }
+
+    private static DataBuffer buffer(String text) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @NormalizeInput(collapseSpaces = true)
+    static class Item {
+        public String name;
+    }
+
+    static class Plain {
+        public String name;
+    }
+}